@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.core.path.BeanAccessor;
+import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.path.LambdaBeanAccessor;
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.path.PathResolver;
+import de.hipphampel.validation.core.path.ReflectionBeanAccessor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link ReflectionBeanAccessor} with the {@link LambdaBeanAccessor}.
+ * <p>
+ * {@link #getProperty(Blackhole)} measures the plain property access, {@link #resolvePattern(Blackhole)} the access via a
+ * {@link BeanPathResolver}, as done by the rules when evaluating paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanAccessorBenchmark {
+
+  /**
+   * A point.
+   *
+   * @param x The x coordinate
+   * @param y The y coordinate
+   */
+  public record Point(Double x, Double y) {
+
+  }
+
+  /**
+   * A polygon.
+   *
+   * @param name   The name
+   * @param points The points
+   */
+  public record Polygon(String name, List<Point> points) {
+
+  }
+
+  @Param({"reflection", "lambda"})
+  public String accessorType;
+
+  private BeanAccessor accessor;
+  private PathResolver pathResolver;
+  private Path pattern;
+  private Polygon polygon;
+
+  @Setup
+  public void setup() {
+    accessor = "lambda".equals(accessorType) ? new LambdaBeanAccessor() : new ReflectionBeanAccessor();
+    pathResolver = new BeanPathResolver(accessor);
+    pattern = pathResolver.parse("points/*/x");
+    polygon = new Polygon("polygon", IntStream.range(0, 10).mapToObj(i -> new Point((double) i, (double) -i)).toList());
+  }
+
+  @Benchmark
+  public void getProperty(Blackhole blackhole) {
+    blackhole.consume(accessor.getProperty(polygon, "name"));
+    for (Point point : polygon.points()) {
+      blackhole.consume(accessor.getProperty(point, "x"));
+      blackhole.consume(accessor.getProperty(point, "y"));
+    }
+  }
+
+  @Benchmark
+  public void resolvePattern(Blackhole blackhole) {
+    pathResolver.resolvePattern(polygon, pattern).forEach(path -> blackhole.consume(pathResolver.resolve(polygon, path)));
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.benchmarks.BeanAccessorBenchmark.Point;
+import de.hipphampel.validation.benchmarks.BeanAccessorBenchmark.Polygon;
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.provider.AnnotationRuleRepository;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleRepository;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import de.hipphampel.validation.core.value.Values;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Datasets and rules used by the benchmarks.
+ * <p>
+ * There are two datasets, derived from the samples: the polygons of the triangle sample, validated by the {@link TriangleRules}, and the
+ * products of the product data sample, which form a hierarchy of products and their relations to sub products, validated by the rules
+ * returned by {@link #productRules()}. All data is generated with a fixed seed, so each benchmark run uses the same data.
+ */
+public final class Datasets {
+
+  /**
+   * The rule selector selecting all triangle rules.
+   */
+  public static final String TRIANGLE_RULES = "polygon:allRules";
+
+  /**
+   * The rule selector selecting all product rules.
+   */
+  public static final String PRODUCT_RULES = "product:allRules";
+
+  private static final List<String> UNITS = List.of("PCE", "KG", "L", "M");
+
+  private Datasets() {
+  }
+
+  /**
+   * A product.
+   *
+   * @param attributes The attributes of the product
+   * @param relations  The relations to the sub products
+   */
+  public record Product(Map<String, Object> attributes, List<Relation> relations) {
+
+  }
+
+  /**
+   * A relation to a sub product.
+   *
+   * @param attributes The attributes of the relation
+   * @param product    The sub product
+   */
+  public record Relation(Map<String, Object> attributes, Product product) {
+
+  }
+
+  /**
+   * Creates {@code count} polygons, most of them valid triangles, some of them with a wrong number of points, duplicate points, points on
+   * one line, or {@code null} points.
+   *
+   * @param count The number of polygons
+   * @return The polygons
+   */
+  public static List<Polygon> polygons(int count) {
+    Random random = new Random(4711);
+    List<Polygon> polygons = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      List<Point> points = new ArrayList<>();
+      int kind = random.nextInt(10);
+      int size = kind == 0 ? 4 : 3;
+      for (int j = 0; j < size; j++) {
+        points.add(kind == 1 && j > 0 ? points.get(0)
+            : kind == 2 ? new Point((double) j, (double) j)
+                : kind == 3 && j == 2 ? null
+                    : new Point((double) random.nextInt(100), (double) random.nextInt(100)));
+      }
+      polygons.add(new Polygon("polygon" + i, points));
+    }
+    return polygons;
+  }
+
+  /**
+   * Creates the {@link RuleRepository} for the polygons.
+   *
+   * @return The {@code RuleRepository}
+   */
+  public static RuleRepository triangleRules() {
+    return AnnotationRuleRepository.ofClass(TriangleRules.class);
+  }
+
+  /**
+   * Creates a product hierarchy.
+   * <p>
+   * Each product has {@code width} relations to sub products, down to the given {@code depth}, so the hierarchy contains
+   * {@code (width^(depth+1)-1)/(width-1)} products. Some attributes are intentionally invalid.
+   *
+   * @param depth The depth of the hierarchy, 0 for a single product
+   * @param width The number of sub products per product
+   * @return The root product
+   */
+  public static Product product(int depth, int width) {
+    return product(new Random(4711), depth, width, new int[1]);
+  }
+
+  private static Product product(Random random, int depth, int width, int[] counter) {
+    int id = counter[0]++;
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("id", "P" + id);
+    attributes.put("name", random.nextInt(20) == 0 ? null : "Product " + id);
+    attributes.put("gtin", gtin(random, id));
+    attributes.put("unit", UNITS.get(random.nextInt(UNITS.size())));
+    attributes.put("weight", random.nextInt(1000) / 10.0);
+    attributes.put("ingredients", IntStream.range(0, random.nextInt(5)).mapToObj(i -> "Ingredient " + i).toList());
+    List<Relation> relations = new ArrayList<>(depth > 0 ? width : 0);
+    for (int i = 0; depth > 0 && i < width; i++) {
+      relations.add(new Relation(Map.of("quantity", random.nextInt(10)), product(random, depth - 1, width, counter)));
+    }
+    return new Product(attributes, relations);
+  }
+
+  private static String gtin(Random random, int id) {
+    String digits = String.format("%012d", id * 7919L + random.nextInt(1000));
+    int sum = 0;
+    for (int i = 0; i < 12; i++) {
+      sum += (digits.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+    }
+    int checkDigit = (10 - sum % 10) % 10;
+    return digits + (random.nextInt(10) == 0 ? (checkDigit + 1) % 10 : checkDigit);
+  }
+
+  /**
+   * Creates the {@link Rule Rules} for the products.
+   * <p>
+   * Similar to the product data sample, the root rule dispatches to the attribute rules and recursively to the sub products.
+   *
+   * @return The {@code Rules}
+   */
+  public static List<Rule<?>> productRules() {
+    return List.of(
+        RuleBuilder.dispatchingRule(PRODUCT_RULES, Product.class)
+            .withPrecondition(Conditions.rule("object:notNull"))
+            .forPaths("attributes/id", "attributes/name", "attributes/unit").validateWith("attribute:notNull")
+            .forPaths("attributes/name").validateWith("attribute:maxLength")
+            .forPaths("attributes/gtin").validateWith("attribute:validGtin")
+            .forPaths("attributes/weight").validateWith("attribute:positive")
+            .forPaths("attributes/ingredients/*").validateWith("attribute:notNull", "attribute:maxLength")
+            .forPaths("relations/*/attributes/quantity").validateWith("attribute:positive")
+            .forPaths("relations/*/product").validateWith(PRODUCT_RULES)
+            .build(),
+        RuleBuilder.conditionRule("object:notNull", Object.class)
+            .validateWith(Conditions.isNotNull(Values.facts()))
+            .build(),
+        RuleBuilder.conditionRule("attribute:notNull", Object.class)
+            .validateWith(Conditions.isNotNull(Values.facts()))
+            .build(),
+        RuleBuilder.functionRule("attribute:maxLength", String.class)
+            .validateWith((context, facts) -> facts.length() <= 40 ? Result.ok() : Result.failed("Too long"))
+            .build(),
+        RuleBuilder.functionRule("attribute:positive", Number.class)
+            .validateWith((context, facts) -> facts.doubleValue() > 0 ? Result.ok() : Result.failed("Not positive"))
+            .build(),
+        RuleBuilder.functionRule("attribute:validGtin", String.class)
+            .validateWith((context, facts) -> isValidGtin(facts) ? Result.ok() : Result.failed("Invalid GTIN"))
+            .build());
+  }
+
+  /**
+   * Creates the {@link RuleRepository} for the products.
+   *
+   * @return The {@code RuleRepository}
+   */
+  public static RuleRepository productRuleRepository() {
+    return new InMemoryRuleRepository(productRules());
+  }
+
+  private static boolean isValidGtin(String gtin) {
+    if (gtin.length() != 13) {
+      return false;
+    }
+    int sum = 0;
+    for (int i = 0; i < 12; i++) {
+      sum += (gtin.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+    }
+    return (10 - sum % 10) % 10 == gtin.charAt(12) - '0';
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.benchmarks.Datasets.Product;
+import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.path.PathResolver;
+import de.hipphampel.validation.core.path.Resolved;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link BeanPathResolver#resolve(Object, Path) resolve} and {@link BeanPathResolver#resolvePattern(Object, Path)
+ * resolvePattern} on the product hierarchies of the {@link Datasets}, which are deep or wide depending on the parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphPathResolverBenchmark {
+
+  @Param({"2", "4"})
+  public int depth;
+
+  @Param({"2", "8"})
+  public int width;
+
+  private PathResolver pathResolver;
+  private Product product;
+  private Path deepPath;
+  private Path allGtinsPattern;
+  private Path childQuantitiesPattern;
+
+  @Setup
+  public void setup() {
+    pathResolver = new BeanPathResolver();
+    product = Datasets.product(depth, width);
+    deepPath = pathResolver.parse("relations/" + (width - 1) + "/product/" + "relations/0/product/".repeat(depth - 1) + "attributes/gtin");
+    allGtinsPattern = pathResolver.parse("**/gtin");
+    childQuantitiesPattern = pathResolver.parse("relations/*/attributes/quantity");
+  }
+
+  @Benchmark
+  public Resolved<Object> resolveDeepPath() {
+    return pathResolver.resolve(product, deepPath);
+  }
+
+  @Benchmark
+  public void resolveDeepPattern(Blackhole blackhole) {
+    pathResolver.resolvePattern(product, allGtinsPattern).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void resolveWidePattern(Blackhole blackhole) {
+    pathResolver.resolvePattern(product, childQuantitiesPattern).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void visitDeepPattern(Blackhole blackhole) {
+    pathResolver.visitPattern(product, allGtinsPattern, (path, value) -> {
+      blackhole.consume(value);
+      return true;
+    });
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.benchmarks.BeanAccessorBenchmark.Point;
+import de.hipphampel.validation.benchmarks.BeanAccessorBenchmark.Polygon;
+import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.path.CompiledPath;
+import de.hipphampel.validation.core.path.PathResolver;
+import de.hipphampel.validation.core.path.Resolved;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares resolving a concrete path by parsing it each time with resolving a {@link CompiledPath}, and collecting the matches of a pattern
+ * with visiting them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathResolverBenchmark {
+
+  private static final String PATH = "points/3/x";
+  private static final String PATTERN = "**/x";
+
+  private PathResolver pathResolver;
+  private CompiledPath compiledPath;
+  private CompiledPath compiledPattern;
+  private Polygon polygon;
+
+  @Setup
+  public void setup() {
+    pathResolver = new BeanPathResolver();
+    compiledPath = pathResolver.compile(PATH);
+    compiledPattern = pathResolver.compile(PATTERN);
+    polygon = new Polygon("polygon", IntStream.range(0, 10).mapToObj(i -> new Point((double) i, (double) -i)).toList());
+  }
+
+  @Benchmark
+  public Resolved<Object> parseAndResolve() {
+    return pathResolver.resolve(polygon, pathResolver.parse(PATH));
+  }
+
+  @Benchmark
+  public Resolved<Object> compileAndResolve() {
+    return pathResolver.compile(PATH).resolve(polygon);
+  }
+
+  @Benchmark
+  public Resolved<Object> resolveCompiled() {
+    return compiledPath.resolve(polygon);
+  }
+
+  @Benchmark
+  public void resolvePatternAndResolve(Blackhole blackhole) {
+    compiledPattern.resolvePattern(polygon).forEach(path -> blackhole.consume(pathResolver.resolve(polygon, path)));
+  }
+
+  @Benchmark
+  public void visitPattern(Blackhole blackhole) {
+    compiledPattern.visitPattern(polygon, (path, value) -> {
+      blackhole.consume(value);
+      return true;
+    });
+  }
+}
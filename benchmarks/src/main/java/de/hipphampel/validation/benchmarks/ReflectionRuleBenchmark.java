@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.rule.ReflectionRule;
+import de.hipphampel.validation.core.rule.ReflectionRule.ContextBinding;
+import de.hipphampel.validation.core.rule.ReflectionRule.FactsBinding;
+import de.hipphampel.validation.core.rule.Result;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of calling a {@link ReflectionRule}, as created for {@code @RuleDef} annotated methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionRuleBenchmark {
+
+  private ValidationContext context;
+  private ReflectionRule<Integer> staticRule;
+  private ReflectionRule<Integer> instanceRule;
+  private Integer facts;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+    Method staticMethod = ReflectionRuleBenchmark.class.getMethod("isLessThan", int.class, ValidationContext.class);
+    Method instanceMethod = ReflectionRuleBenchmark.class.getMethod("isPositive", Integer.class);
+    context = new ValidationContext();
+    staticRule = new ReflectionRule<>("static", Integer.class, Map.of(), List.of(), null, staticMethod,
+        List.of(new FactsBinding(), new ContextBinding()));
+    instanceRule = new ReflectionRule<>("instance", Integer.class, Map.of(), List.of(), this, instanceMethod,
+        List.of(new FactsBinding()));
+    facts = 42;
+  }
+
+  @Benchmark
+  public Result staticMethod() {
+    return staticRule.validate(context, facts);
+  }
+
+  @Benchmark
+  public Result instanceMethod() {
+    return instanceRule.validate(context, facts);
+  }
+
+  public static boolean isLessThan(int value, ValidationContext context) {
+    return context != null && value < 100;
+  }
+
+  public boolean isPositive(Integer value) {
+    return value > 0;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.benchmarks.Datasets.Product;
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.BooleanReporter;
+import de.hipphampel.validation.core.report.ReportReporter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link ReportReporter} with the {@link BooleanReporter}, also in fail-fast mode, when validating a product hierarchy of
+ * the {@link Datasets}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReporterBenchmark {
+
+  @Param({"report", "boolean", "booleanFailFast"})
+  public String reporterType;
+
+  private Validator validator;
+  private boolean booleanReport;
+  private Product product;
+
+  @Setup
+  public void setup() {
+    validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(Datasets.productRuleRepository())
+        .withFailFast("booleanFailFast".equals(reporterType))
+        .build();
+    booleanReport = !"report".equals(reporterType);
+    product = Datasets.product(3, 4);
+  }
+
+  @Benchmark
+  public Object validateProduct() {
+    return booleanReport
+        ? validator.validate(BooleanReporter::new, product, RuleSelector.of(Datasets.PRODUCT_RULES))
+        : validator.validate(ReportReporter::new, product, RuleSelector.of(Datasets.PRODUCT_RULES));
+  }
+}
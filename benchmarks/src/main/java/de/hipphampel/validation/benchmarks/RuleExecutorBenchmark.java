@@ -0,0 +1,102 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.benchmarks.BeanAccessorBenchmark.Polygon;
+import de.hipphampel.validation.benchmarks.Datasets.Product;
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.execution.AdaptiveRuleExecutor;
+import de.hipphampel.validation.core.execution.DefaultRuleExecutor;
+import de.hipphampel.validation.core.execution.RuleExecutor;
+import de.hipphampel.validation.core.execution.SimpleRuleExecutor;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.Report;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link SimpleRuleExecutor} with the {@link DefaultRuleExecutor}, with and without caching, and the
+ * {@link AdaptiveRuleExecutor} when validating the datasets of the {@link Datasets}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleExecutorBenchmark {
+
+  @Param({"simple", "default", "defaultNoCaching", "adaptive"})
+  public String executorType;
+
+  private Validator triangleValidator;
+  private Validator productValidator;
+  private List<Polygon> polygons;
+  private Product product;
+
+  @Setup
+  public void setup() {
+    RuleExecutor executor = switch (executorType) {
+      case "simple" -> new SimpleRuleExecutor();
+      case "default" -> new DefaultRuleExecutor(ForkJoinPool.commonPool(), true);
+      case "adaptive" -> new AdaptiveRuleExecutor(ForkJoinPool.commonPool());
+      default -> new DefaultRuleExecutor(ForkJoinPool.commonPool(), false);
+    };
+    triangleValidator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(Datasets.triangleRules())
+        .withRuleExecutor(executor)
+        .build();
+    productValidator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(Datasets.productRuleRepository())
+        .withRuleExecutor(executor)
+        .build();
+    polygons = Datasets.polygons(100);
+    product = Datasets.product(3, 4);
+  }
+
+  @Benchmark
+  public void validatePolygons(Blackhole blackhole) {
+    for (Polygon polygon : polygons) {
+      blackhole.consume(triangleValidator.validate(polygon, RuleSelector.of(Datasets.TRIANGLE_RULES)));
+    }
+  }
+
+  @Benchmark
+  public Report validateProduct() {
+    return productValidator.validate(product, RuleSelector.of(Datasets.PRODUCT_RULES));
+  }
+}
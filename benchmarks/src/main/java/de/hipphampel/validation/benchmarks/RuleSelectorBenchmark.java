@@ -0,0 +1,102 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.benchmarks.Datasets.Product;
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.provider.IndexedRuleRepository;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleRepository;
+import de.hipphampel.validation.core.provider.SimpleRuleSelector;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link SimpleRuleSelector} selecting rules from large repositories, with and without an {@link IndexedRuleRepository}.
+ * <p>
+ * The repository contains the product rules of the {@link Datasets} plus {@code size} generated rules for different types of objects,
+ * organized in 10 groups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleSelectorBenchmark {
+
+  private static final List<Class<?>> TYPES = List.of(Object.class, String.class, Number.class, Product.class);
+
+  @Param({"100", "1000", "10000"})
+  public int size;
+
+  @Param({"false", "true"})
+  public boolean indexed;
+
+  private RuleRepository repository;
+  private ValidationContext context;
+  private SimpleRuleSelector groupSelector;
+  private SimpleRuleSelector productSelector;
+  private Product product;
+
+  @Setup
+  public void setup() {
+    List<Rule<?>> rules = new ArrayList<>(Datasets.productRules());
+    for (int i = 0; i < size; i++) {
+      rules.add(RuleBuilder.conditionRule("group" + (i % 10) + ":rule" + i, TYPES.get(i % TYPES.size()))
+          .validateWith(Conditions.alwaysTrue())
+          .build());
+    }
+    RuleRepository inMemory = new InMemoryRuleRepository(rules);
+    repository = indexed ? new IndexedRuleRepository(inMemory) : inMemory;
+    context = new ValidationContext();
+    groupSelector = SimpleRuleSelector.of("group3:.*");
+    productSelector = SimpleRuleSelector.of(Datasets.PRODUCT_RULES, "attribute:.*");
+    product = Datasets.product(0, 0);
+  }
+
+  @Benchmark
+  public List<? extends Rule<?>> selectGroup() {
+    return groupSelector.selectRules(repository, context, product);
+  }
+
+  @Benchmark
+  public List<? extends Rule<?>> selectProductRules() {
+    return productSelector.selectRules(repository, context, product);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.benchmarks;
+
+import de.hipphampel.validation.core.execution.SimpleRuleExecutor;
+import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.rule.OkRule;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per rule overhead of the {@link ValidationContext}, i.e. entering and leaving a rule at a given nesting depth, copying the
+ * context, and executing a trivial rule via the {@link SimpleRuleExecutor}.
+ * <p>
+ * Run it with {@code -prof gc} to get the number of bytes allocated per rule ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationContextBenchmark {
+
+  @Param({"1", "8", "32"})
+  private int depth;
+
+  private ValidationContext context;
+  private SimpleRuleExecutor executor;
+  private Rule<Object> rule;
+  private Object facts;
+
+  @Setup
+  public void setup() {
+    context = new ValidationContext();
+    executor = new SimpleRuleExecutor();
+    rule = new OkRule<>("rule");
+    facts = new Object();
+    for (int i = 0; i < depth; i++) {
+      context.enterRule(new OkRule<>("parent" + i), new Object());
+    }
+  }
+
+  @Benchmark
+  public boolean enterAndLeaveRule() {
+    boolean entered = context.enterRule(rule, facts);
+    context.leaveRule();
+    return entered;
+  }
+
+  @Benchmark
+  public ValidationContext copy() {
+    return context.copy();
+  }
+
+  @Benchmark
+  public Result executeRule() {
+    return executor.validate(context, rule, facts);
+  }
+}
@@ -0,0 +1,275 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core;
+
+import de.hipphampel.validation.core.exception.ValidationRejectedException;
+import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.Reporter;
+import de.hipphampel.validation.core.report.ReporterFactory;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link Validator} limiting the number of asynchronous validations running at the same time.
+ * <p>
+ * This is a decorator for another {@code Validator}, which protects it against traffic spikes: a call of
+ * {@link #validateAsync(ReporterFactory, Object, RuleSelector, Map) validateAsync} is passed to the decorated instance only if less than
+ * the current limit of validations are in flight. Otherwise, it waits in a queue of at most {@code maxQueueSize} entries; if the queue is
+ * full as well, the validation is rejected immediately by returning a future failed with a {@link ValidationRejectedException}.
+ * <p>
+ * The limit is adapted according to the AIMD (additive increase, multiplicative decrease) scheme, based on the observed latency of the
+ * validations, which is the same as reported by the {@code ValidationFinishedPayload}: if a validation took longer than the
+ * {@code latencyThreshold}, the limit is multiplied with the {@code backoffRatio}; otherwise it grows by one per {@code limit} completed
+ * validations, provided that the limit is actually used. The limit always stays between {@code minLimit} and {@code maxLimit}. If no
+ * {@code latencyThreshold} is given, the limit is fixed.
+ * <p>
+ * The synchronous {@code validate} methods and the {@linkplain #batchValidator() batch validations} are not subject to the admission
+ * control; the latter limit their parallelism on their own.
+ */
+public class AdmissionControlledValidator implements Validator {
+
+  /**
+   * Default factor the limit is multiplied with, if a validation exceeds the {@code latencyThreshold}.
+   */
+  public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+  private static final ThreadLocal<Boolean> DRAINING = new ThreadLocal<>();
+
+  private final Validator delegate;
+  private final int minLimit;
+  private final int maxLimit;
+  private final int maxQueueSize;
+  private final long latencyThresholdNanos;
+  private final double backoffRatio;
+  private final Deque<Runnable> queue = new ArrayDeque<>();
+  private double limit;
+  private int inFlight;
+  private long rejected;
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an instance with a fixed limit.
+   *
+   * @param delegate     The {@link Validator} to decorate
+   * @param maxInFlight  The maximum number of validations running at the same time
+   * @param maxQueueSize The maximum number of validations waiting for execution
+   */
+  public AdmissionControlledValidator(Validator delegate, int maxInFlight, int maxQueueSize) {
+    this(delegate, maxInFlight, maxInFlight, maxQueueSize, null, DEFAULT_BACKOFF_RATIO);
+  }
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an instance with an adaptive limit, which starts with {@code maxLimit}.
+   *
+   * @param delegate         The {@link Validator} to decorate
+   * @param minLimit         The minimum number of validations running at the same time
+   * @param maxLimit         The maximum number of validations running at the same time
+   * @param maxQueueSize     The maximum number of validations waiting for execution
+   * @param latencyThreshold The latency above which the limit is decreased, {@code null} for a fixed limit
+   * @param backoffRatio     The factor the limit is multiplied with, if a validation exceeds the {@code latencyThreshold}
+   */
+  public AdmissionControlledValidator(Validator delegate, int minLimit, int maxLimit, int maxQueueSize, Duration latencyThreshold,
+      double backoffRatio) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("Invalid limits " + minLimit + " and " + maxLimit);
+    }
+    if (maxQueueSize < 0) {
+      throw new IllegalArgumentException("maxQueueSize must not be negative");
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+    }
+    this.delegate = Objects.requireNonNull(delegate);
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.maxQueueSize = maxQueueSize;
+    this.latencyThresholdNanos = latencyThreshold == null ? Long.MAX_VALUE : latencyThreshold.toNanos();
+    this.backoffRatio = backoffRatio;
+    this.limit = maxLimit;
+  }
+
+  @Override
+  public <T> ValidationContext createValidationContext(Reporter<T> reporter, Map<String, Object> parameters) {
+    return delegate.createValidationContext(reporter, parameters);
+  }
+
+  @Override
+  public Validator batchValidator() {
+    return delegate.batchValidator();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The validation is started immediately, if the current limit is not reached, otherwise it is queued. If the queue is full, the
+   * returned future fails with a {@link ValidationRejectedException}. Cancelling the returned future removes a queued validation or
+   * cancels the running one.
+   *
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param facts           The object being validated
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute
+   * @param parameters      Additional parameters being set in the {@code ValidationContext}
+   * @param <T>             Type of the report to generate
+   * @return The validation result
+   */
+  @Override
+  public <T> CompletableFuture<T> validateAsync(ReporterFactory<T> reporterFactory, Object facts, RuleSelector ruleSelector,
+      Map<String, Object> parameters) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Runnable task = () -> start(result, () -> delegate.validateAsync(reporterFactory, facts, ruleSelector, parameters));
+    synchronized (this) {
+      if (inFlight >= (int) limit) {
+        if (queue.size() >= maxQueueSize) {
+          rejected++;
+          return CompletableFuture.failedFuture(
+              new ValidationRejectedException("Validation rejected, " + inFlight + " in flight and " + queue.size() + " queued"));
+        }
+        queue.add(task);
+        result.whenComplete((r, ex) -> {
+          if (result.isCancelled()) {
+            dequeue(task);
+          }
+        });
+        return result;
+      }
+      inFlight++;
+    }
+    task.run();
+    return result;
+  }
+
+  private <T> void start(CompletableFuture<T> result, Supplier<CompletableFuture<T>> validation) {
+    if (result.isDone()) {
+      finished(-1);
+      drainQueue();
+      return;
+    }
+    long start = System.nanoTime();
+    CompletableFuture<T> future;
+    try {
+      future = validation.get();
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<T> running = future;
+    result.whenComplete((r, ex) -> {
+      if (result.isCancelled()) {
+        running.cancel(true);
+      }
+    });
+    running.whenComplete((r, ex) -> {
+      finished(System.nanoTime() - start);
+      if (ex != null) {
+        result.completeExceptionally(ex);
+      } else {
+        result.complete(r);
+      }
+      drainQueue();
+    });
+  }
+
+  private synchronized void dequeue(Runnable task) {
+    queue.remove(task);
+  }
+
+  private synchronized void finished(long nanos) {
+    if (nanos > latencyThresholdNanos) {
+      limit = Math.max(minLimit, limit * backoffRatio);
+    } else if (nanos >= 0 && inFlight * 2 >= limit) {
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+    inFlight--;
+  }
+
+  private synchronized Runnable pollQueue() {
+    if (inFlight >= (int) limit) {
+      return null;
+    }
+    Runnable next = queue.poll();
+    if (next != null) {
+      inFlight++;
+    }
+    return next;
+  }
+
+  private void drainQueue() {
+    // Validations completing synchronously would start the next one recursively, so the queue is drained in a loop by the outermost call
+    if (DRAINING.get() != null) {
+      return;
+    }
+    DRAINING.set(Boolean.TRUE);
+    try {
+      Runnable next;
+      while ((next = pollQueue()) != null) {
+        next.run();
+      }
+    } finally {
+      DRAINING.remove();
+    }
+  }
+
+  /**
+   * Gets the current limit of validations running at the same time.
+   *
+   * @return The limit
+   */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Gets the number of validations currently running.
+   *
+   * @return The number of running validations
+   */
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  /**
+   * Gets the number of validations currently waiting for execution.
+   *
+   * @return The queue depth
+   */
+  public synchronized int getQueueSize() {
+    return queue.size();
+  }
+
+  /**
+   * Gets the number of validations rejected so far.
+   *
+   * @return The number of rejections
+   */
+  public synchronized long getRejectedCount() {
+    return rejected;
+  }
+}
@@ -26,8 +26,10 @@ import de.hipphampel.validation.core.event.EventPublisher;
 import de.hipphampel.validation.core.execution.RuleExecutor;
 import de.hipphampel.validation.core.execution.ValidationContext;
 import de.hipphampel.validation.core.path.PathResolver;
+import de.hipphampel.validation.core.provider.IndexedRuleRepository;
 import de.hipphampel.validation.core.provider.RuleRepository;
 import de.hipphampel.validation.core.report.Reporter;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -43,6 +45,9 @@ public class DefaultValidator implements Validator {
   private final Supplier<EventPublisher> eventPublisherSupplier;
   private final Supplier<PathResolver> pathResolverSupplier;
   private final Map<Class<?>, ?> sharedObjects;
+  private final boolean failFast;
+  private final Duration timeout;
+  private volatile DefaultValidator batchValidator;
 
   /**
    * Constructor.
@@ -56,6 +61,44 @@ public class DefaultValidator implements Validator {
   public DefaultValidator(RuleRepository ruleRepository,
       RuleExecutor ruleExecutor,
       Supplier<EventPublisher> eventPublisherSupplier, Supplier<PathResolver> pathResolverSupplier, Map<Class<?>, ?> sharedObjects) {
+    this(ruleRepository, ruleExecutor, eventPublisherSupplier, pathResolverSupplier, sharedObjects, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param ruleRepository         The {@link RuleRepository} to use.
+   * @param ruleExecutor           The {@link RuleExecutor} to use.
+   * @param eventPublisherSupplier The {@link Supplier} to create a {@link EventPublisher}.
+   * @param pathResolverSupplier   The {@link Supplier} to create a {@link PathResolver}.
+   * @param sharedObjects          Additional shared objects made available in the {@link ValidationContext}
+   * @param failFast               If {@code true}, validations run in {@linkplain ValidationContext#isFailFast() fail-fast mode}
+   */
+  public DefaultValidator(RuleRepository ruleRepository,
+      RuleExecutor ruleExecutor,
+      Supplier<EventPublisher> eventPublisherSupplier, Supplier<PathResolver> pathResolverSupplier, Map<Class<?>, ?> sharedObjects,
+      boolean failFast) {
+    this(ruleRepository, ruleExecutor, eventPublisherSupplier, pathResolverSupplier, sharedObjects, failFast, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param ruleRepository         The {@link RuleRepository} to use.
+   * @param ruleExecutor           The {@link RuleExecutor} to use.
+   * @param eventPublisherSupplier The {@link Supplier} to create a {@link EventPublisher}.
+   * @param pathResolverSupplier   The {@link Supplier} to create a {@link PathResolver}.
+   * @param sharedObjects          Additional shared objects made available in the {@link ValidationContext}
+   * @param failFast               If {@code true}, validations run in {@linkplain ValidationContext#isFailFast() fail-fast mode}
+   * @param timeout                The maximum time a validation may take, {@code null} for no limit, see
+   *                               {@link ValidationContext#restrictDeadline(Duration)}
+   */
+  public DefaultValidator(RuleRepository ruleRepository,
+      RuleExecutor ruleExecutor,
+      Supplier<EventPublisher> eventPublisherSupplier, Supplier<PathResolver> pathResolverSupplier, Map<Class<?>, ?> sharedObjects,
+      boolean failFast, Duration timeout) {
+    this.failFast = failFast;
+    this.timeout = timeout;
     this.ruleRepository = Objects.requireNonNull(ruleRepository);
     this.ruleExecutor = Objects.requireNonNull(ruleExecutor);
     this.eventPublisherSupplier = Objects.requireNonNull(eventPublisherSupplier);
@@ -63,6 +106,37 @@ public class DefaultValidator implements Validator {
     this.sharedObjects = sharedObjects == null ? Map.of() : new HashMap<>(sharedObjects);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation returns a {@code DefaultValidator} with the same settings, but using an {@link IndexedRuleRepository}, so that the
+   * rules are selected only once per rule selector and type of the validated objects. The instance is created on the first call and
+   * reused for all further batches, but the index is invalidated on each call, since not all {@link RuleRepository RuleRepositories}
+   * publish their changes. So a batch always uses the rules present when it starts, plus the changes published while it runs.
+   *
+   * @return The {@code Validator}
+   */
+  @Override
+  public Validator batchValidator() {
+    if (ruleRepository instanceof IndexedRuleRepository) {
+      return this;
+    }
+    // Created once, since the IndexedRuleRepository subscribes to the repository
+    DefaultValidator validator = batchValidator;
+    if (validator == null) {
+      synchronized (this) {
+        validator = batchValidator;
+        if (validator == null) {
+          validator = new DefaultValidator(new IndexedRuleRepository(ruleRepository), ruleExecutor, eventPublisherSupplier,
+              pathResolverSupplier, sharedObjects, failFast, timeout);
+          batchValidator = validator;
+        }
+      }
+    }
+    ((IndexedRuleRepository) validator.ruleRepository).invalidate();
+    return validator;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public <T> ValidationContext createValidationContext(Reporter<T> reporter,
@@ -73,8 +147,12 @@ public class DefaultValidator implements Validator {
         ruleExecutor,
         ruleRepository,
         pathResolverSupplier.get(),
-        eventPublisherSupplier.get()
+        eventPublisherSupplier.get(),
+        failFast
     );
+    if (timeout != null) {
+      context.restrictDeadline(timeout);
+    }
     sharedObjects.forEach(
         (key, value) -> context.getOrCreateSharedExtension((Class<Object>) key, ignore -> value)
     );
@@ -22,19 +22,49 @@
  */
 package de.hipphampel.validation.core;
 
+import de.hipphampel.validation.core.condition.AndCondition;
+import de.hipphampel.validation.core.condition.Condition;
+import de.hipphampel.validation.core.condition.NotCondition;
+import de.hipphampel.validation.core.condition.OrCondition;
+import de.hipphampel.validation.core.condition.RuleCondition;
+import de.hipphampel.validation.core.condition.XorCondition;
 import de.hipphampel.validation.core.event.EventPublisher;
 import de.hipphampel.validation.core.event.payloads.ValidationFinishedPayload;
 import de.hipphampel.validation.core.event.payloads.ValidationStartedPayload;
+import de.hipphampel.validation.core.exception.ValidationException;
 import de.hipphampel.validation.core.execution.RuleExecutor;
 import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.path.PathResolver;
+import de.hipphampel.validation.core.path.Resolved;
 import de.hipphampel.validation.core.provider.RuleSelector;
 import de.hipphampel.validation.core.report.Report;
+import de.hipphampel.validation.core.report.ReportEntry;
 import de.hipphampel.validation.core.report.ReportReporter;
 import de.hipphampel.validation.core.report.Reporter;
 import de.hipphampel.validation.core.report.ReporterFactory;
+import de.hipphampel.validation.core.rule.ForwardingRule;
+import de.hipphampel.validation.core.rule.ReflectionRule;
+import de.hipphampel.validation.core.rule.ReflectionRule.ContextBinding;
+import de.hipphampel.validation.core.rule.ReflectionRule.ParentFactsBinding;
+import de.hipphampel.validation.core.rule.ReflectionRule.RootFactsBinding;
 import de.hipphampel.validation.core.rule.Rule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Validates objects and generates a validation report.
@@ -110,15 +140,121 @@ public interface Validator {
    */
   default <T> T validate(ReporterFactory<T> reporterFactory, Object facts,
       RuleSelector ruleSelector, Map<String, Object> parameters) {
+    return validate(reporterFactory, facts, ruleSelector, parameters, context -> {
+    });
+  }
+
+  /**
+   * Revalidates {@code facts} after some parts of it have been changed and produces a {@link Report}.
+   * <p>
+   * This is like {@link #validate(Object, RuleSelector) validate}, but it reuses the results of the {@code previousReport} for all
+   * entries whose {@link Path} does not {@linkplain Path#overlaps(Path) overlap} with one of the {@code changedPaths}. So only the rules
+   * for the changed objects, their ancestors, and their descendants are executed again; the results of all other rules are taken from the
+   * {@code previousReport}. The returned {@code Report} is the same as a full validation would return.
+   *
+   * @param previousReport The {@code Report} of the previous validation of the {@code facts}
+   * @param facts          The object being validated
+   * @param ruleSelector   The {@link RuleSelector} selecting the rules to execute, must be the same as for the previous validation
+   * @param changedPaths   The {@code Paths} that have been changed since the previous validation, might be patterns
+   * @return The validation result (a {@code Report}).
+   * @see #revalidate(ReporterFactory, Report, Object, RuleSelector, Collection, Map)
+   */
+  default Report revalidate(Report previousReport, Object facts, RuleSelector ruleSelector, Collection<? extends Path> changedPaths) {
+    return revalidate(ReportReporter::new, previousReport, facts, ruleSelector, changedPaths, Map.of());
+  }
+
+  /**
+   * Revalidates {@code facts} after some parts of it have been changed and fills a report created by the {@code reporterFactory}.
+   * <p>
+   * The results of the {@code previousReport} for all entries whose {@link Path} does not {@linkplain Path#overlaps(Path) overlap} with
+   * one of the {@code changedPaths} are put into the {@link RuleExecutor#getResultCache(ValidationContext) RuleResultCache} of the
+   * validation, so that the {@link RuleExecutor} reuses them instead of executing the rules again. {@link ForwardingRule ForwardingRules}
+   * and rules having a {@link RuleCondition} as (part of) a precondition are always executed again, so that the entries of the rules
+   * they forward to or check in their preconditions are reported.
+   * <p>
+   * The overlap check covers the objects a rule reads via its facts: the paths of {@link ReflectionRule.PathBinding PathBindings},
+   * {@link de.hipphampel.validation.core.rule.DispatchingRule.DispatchEntry DispatchEntries} and
+   * {@link de.hipphampel.validation.core.value.PathValue PathValues} without reference object are resolved relative to the facts, so they
+   * only reach objects below the path of the rule. A {@link ReflectionRule} binding the parent facts, the root facts or the
+   * {@link ValidationContext} might read objects outside its path, so it is always executed again. The following restrictions apply:
+   * <ul>
+   *   <li>The {@code RuleExecutor} must use a {@code RuleResultCache}, like the {@code DefaultRuleExecutor} with caching enabled does.
+   *   Otherwise, this is a full validation. If the cache is bounded, evicted results are computed again.</li>
+   *   <li>The {@code previousReport} should contain the entries of all rules, so it should be created by a {@link ReportReporter} without
+   *   a filter. Rules without entry are executed again.</li>
+   *   <li>The dependencies of other rules are not known, so the overlap check is only a heuristic for them: if a rule reads objects
+   *   outside the object it validates by other means (e.g. via {@link ValidationContext#getRootFacts()} or a {@code PathValue} with a
+   *   reference object), its previous result is reused even if such an object changed. In this case, the paths of the dependent rules
+   *   must be part of the {@code changedPaths} as well.</li>
+   *   <li>The {@code parameters} should be the same as for the previous validation, since rules depending on them are not tracked
+   *   either.</li>
+   * </ul>
+   *
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param previousReport  The {@code Report} of the previous validation of the {@code facts}
+   * @param facts           The object being validated
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute, must be the same as for the previous validation
+   * @param changedPaths    The {@code Paths} that have been changed since the previous validation, might be patterns
+   * @param parameters      Additional parameters being set in the {@code ValidationContext}
+   * @param <T>             Type of the report to generate
+   * @return The validation result
+   */
+  default <T> T revalidate(ReporterFactory<T> reporterFactory, Report previousReport, Object facts, RuleSelector ruleSelector,
+      Collection<? extends Path> changedPaths, Map<String, Object> parameters) {
+    return validate(reporterFactory, facts, ruleSelector, parameters, context -> context.getRuleExecutor().getResultCache(context)
+        .ifPresent(cache -> {
+          PathResolver pathResolver = context.getPathResolver();
+          for (ReportEntry entry : previousReport.entries()) {
+            Path path = entry.path();
+            if (dependsOnlyOnFacts(entry.rule()) && changedPaths.stream().noneMatch(path::overlaps)) {
+              Resolved<Object> resolved = pathResolver.resolve(facts, path);
+              if (resolved.isPresent()) {
+                cache.put(entry.rule(), resolved.get(), path, entry.result());
+              }
+            }
+          }
+        }));
+  }
+
+  private static boolean dependsOnlyOnFacts(Rule<?> rule) {
+    if (rule instanceof ForwardingRule<?> || rule.getPreconditions().stream().anyMatch(Validator::evaluatesRules)) {
+      return false;
+    } else if (rule instanceof ReflectionRule<?> reflectionRule) {
+      return reflectionRule.getBindings().stream().noneMatch(binding -> binding instanceof ParentFactsBinding
+          || binding instanceof RootFactsBinding
+          || binding instanceof ContextBinding);
+    }
+    return true;
+  }
+
+  private static boolean evaluatesRules(Condition condition) {
+    if (condition instanceof RuleCondition) {
+      return true;
+    } else if (condition instanceof AndCondition andCondition) {
+      return andCondition.conditions().getStream().anyMatch(Validator::evaluatesRules);
+    } else if (condition instanceof OrCondition orCondition) {
+      return orCondition.conditions().getStream().anyMatch(Validator::evaluatesRules);
+    } else if (condition instanceof NotCondition notCondition) {
+      return notCondition.conditions().getStream().anyMatch(Validator::evaluatesRules);
+    } else if (condition instanceof XorCondition xorCondition) {
+      return xorCondition.conditions().getStream().anyMatch(Validator::evaluatesRules);
+    }
+    return false;
+  }
+
+  private <T> T validate(ReporterFactory<T> reporterFactory, Object facts, RuleSelector ruleSelector, Map<String, Object> parameters,
+      Consumer<ValidationContext> preparation) {
     long start = System.nanoTime();
     Reporter<T> reporter = reporterFactory.createReporter(facts);
     ValidationContext context = createValidationContext(reporter, parameters);
+    preparation.accept(context);
     EventPublisher publisher = context.getEventPublisher();
     if (publisher != null) {
       publisher.publish(this, new ValidationStartedPayload(facts));
     }
     context.getRuleExecutor().validate(context, ruleSelector, facts);
     T report = reporter.getReport();
+    context.getRuleExecutor().validationFinished(context);
     if (publisher != null) {
       publisher.publish(this, new ValidationFinishedPayload<>(facts, report, null, System.nanoTime() - start));
     }
@@ -179,6 +315,9 @@ public interface Validator {
    * <p>
    * Typically, an implementation creates a {@link ValidationContext} which is passed to a {@link RuleExecutor} to execute the rules. The
    * final result is built using a {@link Reporter}.
+   * <p>
+   * Cancelling the returned future {@linkplain ValidationContext#abort() aborts} the validation, so that {@link Rule Rules} not started
+   * yet are no longer executed.
    *
    * @param reporterFactory The {@link ReporterFactory} to use
    * @param facts           The object being validated
@@ -198,13 +337,197 @@ public interface Validator {
     if (publisher != null) {
       publisher.publish(this, new ValidationStartedPayload(facts));
     }
-    return context.getRuleExecutor().validateAsync(context, ruleSelector, facts)
+    CompletableFuture<T> future = context.getRuleExecutor().validateAsync(context, ruleSelector, facts)
         .thenApply(ignore -> reporter.getReport())
         .whenComplete((result, ex) -> {
+          context.getRuleExecutor().validationFinished(context);
           if (publisher != null) {
             publisher.publish(this, new ValidationFinishedPayload<T>(facts, result, ex, System.nanoTime() - start));
           }
         });
+    future.whenComplete((result, ex) -> {
+      if (future.isCancelled()) {
+        context.abort();
+        context.getRuleExecutor().validationCancelled(context);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Validates all of the given {@code facts} using the rules provided by the {@code ruleSelector} and produces a {@link Report} for each.
+   * <p>
+   * This is like calling {@link #validate(Object, RuleSelector) validate} for each of the {@code facts}, but the objects are validated in
+   * parallel and the rule selection is shared, see
+   * {@link #validateAll(ReporterFactory, Iterable, RuleSelector, Map, int, BiConsumer) validateAll} for details. The parallelism is the
+   * one of the common {@link ForkJoinPool}.
+   *
+   * @param facts        The objects being validated
+   * @param ruleSelector The {@link RuleSelector} selecting the rules to execute
+   * @return The {@code Reports}, in the same order as the {@code facts}
+   */
+  default List<Report> validateAll(Collection<?> facts, RuleSelector ruleSelector) {
+    return validateAll(ReportReporter::new, facts, ruleSelector, Map.of(), ForkJoinPool.getCommonPoolParallelism());
+  }
+
+  /**
+   * Validates all of the given {@code facts} using the rules provided by the {@code ruleSelector} and fills a report created by the
+   * {@code reporterFactory} for each.
+   * <p>
+   * See {@link #validateAll(ReporterFactory, Iterable, RuleSelector, Map, int, BiConsumer) validateAll} for details.
+   *
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param facts           The objects being validated
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute
+   * @param parameters      Additional parameters being set in the {@code ValidationContext}
+   * @param parallelism     The maximum number of objects being validated at the same time
+   * @param <T>             Type of the report to generate
+   * @return The validation results, in the same order as the {@code facts}
+   */
+  @SuppressWarnings("unchecked")
+  default <T> List<T> validateAll(ReporterFactory<T> reporterFactory, Collection<?> facts, RuleSelector ruleSelector,
+      Map<String, Object> parameters, int parallelism) {
+    List<?> items = new ArrayList<>(facts);
+    Object[] reports = new Object[items.size()];
+    Validator batchValidator = batchValidator();
+    validateAll(
+        IntStream.range(0, items.size()).boxed().iterator(),
+        parallelism,
+        index -> batchValidator.validateAsync(reporterFactory, items.get(index), ruleSelector, parameters),
+        (index, report) -> reports[index] = report);
+    return Arrays.asList((T[]) reports);
+  }
+
+  /**
+   * Validates all of the given {@code facts} using the rules provided by the {@code ruleSelector} and passes the reports to the
+   * {@code sink}.
+   * <p>
+   * This is intended for validating a large number of objects, e.g. in an import job. Compared to calling
+   * {@link #validateAsync(ReporterFactory, Object, RuleSelector, Map) validateAsync} for each object, the following applies:
+   * <ul>
+   *   <li>The objects are validated using the {@linkplain #batchValidator() batchValidator}, which typically shares the rule selection
+   *   between the objects. So the rules must not change during the batch.</li>
+   *   <li>At most {@code parallelism} objects are validated at the same time. The {@code facts} are consumed lazily, so they may be
+   *   an {@code Iterable} that is not held in memory completely.</li>
+   *   <li>The {@code sink} is called with each object and its report as soon as the report is available, so not necessarily in the order
+   *   of the {@code facts}. It is never called concurrently.</li>
+   * </ul>
+   * If the validation of an object or the iteration of the {@code facts} fails, no further objects are validated and the exception is
+   * thrown once the running validations are finished.
+   *
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param facts           The objects being validated
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute
+   * @param parameters      Additional parameters being set in the {@code ValidationContext}
+   * @param parallelism     The maximum number of objects being validated at the same time
+   * @param sink            Consumer for the validated objects and their reports
+   * @param <T>             Type of the report to generate
+   */
+  default <T> void validateAll(ReporterFactory<T> reporterFactory, Iterable<?> facts, RuleSelector ruleSelector,
+      Map<String, Object> parameters, int parallelism, BiConsumer<Object, ? super T> sink) {
+    Validator batchValidator = batchValidator();
+    validateAll(
+        facts.iterator(),
+        parallelism,
+        item -> batchValidator.validateAsync(reporterFactory, item, ruleSelector, parameters),
+        sink);
+  }
+
+  /**
+   * Validates all of the given {@code facts} using the rules provided by the {@code ruleSelector} and passes the reports to the
+   * {@code sink}.
+   * <p>
+   * This is the same as {@link #validateAll(ReporterFactory, Iterable, RuleSelector, Map, int, BiConsumer) validateAll} with an
+   * {@code Iterable}; the {@code facts} stream is consumed lazily.
+   *
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param facts           The objects being validated
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute
+   * @param parameters      Additional parameters being set in the {@code ValidationContext}
+   * @param parallelism     The maximum number of objects being validated at the same time
+   * @param sink            Consumer for the validated objects and their reports
+   * @param <T>             Type of the report to generate
+   */
+  default <T> void validateAll(ReporterFactory<T> reporterFactory, Stream<?> facts, RuleSelector ruleSelector,
+      Map<String, Object> parameters, int parallelism, BiConsumer<Object, ? super T> sink) {
+    Validator batchValidator = batchValidator();
+    validateAll(
+        facts.iterator(),
+        parallelism,
+        item -> batchValidator.validateAsync(reporterFactory, item, ruleSelector, parameters),
+        sink);
+  }
+
+  /**
+   * Gets the {@link Validator} to use for validating a batch of objects.
+   * <p>
+   * The returned instance is used by the {@code validateAll} methods. It may cache information, such as the rule selection, under the
+   * assumption that the rules do not change during the batch. This default implementation returns this instance.
+   *
+   * @return The {@code Validator}
+   */
+  default Validator batchValidator() {
+    return this;
+  }
+
+  private <I, T> void validateAll(Iterator<? extends I> items, int parallelism, Function<I, CompletableFuture<T>> validation,
+      BiConsumer<? super I, ? super T> sink) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+    Semaphore permits = new Semaphore(parallelism);
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    Object sinkLock = new Object();
+    try {
+      while (error.get() == null) {
+        // Acquire first, so that not more than parallelism items are pulled from the iterator
+        permits.acquire();
+        I item;
+        try {
+          if (!items.hasNext()) {
+            permits.release();
+            break;
+          }
+          item = items.next();
+        } catch (RuntimeException e) {
+          permits.release();
+          throw e;
+        }
+        CompletableFuture<T> future;
+        try {
+          future = validation.apply(item);
+        } catch (RuntimeException e) {
+          future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((report, ex) -> {
+          try {
+            if (ex != null) {
+              error.compareAndSet(null, ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            } else if (error.get() == null) {
+              synchronized (sinkLock) {
+                sink.accept(item, report);
+              }
+            }
+          } catch (RuntimeException e) {
+            error.compareAndSet(null, e);
+          } finally {
+            permits.release();
+          }
+        });
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ValidationException("Batch validation interrupted", e);
+    } finally {
+      // Even if the iteration failed, the sink must not be called after returning
+      permits.acquireUninterruptibly(parallelism);
+    }
+    Throwable failure = error.get();
+    if (failure instanceof RuntimeException re) {
+      throw re;
+    } else if (failure != null) {
+      throw new ValidationException("Batch validation failed", failure);
+    }
   }
 
   /**
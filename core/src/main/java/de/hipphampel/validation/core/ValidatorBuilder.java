@@ -24,14 +24,29 @@ package de.hipphampel.validation.core;
 
 import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
 import de.hipphampel.validation.core.event.EventPublisher;
+import de.hipphampel.validation.core.execution.AdaptiveRuleExecutor;
+import de.hipphampel.validation.core.execution.Bulkhead;
+import de.hipphampel.validation.core.execution.BulkheadRegistry;
+import de.hipphampel.validation.core.execution.CostBasedRuleScheduler;
+import de.hipphampel.validation.core.execution.CrossValidationResultCache;
 import de.hipphampel.validation.core.execution.DefaultRuleExecutor;
+import de.hipphampel.validation.core.execution.ExecutionPlan;
+import de.hipphampel.validation.core.execution.ExecutionPlanner;
 import de.hipphampel.validation.core.execution.RuleExecutor;
+import de.hipphampel.validation.core.execution.RuleScheduler;
+import de.hipphampel.validation.core.execution.ThreadPerRuleExecutor;
 import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.path.BeanAccessor;
 import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.path.LambdaBeanAccessor;
 import de.hipphampel.validation.core.path.PathResolver;
+import de.hipphampel.validation.core.path.ReflectionBeanAccessor;
 import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
 import de.hipphampel.validation.core.provider.RuleRepository;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -49,7 +64,8 @@ import java.util.function.Supplier;
  * The default settings of the generated {@code Validator} are as follows:
  * <ul>
  *   <li>The {@link RuleRepository} is an empty {@link InMemoryRuleRepository}</li>
- *   <li>The {@link PathResolver} is a {@link BeanPathResolver}</li>
+ *   <li>The {@link PathResolver} is a {@link BeanPathResolver} using a {@link ReflectionBeanAccessor}; it is shared by all validations,
+ *   so that the accessors of a class are only looked up and the paths are only compiled once</li>
  *   <li>The {@link RuleExecutor} is a {@link DefaultRuleExecutor}</li>
  *   <li>The {@link EventPublisher} is a {@link DefaultSubscribableEventPublisher}</li>
  * </ul>
@@ -58,9 +74,15 @@ public class ValidatorBuilder {
 
   private RuleRepository ruleRepository;
   private Supplier<PathResolver> pathResolverSupplier;
+  private BeanAccessor beanAccessor;
+  private boolean snapshotCollections;
   private RuleExecutor ruleExecutor;
+  private CrossValidationResultCache resultCache;
+  private boolean failFast;
+  private Duration timeout;
   private Supplier<EventPublisher> eventPublisherSupplier;
   private final Map<Class<?>, Object> sharedObjects = new HashMap<>();
+  private final List<Bulkhead> bulkheads = new ArrayList<>();
 
 
   private ValidatorBuilder() {
@@ -85,12 +107,35 @@ public class ValidatorBuilder {
    * @return The final {@code Validator}
    */
   public Validator build() {
+    Supplier<PathResolver> pathResolvers = pathResolverSupplier;
+    if (pathResolvers == null) {
+      BeanAccessor accessor = beanAccessor == null ? new ReflectionBeanAccessor() : beanAccessor;
+      if (snapshotCollections) {
+        pathResolvers = () -> new BeanPathResolver("/", "*", "**", accessor, false, true);
+      } else {
+        PathResolver pathResolver = new BeanPathResolver(accessor);
+        pathResolvers = () -> pathResolver;
+      }
+    }
+    RuleRepository repository = ruleRepository == null ? new InMemoryRuleRepository() : ruleRepository;
+    Map<Class<?>, Object> objects = sharedObjects;
+    if (resultCache != null) {
+      resultCache.subscribeTo(repository);
+      objects = new HashMap<>(objects);
+      objects.put(CrossValidationResultCache.class, resultCache);
+    }
+    if (!bulkheads.isEmpty()) {
+      objects = new HashMap<>(objects);
+      objects.put(BulkheadRegistry.class, new BulkheadRegistry(bulkheads));
+    }
     return new DefaultValidator(
-        ruleRepository == null ? new InMemoryRuleRepository() : ruleRepository,
+        repository,
         ruleExecutor == null ? new DefaultRuleExecutor() : ruleExecutor,
         eventPublisherSupplier == null ? DefaultSubscribableEventPublisher::new : eventPublisherSupplier,
-        pathResolverSupplier == null ? BeanPathResolver::new : pathResolverSupplier,
-        sharedObjects);
+        pathResolvers,
+        objects,
+        failFast,
+        timeout);
   }
 
   /**
@@ -104,6 +149,32 @@ public class ValidatorBuilder {
     return this;
   }
 
+  /**
+   * Uses a {@link ThreadPerRuleExecutor} as {@link RuleExecutor}.
+   * <p>
+   * This executor runs each rule execution on its own (virtual, if supported by the runtime) thread, which is suitable for {@code Rules}
+   * that block, e.g. due to lookups in a database.
+   *
+   * @return This instance
+   * @see ThreadPerRuleExecutor
+   */
+  public ValidatorBuilder withThreadPerRuleExecutor() {
+    return withRuleExecutor(new ThreadPerRuleExecutor());
+  }
+
+  /**
+   * Uses an {@link AdaptiveRuleExecutor} as {@link RuleExecutor}.
+   * <p>
+   * This executor runs cheap {@code Rules} on the calling thread and passes only expensive ones or wide fan-outs to the common
+   * {@code ForkJoinPool}, which avoids the scheduling overhead for trivial {@code Rules}.
+   *
+   * @return This instance
+   * @see AdaptiveRuleExecutor
+   */
+  public ValidatorBuilder withAdaptiveRuleExecutor() {
+    return withRuleExecutor(new AdaptiveRuleExecutor());
+  }
+
   /**
    * Specifies the {@link RuleRepository} to use.
    *
@@ -126,6 +197,37 @@ public class ValidatorBuilder {
     return this;
   }
 
+  /**
+   * Specifies the {@link BeanAccessor} to use for the default {@link BeanPathResolver}.
+   * <p>
+   * This setting has no effect, if a
+   * {@link PathResolver} is explicitly specified via {@link #withPathResolver(PathResolver)} or
+   * {@link #withPathResolverSupplier(Supplier)}.
+   *
+   * @param beanAccessor The {@code BeanAccessor}, e.g. a {@link LambdaBeanAccessor}
+   * @return This instance
+   */
+  public ValidatorBuilder withBeanAccessor(BeanAccessor beanAccessor) {
+    this.beanAccessor = beanAccessor;
+    return this;
+  }
+
+  /**
+   * Lets the default {@link BeanPathResolver} snapshot {@code Collections} that are not {@code Lists}.
+   * <p>
+   * When enabled, index lookups on such collections use an array snapshot that is taken once per collection, so that addressing all
+   * elements one by one has linear instead of quadratic costs. Since the snapshots must not outlive a validation, each validation then gets
+   * its own {@code BeanPathResolver}, so compiled paths are no longer shared between validations. Like
+   * {@link #withBeanAccessor(BeanAccessor)}, this setting has no effect, if a {@link PathResolver} is explicitly specified.
+   *
+   * @param snapshotCollections {@code true} to enable the snapshots
+   * @return This instance
+   */
+  public ValidatorBuilder withCollectionSnapshots(boolean snapshotCollections) {
+    this.snapshotCollections = snapshotCollections;
+    return this;
+  }
+
   /**
    * Specifies the {@link Supplier} for the {@link PathResolver} to use.
    *
@@ -159,6 +261,131 @@ public class ValidatorBuilder {
     return this;
   }
 
+  /**
+   * Specifies a {@link CrossValidationResultCache} to reuse rule results across validations.
+   * <p>
+   * The cache is made available as shared object in the {@link ValidationContext}, where a {@link DefaultRuleExecutor} picks it up. In
+   * addition, the cache is subscribed to the {@link RuleRepository}, so that it is invalidated when the repository publishes a
+   * {@link de.hipphampel.validation.core.event.payloads.RulesChangedPayload RulesChangedPayload}. Not all repositories do so, e.g. an
+   * {@link InMemoryRuleRepository} does only if created with a
+   * {@link de.hipphampel.validation.core.event.SubscribableEventPublisher SubscribableEventPublisher}; otherwise, the cache must be
+   * {@linkplain CrossValidationResultCache#invalidateAll() invalidated} explicitly after changing the rules.
+   *
+   * @param resultCache The {@code CrossValidationResultCache}, {@code null} to disable
+   * @return This instance
+   */
+  public ValidatorBuilder withResultCache(CrossValidationResultCache resultCache) {
+    this.resultCache = resultCache;
+    return this;
+  }
+
+  /**
+   * Specifies the {@link ExecutionPlanner} compiling the {@link ExecutionPlan ExecutionPlans} used to select the
+   * {@link de.hipphampel.validation.core.rule.Rule Rules}.
+   * <p>
+   * The {@code ExecutionPlanner} is made available as shared object in the {@link ValidationContext}, where the {@link RuleExecutor}
+   * picks it up. It should be created for the same {@link RuleRepository} as the one passed to
+   * {@link #withRuleRepository(RuleRepository) withRuleRepository}, otherwise it is ignored. Like the
+   * {@link #withResultCache(CrossValidationResultCache) result cache}, the plans are only discarded automatically if the repository
+   * publishes its changes, otherwise {@link ExecutionPlanner#invalidate()} must be called after changing the rules.
+   *
+   * @param executionPlanner The {@code ExecutionPlanner}, {@code null} to select the {@code Rules} for each object again
+   * @return This instance
+   */
+  public ValidatorBuilder withExecutionPlanner(ExecutionPlanner executionPlanner) {
+    if (executionPlanner == null) {
+      this.sharedObjects.remove(ExecutionPlanner.class);
+    } else {
+      this.sharedObjects.put(ExecutionPlanner.class, executionPlanner);
+    }
+    return this;
+  }
+
+  /**
+   * Specifies the {@link RuleScheduler} determining the execution order of the {@link de.hipphampel.validation.core.rule.Rule Rules}.
+   * <p>
+   * The {@code RuleScheduler} is made available as shared object in the {@link ValidationContext}, where the {@link RuleExecutor} picks
+   * it up.
+   *
+   * @param ruleScheduler The {@code RuleScheduler}, {@code null} to keep the order of the {@code RuleSelectors}
+   * @return This instance
+   * @see CostBasedRuleScheduler
+   */
+  public ValidatorBuilder withRuleScheduler(RuleScheduler ruleScheduler) {
+    if (ruleScheduler == null) {
+      this.sharedObjects.remove(RuleScheduler.class);
+    } else {
+      this.sharedObjects.put(RuleScheduler.class, ruleScheduler);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a {@link Bulkhead} with its own threads.
+   * <p>
+   * {@link de.hipphampel.validation.core.rule.Rule Rules} having the metadata {@value BulkheadRegistry#METADATA_POOL} with the
+   * {@code name} of the {@code Bulkhead} are executed by it, so that they cannot occupy the threads used for the other {@code Rules}. This
+   * requires a {@link DefaultRuleExecutor} or one derived from it, such as the {@link AdaptiveRuleExecutor}.
+   *
+   * @param name           The name of the {@code Bulkhead}
+   * @param maxConcurrency The maximum number of {@code Rules} executed by the {@code Bulkhead} at the same time
+   * @param maxQueueSize   The maximum number of {@code Rules} waiting for execution; further ones fail with code
+   *                       {@code ExecutionRejected}
+   * @return This instance
+   * @see BulkheadRegistry
+   */
+  public ValidatorBuilder withBulkhead(String name, int maxConcurrency, int maxQueueSize) {
+    return withBulkhead(new Bulkhead(name, maxConcurrency, maxQueueSize));
+  }
+
+  /**
+   * Adds a {@link Bulkhead}.
+   * <p>
+   * Like {@link #withBulkhead(String, int, int)}, but for an already created {@code Bulkhead}. A {@code Bulkhead} with the same name added
+   * before is replaced.
+   *
+   * @param bulkhead The {@code Bulkhead}
+   * @return This instance
+   * @see BulkheadRegistry
+   */
+  public ValidatorBuilder withBulkhead(Bulkhead bulkhead) {
+    bulkheads.removeIf(existing -> existing.getName().equals(bulkhead.getName()));
+    bulkheads.add(bulkhead);
+    return this;
+  }
+
+  /**
+   * Enables or disables the fail-fast mode.
+   * <p>
+   * In fail-fast mode, a validation is aborted as soon as the report of its {@link de.hipphampel.validation.core.report.Reporter Reporter}
+   * is {@linkplain de.hipphampel.validation.core.report.Reporter#isFinal() final}, e.g. when a {@code BooleanReporter} got the first
+   * failure. Remaining rules are not executed then. This is useful, if only a yes/no answer is required.
+   *
+   * @param failFast {@code true} to enable the fail-fast mode
+   * @return This instance
+   * @see ValidationContext#isFailFast()
+   */
+  public ValidatorBuilder withFailFast(boolean failFast) {
+    this.failFast = failFast;
+    return this;
+  }
+
+  /**
+   * Specifies the maximum time a validation may take.
+   * <p>
+   * Once the timeout is exceeded, rules not started yet are no longer executed, but reported as failed with the code {@code Timeout};
+   * depending on the {@link RuleExecutor}, this applies also to rules still running. In addition, single rules might specify their own timeout via their metadata, see
+   * {@link de.hipphampel.validation.core.execution.SimpleRuleExecutor#METADATA_TIMEOUT}.
+   *
+   * @param timeout The timeout, {@code null} for no limit
+   * @return This instance
+   * @see ValidationContext#restrictDeadline(Duration)
+   */
+  public ValidatorBuilder withTimeout(Duration timeout) {
+    this.timeout = timeout;
+    return this;
+  }
+
   /**
    * Adds a shared object.
    * <p>
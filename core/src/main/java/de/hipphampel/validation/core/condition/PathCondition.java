@@ -23,6 +23,7 @@
 package de.hipphampel.validation.core.condition;
 
 import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.path.CompiledPath;
 import de.hipphampel.validation.core.path.Path;
 import de.hipphampel.validation.core.path.PathResolver;
 import de.hipphampel.validation.core.utils.OneOfTwo;
@@ -52,14 +53,11 @@ public record PathCondition(OneOfTwo<Value<String>, Path> path,
     Object reference = referenceObject
         .map(ref -> (Object) ref.get(context, facts))
         .orElse(facts);
-    Path pathToResolve = path.mapIfFirst(value -> valueToPath(context, facts, value));
+    CompiledPath pathToResolve = path.hasFirst() ?
+        resolver.compile(path.getFirst().get(context, facts)) :
+        resolver.compile(path.getSecond());
 
-    return resolver.exists(reference, pathToResolve);
-  }
-
-  private Path valueToPath(ValidationContext context, Object facts, Value<String> value) {
-    String pathStr = value.get(context, facts);
-    return context.getPathResolver().parse(pathStr);
+    return pathToResolve.exists(reference);
   }
 
 }
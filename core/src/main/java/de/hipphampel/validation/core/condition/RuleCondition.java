@@ -67,8 +67,8 @@ public record RuleCondition(Value<RuleSelector> ruleSelector,
         .map(paths -> paths.get(context, facts))
         .filter(paths -> !paths.isEmpty())
         .map(paths -> paths.stream()
-            .map(resolver::parse)
-            .flatMap(path -> resolver.resolvePattern(facts, path)))
+            .map(resolver::compile)
+            .flatMap(path -> path.resolvePattern(facts)))
         .map(paths -> executor.validateForPaths(context, rules, facts, paths))
         .orElseGet(() -> executor.validate(context, rules, facts))
         .stream()
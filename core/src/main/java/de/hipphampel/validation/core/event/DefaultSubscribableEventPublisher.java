@@ -34,7 +34,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * Default implementation of the {@link SubscribableEventPublisher}{@link EventPublisher}.
  * <p>
  * This implementation informs {@linkplain #subscribe(EventListener) subscribed} listeners about any
- * event that is {@linkplain #publish(Object, Object) published}.
+ * event that is {@linkplain #publish(Object, Object) published}. If there are no subscriptions, publishing an event is a no-op, so not even
+ * the {@link Event} is created.
  *
  * @see SubscribableEventPublisher
  */
@@ -44,6 +45,9 @@ public class DefaultSubscribableEventPublisher implements SubscribableEventPubli
 
   @Override
   public <T> void publish(Object source, T payload) {
+    if (subscriptions.isEmpty()) {
+      return;
+    }
     Event<T> event = new Event<>(payload, LocalDateTime.now(), source);
     subscriptions.forEach(subscription -> subscription.eventListener.accept(event));
   }
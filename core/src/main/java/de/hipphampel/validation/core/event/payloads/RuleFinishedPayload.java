@@ -36,7 +36,7 @@ import de.hipphampel.validation.core.utils.Stacked;
  * @param pathStack The {@link ValidationContext#getPathStack() pathStack} of the
  *                  {@link ValidationContext}
  * @param facts     The facts being validated
- * @param result    The {@link Result}
+ * @param result    The {@link Result}, {@code null} if the {@code Rule} threw an {@link Error}
  * @param nanos     The execution time in nanos
  */
 public record RuleFinishedPayload(Rule<?> rule,
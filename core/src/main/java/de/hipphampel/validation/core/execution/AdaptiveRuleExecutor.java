@@ -0,0 +1,274 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.path.CompiledPath;
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.rule.AsyncRule;
+import de.hipphampel.validation.core.rule.DispatchingRule;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * {@link RuleExecutor} that runs cheap {@link Rule Rules} on the calling thread and forks only expensive ones.
+ * <p>
+ * The {@link DefaultRuleExecutor} passes each rule execution to its {@link Executor}, even if the {@code Rule} just checks a simple
+ * condition. In such cases, scheduling the execution costs more than the execution itself. This implementation executes a {@code Rule}
+ * inline, unless one of the following applies:
+ * <ul>
+ *   <li>The {@code Rule} is marked as expensive, which is the case if its {@linkplain Rule#getMetadata() metadata} contains the key
+ *   {@value #METADATA_EXPENSIVE} with the value {@code true} (either as {@code Boolean} or {@code String}). Setting it to {@code false}
+ *   enforces an inline execution regardless of the measured execution time</li>
+ *   <li>The {@code Rule} has been measured as expensive, which is the case if the average time its {@code validate} method took so far
+ *   reaches the {@code forkThresholdNanos}. The average is an exponentially weighted moving average per rule id, kept across
+ *   validations</li>
+ *   <li>The fan-out is wide: if more than {@code forkFanOut} siblings are started at once - e.g. the {@code Rules} selected by a
+ *   {@link RuleSelector} or the objects a {@link DispatchingRule} dispatches to - the first {@code forkFanOut} executions run inline and
+ *   all further ones are forked</li>
+ *   <li>The {@code Rule} is assigned to a {@link Bulkhead}, which then executes it</li>
+ * </ul>
+ * {@link AsyncRule AsyncRules} do not block while waiting for the {@code Rules} they forward to, so they are never forked because of their
+ * execution time. Since only the execution itself is run inline, results are still deduplicated via the {@link RuleResultCache} (and a
+ * {@link CrossValidationResultCache}, if present) exactly like in the {@code DefaultRuleExecutor}.
+ *
+ * @see DefaultRuleExecutor
+ */
+public class AdaptiveRuleExecutor extends DefaultRuleExecutor {
+
+  /**
+   * Metadata key to mark a {@link Rule} as expensive.
+   */
+  public static final String METADATA_EXPENSIVE = "expensive";
+
+  /**
+   * Default value for the {@code forkThresholdNanos}.
+   */
+  public static final long DEFAULT_FORK_THRESHOLD_NANOS = 100_000;
+
+  /**
+   * Default value for the {@code forkFanOut}.
+   */
+  public static final int DEFAULT_FORK_FAN_OUT = 16;
+
+  private static final double SMOOTHING_FACTOR = 0.2;
+  private static final ThreadLocal<FanOut> CURRENT_FAN_OUT = new ThreadLocal<>();
+
+  private final long forkThresholdNanos;
+  private final int forkFanOut;
+  private final Map<String, CostEstimate> estimates = new ConcurrentHashMap<>();
+
+  /**
+   * Default constructor.
+   * <p>
+   * Creates a new instance backed by the common {@link ForkJoinPool}, using caching and the default thresholds.
+   */
+  public AdaptiveRuleExecutor() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an instance backed by the given {@link Executor}, using caching and the default thresholds.
+   *
+   * @param executor The {@code Executor}
+   */
+  public AdaptiveRuleExecutor(Executor executor) {
+    this(executor, true, 0, DEFAULT_FORK_THRESHOLD_NANOS, DEFAULT_FORK_FAN_OUT);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param executor           The {@code Executor} to run the forked executions
+   * @param caching            Flag indicating whether or not caching rule results.
+   * @param maxCacheSize       The maximum number of entries of the {@link RuleResultCache} per validation; if less or equal to zero, the
+   *                           cache is unbounded
+   * @param forkThresholdNanos The average execution time in nanoseconds from which on a {@link Rule} is forked
+   * @param forkFanOut         The number of siblings that are executed inline, further siblings are forked
+   */
+  public AdaptiveRuleExecutor(Executor executor, boolean caching, long maxCacheSize, long forkThresholdNanos, int forkFanOut) {
+    super(executor, caching, maxCacheSize);
+    if (forkThresholdNanos < 0) {
+      throw new IllegalArgumentException("forkThresholdNanos must not be negative");
+    }
+    if (forkFanOut < 0) {
+      throw new IllegalArgumentException("forkFanOut must not be negative");
+    }
+    this.forkThresholdNanos = forkThresholdNanos;
+    this.forkFanOut = forkFanOut;
+  }
+
+  /**
+   * Gets the average execution time from which on a {@link Rule} is forked.
+   *
+   * @return The threshold in nanoseconds
+   */
+  public long getForkThresholdNanos() {
+    return forkThresholdNanos;
+  }
+
+  /**
+   * Gets the number of siblings that are executed inline.
+   *
+   * @return The fan-out
+   */
+  public int getForkFanOut() {
+    return forkFanOut;
+  }
+
+  /**
+   * Gets the measured average execution time of the {@link Rule} with the given id.
+   *
+   * @param ruleId The id of the {@code Rule}
+   * @return The average execution time in nanoseconds, {@code -1} if the {@code Rule} has not been executed yet
+   */
+  public long getAverageNanos(String ruleId) {
+    CostEstimate estimate = estimates.get(ruleId);
+    return estimate == null ? -1 : (long) estimate.averageNanos;
+  }
+
+  /**
+   * Checks, whether the {@code rule} is expensive and therefore forked.
+   * <p>
+   * This implementation evaluates the {@value #METADATA_EXPENSIVE} metadata of the {@code rule} and, if not present, compares the measured
+   * average execution time with the {@code forkThresholdNanos}.
+   *
+   * @param rule The {@link Rule}
+   * @return {@code true}, if expensive
+   */
+  protected boolean isExpensive(Rule<?> rule) {
+    Object marker = rule.getMetadata().get(METADATA_EXPENSIVE);
+    if (marker != null) {
+      return Boolean.parseBoolean(String.valueOf(marker));
+    }
+    if (rule instanceof AsyncRule<?>) {
+      return false;
+    }
+    CostEstimate estimate = estimates.get(rule.getId());
+    return estimate != null && estimate.averageNanos >= forkThresholdNanos;
+  }
+
+  @Override
+  public CompletableFuture<List<Result>> validateAsync(ValidationContext context, RuleSelector selector, Object facts) {
+    return withFanOut(() -> super.validateAsync(context, selector, facts));
+  }
+
+  @Override
+  public CompletableFuture<List<Result>> validateForPathsAsync(ValidationContext context, RuleSelector selector, Object parentFacts,
+      Stream<? extends Path> paths) {
+    return withFanOut(() -> super.validateForPathsAsync(context, selector, parentFacts, paths));
+  }
+
+  @Override
+  public CompletableFuture<List<Result>> validateForPatternAsync(ValidationContext context, RuleSelector selector, Object parentFacts,
+      CompiledPath pattern) {
+    return withFanOut(() -> super.validateForPatternAsync(context, selector, parentFacts, pattern));
+  }
+
+  /**
+   * Executes the {@code rule} either inline or via the {@link Executor}.
+   * <p>
+   * The execution is forked, if the {@code rule} {@linkplain #isExpensive(Rule) is expensive}, is assigned to a
+   * {@linkplain #getBulkhead(ValidationContext, Rule) Bulkhead}, or the current fan-out is wider than {@code forkFanOut}; otherwise it is
+   * executed on the calling thread.
+   *
+   * @param context The {@code ValidationContext}, exclusively used for this execution
+   * @param rule    The {@code Rule} to execute
+   * @param facts   The object to be validated
+   * @return A {@link CompletableFuture} providing the {@link Result}
+   */
+  @Override
+  protected CompletableFuture<Result> executeAsync(ValidationContext context, Rule<?> rule, Object facts) {
+    FanOut fanOut = CURRENT_FAN_OUT.get();
+    if ((fanOut != null && ++fanOut.siblings > forkFanOut) || isExpensive(rule) || getBulkhead(context, rule).isPresent()) {
+      return super.executeAsync(context, rule, facts);
+    }
+    // Fan-outs started by the rule itself are counted separately
+    CURRENT_FAN_OUT.remove();
+    try {
+      return doValidateAsync(context, rule, facts);
+    } finally {
+      if (fanOut != null) {
+        CURRENT_FAN_OUT.set(fanOut);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation measures the execution time to update the average execution time of the {@code rule}.
+   *
+   * @param context The {@link ValidationContext}
+   * @param rule    The {@link Rule} being executed.
+   * @param facts   The object being validated
+   * @return The {@code Result}
+   */
+  @Override
+  protected Result invokeValidation(ValidationContext context, Rule<?> rule, Object facts) {
+    long start = System.nanoTime();
+    try {
+      return super.invokeValidation(context, rule, facts);
+    } finally {
+      estimates.computeIfAbsent(rule.getId(), id -> new CostEstimate()).record(System.nanoTime() - start);
+    }
+  }
+
+  private <T> T withFanOut(Supplier<T> dispatch) {
+    if (CURRENT_FAN_OUT.get() != null) {
+      return dispatch.get();
+    }
+    CURRENT_FAN_OUT.set(new FanOut());
+    try {
+      return dispatch.get();
+    } finally {
+      CURRENT_FAN_OUT.remove();
+    }
+  }
+
+  private static class FanOut {
+
+    private int siblings;
+  }
+
+  private static class CostEstimate {
+
+    // Updates might get lost under contention, which is acceptable for an estimate
+    private volatile double averageNanos = Double.NaN;
+
+    private void record(long nanos) {
+      double average = averageNanos;
+      averageNanos = Double.isNaN(average) ? nanos : average + SMOOTHING_FACTOR * (nanos - average);
+    }
+  }
+}
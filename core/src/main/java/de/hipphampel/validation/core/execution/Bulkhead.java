@@ -0,0 +1,204 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Executor} limiting the number of concurrently executed tasks.
+ * <p>
+ * A {@code Bulkhead} isolates a group of {@link Rule Rules} - typically slow, I/O bound ones - from the others: at most
+ * {@code maxConcurrency} of its tasks run at the same time, at most {@code maxQueueSize} further tasks wait for execution, all other tasks
+ * are rejected with a {@link RejectedExecutionException}. The tasks are executed by a delegate {@code Executor}; if none is specified, the
+ * {@code Bulkhead} uses its own threads, so that its tasks do not occupy the threads used for the other {@code Rules}.
+ * <p>
+ * {@code Bulkheads} are registered in a {@link BulkheadRegistry}, which is used by the {@link DefaultRuleExecutor} to select the
+ * {@code Bulkhead} for a {@code Rule}.
+ *
+ * @see BulkheadRegistry
+ */
+public class Bulkhead implements Executor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(Bulkhead.class);
+
+  private final String name;
+  private final Executor delegate;
+  private final int maxConcurrency;
+  private final int maxQueueSize;
+  private final Deque<Runnable> queue = new ArrayDeque<>();
+  private int active;
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an instance using its own daemon threads, which are terminated when idle.
+   *
+   * @param name           The name
+   * @param maxConcurrency The maximum number of tasks executed at the same time
+   * @param maxQueueSize   The maximum number of tasks waiting for execution
+   */
+  public Bulkhead(String name, int maxConcurrency, int maxQueueSize) {
+    this(name, newThreadPool(name, maxConcurrency), maxConcurrency, maxQueueSize);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param name           The name
+   * @param delegate       The {@link Executor} executing the tasks
+   * @param maxConcurrency The maximum number of tasks executed at the same time
+   * @param maxQueueSize   The maximum number of tasks waiting for execution
+   */
+  public Bulkhead(String name, Executor delegate, int maxConcurrency, int maxQueueSize) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive");
+    }
+    if (maxQueueSize < 0) {
+      throw new IllegalArgumentException("maxQueueSize must not be negative");
+    }
+    this.name = Objects.requireNonNull(name);
+    this.delegate = Objects.requireNonNull(delegate);
+    this.maxConcurrency = maxConcurrency;
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If already {@code maxConcurrency} tasks are running, the {@code command} is queued; if the queue is full as well, it is rejected.
+   *
+   * @param command The task to execute
+   * @throws RejectedExecutionException If the {@code command} is rejected
+   */
+  @Override
+  public void execute(Runnable command) {
+    Objects.requireNonNull(command);
+    synchronized (this) {
+      if (active >= maxConcurrency) {
+        if (queue.size() >= maxQueueSize) {
+          throw new RejectedExecutionException("Bulkhead '" + name + "' is exhausted");
+        }
+        queue.add(command);
+        return;
+      }
+      active++;
+    }
+    try {
+      delegate.execute(() -> run(command));
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        active--;
+      }
+      throw e;
+    }
+  }
+
+  private void run(Runnable command) {
+    // Queued tasks are executed by the thread that finished a task, so no further scheduling is required
+    Runnable current = command;
+    while (current != null) {
+      try {
+        current.run();
+      } catch (RuntimeException e) {
+        LOGGER.error("Task of bulkhead '" + name + "' failed", e);
+      }
+      current = next();
+    }
+  }
+
+  private synchronized Runnable next() {
+    Runnable next = queue.poll();
+    if (next == null) {
+      active--;
+    }
+    return next;
+  }
+
+  /**
+   * Gets the name.
+   *
+   * @return The name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the maximum number of tasks executed at the same time.
+   *
+   * @return The maximum concurrency
+   */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * Gets the maximum number of tasks waiting for execution.
+   *
+   * @return The maximum queue size
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * Gets the number of tasks currently running.
+   *
+   * @return The number of running tasks
+   */
+  public synchronized int getActiveCount() {
+    return active;
+  }
+
+  /**
+   * Gets the number of tasks currently waiting for execution.
+   *
+   * @return The number of queued tasks
+   */
+  public synchronized int getQueueSize() {
+    return queue.size();
+  }
+
+  private static Executor newThreadPool(String name, int maxConcurrency) {
+    AtomicLong counter = new AtomicLong();
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        runnable -> {
+          Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of the {@link Bulkhead Bulkheads} available for executing {@link Rule Rules}.
+ * <p>
+ * A {@code Rule} is assigned to a {@code Bulkhead} via its {@linkplain Rule#getMetadata() metadata}: the value of the key
+ * {@value #METADATA_POOL} is the name of the {@code Bulkhead}. {@code Rules} without such an entry or referring to an unknown
+ * {@code Bulkhead} are not assigned to any.
+ * <p>
+ * If the registry is available as shared extension in the {@link ValidationContext}, the {@link DefaultRuleExecutor} executes the
+ * {@code Rules} assigned to a {@code Bulkhead} by this instead of its own {@code Executor}.
+ *
+ * @see Bulkhead
+ */
+public class BulkheadRegistry {
+
+  /**
+   * Metadata key to specify the name of the {@link Bulkhead} executing a {@link Rule}.
+   */
+  public static final String METADATA_POOL = "pool";
+
+  private final Map<String, Bulkhead> bulkheads;
+
+  /**
+   * Constructor.
+   *
+   * @param bulkheads The {@link Bulkhead Bulkheads}, their names must be unique
+   */
+  public BulkheadRegistry(Collection<Bulkhead> bulkheads) {
+    this.bulkheads = bulkheads.stream()
+        .collect(Collectors.toMap(Bulkhead::getName, Function.identity(), (a, b) -> {
+          throw new IllegalArgumentException("Duplicate bulkhead '" + a.getName() + "'");
+        }, LinkedHashMap::new));
+  }
+
+  /**
+   * Gets the {@link Bulkhead} the {@code rule} is assigned to.
+   *
+   * @param rule The {@link Rule}
+   * @return The {@code Bulkhead}, empty if the {@code rule} is not assigned to any
+   */
+  public Optional<Bulkhead> getBulkhead(Rule<?> rule) {
+    Object name = rule.getMetadata().get(METADATA_POOL);
+    return name == null ? Optional.empty() : getBulkhead(String.valueOf(name));
+  }
+
+  /**
+   * Gets the {@link Bulkhead} with the given {@code name}.
+   *
+   * @param name The name of the {@code Bulkhead}
+   * @return The {@code Bulkhead}, empty if unknown
+   */
+  public Optional<Bulkhead> getBulkhead(String name) {
+    return Optional.ofNullable(bulkheads.get(name));
+  }
+
+  /**
+   * Gets all {@link Bulkhead Bulkheads}.
+   *
+   * @return The {@code Bulkheads}
+   */
+  public Collection<Bulkhead> getBulkheads() {
+    return Collections.unmodifiableCollection(bulkheads.values());
+  }
+}
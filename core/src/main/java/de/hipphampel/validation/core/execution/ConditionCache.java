@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.condition.Condition;
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache for the outcome of {@link Condition Conditions} used as preconditions of {@link Rule Rules}.
+ * <p>
+ * Often, many {@code Rules} share the same preconditions, such as a check that the object being validated is not {@code null}. This cache
+ * ensures that such a {@code Condition} is evaluated only once per object and {@link Path} within a validation. {@code Conditions} are
+ * compared by {@code equals}, so that equal but distinct instances (most {@code Conditions} are records) share the same entry; the
+ * facts are compared like in the {@link RuleResultCache}, so by identity, except for value like objects.
+ * <p>
+ * The cache is used by the {@link DefaultRuleExecutor}, if caching is enabled. Its lifetime is bound to the {@link ValidationContext},
+ * since the outcome of a {@code Condition} might depend on the parameters or the parent objects of the validation.
+ */
+public class ConditionCache {
+
+  private final ConcurrentHashMap<FactsKey, Boolean> cache = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Evaluates the {@code condition}, unless its outcome for the {@code facts} and the current {@link Path} is already known.
+   *
+   * @param context   The {@link ValidationContext}
+   * @param condition The {@link Condition} to evaluate
+   * @param facts     The object being validated
+   * @return The outcome of the {@code condition}
+   */
+  public boolean evaluate(ValidationContext context, Condition condition, Object facts) {
+    FactsKey key = FactsKey.byValue(condition, facts, context.getCurrentPath());
+    Boolean outcome = cache.get(key);
+    if (outcome != null) {
+      hits.increment();
+      return outcome;
+    }
+    misses.increment();
+    // Not computeIfAbsent, since the evaluation might recursively evaluate other conditions
+    boolean result = condition.evaluate(context, facts);
+    cache.putIfAbsent(key, result);
+    return result;
+  }
+
+  /**
+   * Gets the number of entries.
+   *
+   * @return The number of entries
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Gets the statistics of this cache.
+   * <p>
+   * Since entries are never evicted, the number of evictions is always zero.
+   *
+   * @return The {@link RuleResultCache.Statistics}
+   */
+  public RuleResultCache.Statistics getStatistics() {
+    return new RuleResultCache.Statistics(hits.sum(), misses.sum(), 0, cache.size());
+  }
+}
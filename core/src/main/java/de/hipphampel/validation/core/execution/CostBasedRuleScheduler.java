@@ -0,0 +1,194 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link RuleScheduler} ordering the {@link Rule Rules} based on their observed costs.
+ * <p>
+ * This implementation keeps a {@link Profile} per rule id, containing the exponentially weighted moving averages of the execution time
+ * and of the failure probability of the {@code Rule}. The weight of the latest execution is given by the {@code smoothingFactor}. The
+ * {@code Rules} are ordered as follows:
+ * <ul>
+ *   <li>In {@linkplain ValidationContext#isFailFast() fail-fast mode}, the {@code Rules} with the lowest ratio of execution time and
+ *   failure probability are executed first. So cheap {@code Rules} likely to fail come first, which allows to abort the validation as
+ *   early as possible.</li>
+ *   <li>Otherwise, the most expensive {@code Rules} are started first. When the {@code Rules} are executed in parallel, this minimizes
+ *   the time until the last {@code Rule} is finished.</li>
+ * </ul>
+ * {@code Rules} without a profile are executed first, keeping their original order, so that a profile is built for them.
+ * <p>
+ * The profiles can be {@linkplain #save(java.nio.file.Path) saved} to and {@linkplain #load(java.nio.file.Path) loaded} from a file, so
+ * that they survive a restart of the application.
+ */
+public class CostBasedRuleScheduler implements RuleScheduler {
+
+  private static final double MIN_FAILURE_PROBABILITY = 0.001;
+  private final double smoothingFactor;
+  private final Map<String, Profile> profiles = new ConcurrentHashMap<>();
+
+  /**
+   * Default constructor.
+   * <p>
+   * Creates an instance with a smoothing factor of 0.2.
+   */
+  public CostBasedRuleScheduler() {
+    this(0.2);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param smoothingFactor The weight of the latest execution when updating the moving averages, must be greater than 0 and less or
+   *                        equal to 1.
+   */
+  public CostBasedRuleScheduler(double smoothingFactor) {
+    if (smoothingFactor <= 0 || smoothingFactor > 1) {
+      throw new IllegalArgumentException("smoothingFactor must be in range (0, 1]");
+    }
+    this.smoothingFactor = smoothingFactor;
+  }
+
+  @Override
+  public List<? extends Rule<?>> schedule(ValidationContext context, List<? extends Rule<?>> rules) {
+    if (rules.size() < 2 || profiles.isEmpty()) {
+      return rules;
+    }
+    Comparator<Profile> order = context.isFailFast()
+        ? Comparator.comparingDouble(profile -> profile.averageNanos() / Math.max(profile.failureProbability(), MIN_FAILURE_PROBABILITY))
+        : Comparator.comparingDouble(profile -> -profile.averageNanos());
+    // Snapshot the profiles, since they might be updated concurrently, which would make the order inconsistent while sorting
+    Map<Rule<?>, Profile> snapshot = new IdentityHashMap<>(rules.size());
+    for (Rule<?> rule : rules) {
+      snapshot.put(rule, profiles.get(rule.getId()));
+    }
+    Comparator<Rule<?>> ruleOrder = Comparator.comparing(snapshot::get, Comparator.nullsFirst(order));
+    List<Rule<?>> result = new ArrayList<>(rules);
+    result.sort(ruleOrder);
+    return result;
+  }
+
+  @Override
+  public void recordExecution(Rule<?> rule, Result result, long nanos) {
+    double failed = result != null && result.isFailed() ? 1.0 : 0.0;
+    profiles.compute(rule.getId(), (id, profile) -> profile == null
+        ? new Profile(nanos, failed, 1)
+        : new Profile(
+            profile.averageNanos() + smoothingFactor * (nanos - profile.averageNanos()),
+            profile.failureProbability() + smoothingFactor * (failed - profile.failureProbability()),
+            profile.samples() + 1));
+  }
+
+  /**
+   * Gets the {@link Profile} of the {@link Rule} with the given id.
+   *
+   * @param ruleId The id of the {@code Rule}
+   * @return The {@code Profile}, {@code null} if there is none
+   */
+  public Profile getProfile(String ruleId) {
+    return profiles.get(ruleId);
+  }
+
+  /**
+   * Removes all {@link Profile Profiles}.
+   */
+  public void clear() {
+    profiles.clear();
+  }
+
+  /**
+   * Saves the {@link Profile Profiles} to the given file.
+   *
+   * @param file The file to write to
+   * @throws IOException If writing fails
+   * @see #load(java.nio.file.Path)
+   */
+  public void save(java.nio.file.Path file) throws IOException {
+    Properties properties = new Properties();
+    profiles.forEach((id, profile) -> properties.setProperty(id,
+        profile.averageNanos() + "," + profile.failureProbability() + "," + profile.samples()));
+    try (OutputStream out = Files.newOutputStream(file)) {
+      properties.store(out, "Rule profiles");
+    }
+  }
+
+  /**
+   * Loads the {@link Profile Profiles} from the given file.
+   * <p>
+   * The loaded {@code Profiles} replace the ones of the same {@link Rule Rules}, the others are kept.
+   *
+   * @param file The file to read from
+   * @throws IOException If reading fails or the file has an invalid format
+   * @see #save(java.nio.file.Path)
+   */
+  public void load(java.nio.file.Path file) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(file)) {
+      properties.load(in);
+    }
+    for (String id : properties.stringPropertyNames()) {
+      String[] parts = properties.getProperty(id).split(",");
+      try {
+        profiles.put(id, new Profile(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]), Long.parseLong(parts[2])));
+      } catch (RuntimeException e) {
+        throw new IOException("Invalid profile for rule '" + id + "' in " + file, e);
+      }
+    }
+  }
+
+  /**
+   * The observed costs of a {@link Rule}.
+   *
+   * @param averageNanos       The moving average of the execution time in nanoseconds
+   * @param failureProbability The moving average of the failure probability, between 0 and 1
+   * @param samples            The number of executions observed
+   */
+  public record Profile(double averageNanos, double failureProbability, long samples) {
+
+    /**
+     * Constructor.
+     *
+     * @param averageNanos       The moving average of the execution time in nanoseconds
+     * @param failureProbability The moving average of the failure probability, between 0 and 1
+     * @param samples            The number of executions observed
+     */
+    public Profile {
+      if (samples < 0) {
+        throw new IllegalArgumentException("samples must not be negative");
+      }
+    }
+  }
+}
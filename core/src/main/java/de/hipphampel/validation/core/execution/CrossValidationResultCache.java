@@ -0,0 +1,288 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.event.Event;
+import de.hipphampel.validation.core.event.EventListener;
+import de.hipphampel.validation.core.event.EventSubscriber;
+import de.hipphampel.validation.core.event.WeakEventListener;
+import de.hipphampel.validation.core.event.payloads.RulesChangedPayload;
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.rule.ForwardingRule;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.SystemResultReason;
+import de.hipphampel.validation.core.rule.SystemResultReason.Code;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache for {@link Result Results} of {@link Rule} executions that is shared between validations.
+ * <p>
+ * Unlike the {@link RuleResultCache}, which lives only during one validation, this cache keeps the results of rule executions across
+ * several calls of {@code Validator.validate}, so that revalidating an object that has not changed does not execute its rules again. It
+ * is keyed by the id of the rule, the {@link Path} of the facts, and a key that is provided by a {@link FactKeyExtractor}. Facts for which
+ * the {@code FactKeyExtractor} returns {@code null} are not cached, the same applies to {@link ForwardingRule ForwardingRules}, since
+ * their results depend on the execution of other rules. Results having a {@link SystemResultReason} are only cached, if they do not depend
+ * on the circumstances of the execution, so failures due to exceptions, timeouts or rejections are never cached.
+ * <p>
+ * It is the responsibility of the {@code FactKeyExtractor} to return keys only for facts whose rule results depend on nothing else than
+ * the facts themselves, so not on the parent facts or validation parameters, for example.
+ * <p>
+ * The number of entries is limited, the least recently used entries are evicted first; for larger caches, this is only approximated, since
+ * the entries are distributed over several independently locked segments to reduce lock contention. In addition, entries might expire after a time to
+ * live. Since the results depend on the rules, the cache should be {@linkplain #subscribeTo(EventSubscriber) subscribed} to the
+ * {@link de.hipphampel.validation.core.provider.RuleRepository RuleRepository}, so that it is invalidated when a
+ * {@link RulesChangedPayload} is published. The {@code ValidatorBuilder} does so automatically. If the repository does not publish its
+ * changes, {@link #invalidateAll()} must be called after changing the rules.
+ * <p>
+ * The cache is used by the {@link DefaultRuleExecutor}, if it is available as a shared extension in the {@link ValidationContext}.
+ *
+ * @see FactKeyExtractor
+ */
+public class CrossValidationResultCache {
+
+  private static final int MAX_SEGMENTS = 16;
+  private static final long MIN_SEGMENT_SIZE = 64;
+
+  private final FactKeyExtractor factKeyExtractor;
+  private final long maxSize;
+  private final long timeToLiveNanos;
+  private final Segment[] segments;
+  private final AtomicLong generation = new AtomicLong();
+  private final EventListener listener = this::onEvent;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an instance whose entries do not expire.
+   *
+   * @param factKeyExtractor The {@link FactKeyExtractor}
+   * @param maxSize          The maximum number of entries
+   */
+  public CrossValidationResultCache(FactKeyExtractor factKeyExtractor, long maxSize) {
+    this(factKeyExtractor, maxSize, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param factKeyExtractor The {@link FactKeyExtractor}
+   * @param maxSize          The maximum number of entries
+   * @param timeToLive       The time to live of an entry, {@code null} if entries do not expire
+   */
+  public CrossValidationResultCache(FactKeyExtractor factKeyExtractor, long maxSize, Duration timeToLive) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive");
+    }
+    this.factKeyExtractor = Objects.requireNonNull(factKeyExtractor);
+    this.maxSize = maxSize;
+    this.timeToLiveNanos = timeToLive == null ? 0 : timeToLive.toNanos();
+    int segmentCount = 1;
+    while (segmentCount < MAX_SEGMENTS && maxSize / (segmentCount * 2L) >= MIN_SEGMENT_SIZE) {
+      segmentCount *= 2;
+    }
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new Segment(maxSize / segmentCount);
+    }
+  }
+
+  /**
+   * Gets the maximum number of entries.
+   *
+   * @return The maximum number of entries
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Gets the result for the given {@code rule}, {@code facts}, and {@code path} from the cache or computes it.
+   * <p>
+   * If the {@code rule} or the {@code facts} are not cacheable, this simply calls {@code computation}. Otherwise, if there is no valid entry
+   * yet, {@code computation} is called and its result is put into the cache once it is available.
+   *
+   * @param rule        The {@link Rule}
+   * @param facts       The facts being validated
+   * @param path        The {@link Path} of the {@code facts}
+   * @param computation Starts the computation of the {@link Result}
+   * @return A {@link CompletableFuture} providing the result
+   */
+  public CompletableFuture<Result> getOrCompute(Rule<?> rule, Object facts, Path path,
+      Supplier<CompletableFuture<Result>> computation) {
+    if (rule instanceof ForwardingRule<?>) {
+      return computation.get();
+    }
+    Object factKey = factKeyExtractor.extractKey(facts);
+    if (factKey == null) {
+      return computation.get();
+    }
+    Key key = new Key(rule.getId(), factKey, path);
+    Segment segment = segmentFor(key);
+    Result result = segment.get(key);
+    if (result != null) {
+      hits.increment();
+      return CompletableFuture.completedFuture(result);
+    }
+    misses.increment();
+    // A computation started before the rules changed must not put its result afterwards
+    long startGeneration = generation.get();
+    return computation.get().whenComplete((r, e) -> {
+      if (r != null && isCacheable(r)) {
+        segment.put(key, r, startGeneration);
+      }
+    });
+  }
+
+  /**
+   * Removes all entries.
+   * <p>
+   * This is called automatically, when a {@link RulesChangedPayload} is published by an {@link EventSubscriber} this instance is
+   * {@linkplain #subscribeTo(EventSubscriber) subscribed} to.
+   */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  /**
+   * Subscribes this instance to the given {@code subscriber}.
+   * <p>
+   * Whenever the {@code subscriber} publishes a {@link RulesChangedPayload}, this cache is {@linkplain #invalidateAll() invalidated}. The
+   * subscription does not prevent this instance from being garbage collected.
+   *
+   * @param subscriber The {@link EventSubscriber}, typically a {@code RuleRepository}
+   */
+  public void subscribeTo(EventSubscriber subscriber) {
+    subscriber.subscribe(new WeakEventListener(listener));
+  }
+
+  /**
+   * Gets the current number of entries.
+   *
+   * @return The number of entries
+   */
+  public long size() {
+    long size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * Gets the {@link RuleResultCache.Statistics} of this instance.
+   *
+   * @return The {@code Statistics}
+   */
+  public RuleResultCache.Statistics getStatistics() {
+    return new RuleResultCache.Statistics(hits.sum(), misses.sum(), evictions.sum(), size());
+  }
+
+  private Segment segmentFor(Key key) {
+    int hash = key.hashCode();
+    return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+  }
+
+  private static boolean isCacheable(Result result) {
+    // Results caused by the circumstances of the execution, such as timeouts or rejections, must not be replayed in other validations
+    if (!(result.reason() instanceof SystemResultReason reason)) {
+      return true;
+    }
+    return reason.code() == Code.PreconditionNotMet || reason.code() == Code.FactTypeDoesNotMatchRuleType;
+  }
+
+  private void onEvent(Event<?> event) {
+    if (event.payload() instanceof RulesChangedPayload) {
+      invalidateAll();
+    }
+  }
+
+  private record Key(String ruleId, Object factKey, Path path) {
+
+  }
+
+  private record Entry(Result result, long createdNanos) {
+
+  }
+
+  /**
+   * Part of the cache with its own lock, so that concurrent lookups of different keys usually do not contend.
+   */
+  private class Segment {
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    Segment(long maxSize) {
+      this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+          if (size() > maxSize) {
+            evictions.increment();
+            return true;
+          }
+          return false;
+        }
+      };
+    }
+
+    synchronized Result get(Key key) {
+      Entry entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (timeToLiveNanos > 0 && System.nanoTime() - entry.createdNanos() > timeToLiveNanos) {
+        entries.remove(key);
+        evictions.increment();
+        return null;
+      }
+      return entry.result();
+    }
+
+    synchronized void put(Key key, Result result, long expectedGeneration) {
+      if (generation.get() == expectedGeneration) {
+        entries.put(key, new Entry(result, System.nanoTime()));
+      }
+    }
+
+    synchronized void clear() {
+      entries.clear();
+    }
+
+    synchronized int size() {
+      return entries.size();
+    }
+  }
+}
@@ -22,18 +22,23 @@
  */
 package de.hipphampel.validation.core.execution;
 
-import de.hipphampel.validation.core.path.Resolvable;
+import de.hipphampel.validation.core.condition.Condition;
+import de.hipphampel.validation.core.event.EventPublisher;
+import de.hipphampel.validation.core.event.payloads.RuleResultCacheStatisticsPayload;
+import de.hipphampel.validation.core.rule.AsyncRule;
 import de.hipphampel.validation.core.rule.Result;
 import de.hipphampel.validation.core.rule.Rule;
 import de.hipphampel.validation.core.rule.SystemResultReason;
 import de.hipphampel.validation.core.rule.SystemResultReason.Code;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,11 +48,29 @@ import org.slf4j.LoggerFactory;
  * This implementation extends the {@link SimpleRuleExecutor} regarding two central aspects:
  * <ul>
  *   <li>Rule execution is done in an real asynchronous fashion; all rule executions are done
- *   by utilizing the associated {@link Executor}, with is a {@link ForkJoinPool} by default.</li>
- *   <li>It caches the results of {@link Rule} executions. The lifetime of the cache is bound to
+ *   by utilizing the associated {@link Executor}, with is a {@link ForkJoinPool} by default. {@link AsyncRule AsyncRules},
+ *   such as the {@code SelectorRule} or {@code DispatchingRule}, do not block a thread of the {@code Executor} while waiting for the
+ *   rules they forward to, so even an {@code Executor} with a small number of threads cannot run into a deadlock.</li>
+ *   <li>It caches the results of {@link Rule} executions in a {@link RuleResultCache}. The lifetime of the cache is bound to
  *   the {@link ValidationContext}. The {@code ValidationContext} is usually constructed for each
- *   validation of an object and lives until all rules of the objects are executed.</li>
+ *   validation of an object and lives until all rules of the objects are executed. The cache might be bounded by a maximum size;
+ *   its statistics are published via a {@link RuleResultCacheStatisticsPayload} when the validation is finished. In addition, if the
+ *   {@code ValidationContext} has a {@link CrossValidationResultCache} as shared extension, results are also looked up there, so
+ *   that they can be reused across validations.</li>
+ *   <li>If caching is enabled, the outcome of the preconditions is memoized per object in a {@link ConditionCache}, so that a
+ *   precondition shared by several {@code Rules} is evaluated only once.</li>
  * </ul>
+ * In {@linkplain ValidationContext#isFailFast() fail-fast mode}, executions that are already scheduled, but not started yet when the
+ * validation is aborted, skip the rule. Since results of an aborted validation are incomplete, the {@code CrossValidationResultCache} is
+ * not used in this mode.
+ * <p>
+ * If the validation has a {@linkplain ValidationContext#isDeadlineExceeded() deadline}, the future of a rule execution is completed with a
+ * {@code Timeout} result as soon as the deadline is exceeded, even if the {@code Rule} is still running; executions not started yet do not
+ * start the {@code Rule} at all. For the same reason as above, the {@code CrossValidationResultCache} is not used in this case.
+ * <p>
+ * {@code Rules} might be isolated from each other by assigning them to {@link Bulkhead Bulkheads}, which are provided by a
+ * {@link BulkheadRegistry} in the {@code ValidationContext}; such {@code Rules} are executed by their {@code Bulkhead} instead of the
+ * {@code Executor} of this instance.
  *
  * @see ValidationContext
  * @see SimpleRuleExecutor
@@ -57,6 +80,7 @@ public class DefaultRuleExecutor extends SimpleRuleExecutor {
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultRuleExecutor.class);
   private final Executor executor;
   private final boolean caching;
+  private final long maxCacheSize;
 
   /**
    * Default constructor,
@@ -87,8 +111,23 @@ public class DefaultRuleExecutor extends SimpleRuleExecutor {
    * @param caching  Flag indicating whether or not caching rule results.
    */
   public DefaultRuleExecutor(Executor executor, boolean caching) {
+    this(executor, caching, 0);
+  }
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an instance backed by the given {@link Executor}
+   *
+   * @param executor     The {@code Executor}
+   * @param caching      Flag indicating whether or not caching rule results.
+   * @param maxCacheSize The maximum number of entries of the {@link RuleResultCache} per validation; if less or equal to zero, the cache
+   *                     is unbounded
+   */
+  public DefaultRuleExecutor(Executor executor, boolean caching, long maxCacheSize) {
     this.executor = Objects.requireNonNull(executor);
     this.caching = caching;
+    this.maxCacheSize = maxCacheSize;
   }
 
   @Override
@@ -115,35 +154,131 @@ public class DefaultRuleExecutor extends SimpleRuleExecutor {
   public CompletableFuture<Result> validateAsync(ValidationContext context, Rule<?> rule,
       Object facts) {
     ValidationContext localContext = context.copy();
+    Result notExecuted = prepareExecution(localContext, rule);
+    if (notExecuted != null) {
+      return CompletableFuture.completedFuture(addRuleResultToReporter(localContext, rule, facts, notExecuted));
+    }
     CompletableFuture<Result> result;
     if (caching) {
-      RuleResultCache cache = localContext.getOrCreateSharedExtension(
-          RuleResultCache.class,
-          type -> new RuleResultCache());
-      result = cache.getOrCompute(localContext, rule, facts);
+      RuleResultCache cache = getResultCache(localContext).orElseThrow();
+      result = cache.getOrCompute(rule, facts, localContext.getCurrentPath(),
+          () -> withDeadline(localContext, rule, executeCrossCachedAsync(localContext, rule, facts)));
     } else {
-      result = CompletableFuture.supplyAsync(() -> doValidate(localContext, rule, facts), executor);
+      result = withDeadline(localContext, rule, executeCrossCachedAsync(localContext, rule, facts));
     }
     return result
         .thenApply(r -> addRuleResultToReporter(localContext, rule, facts, r));
 
   }
 
-  private class RuleResultCache {
-
-    private final Map<Resolvable, Map<Rule<?>, CompletableFuture<Result>>> cache = new ConcurrentHashMap<>();
-
-    public CompletableFuture<Result> getOrCompute(ValidationContext context,
-        Rule<?> rule,
-        Object facts) {
-      Resolvable resolvable = new Resolvable(facts, context.getCurrentPath());
-      Map<Rule<?>, CompletableFuture<Result>> resultMap = cache.computeIfAbsent(
-          resolvable,
-          ignore -> new ConcurrentHashMap<>());
-      return resultMap.computeIfAbsent(
-          rule,
-          ignore -> CompletableFuture.supplyAsync(() -> doValidate(context, rule, facts),
-              executor));
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If caching is enabled, the {@code RuleResultCache} is bound to the {@code ValidationContext} and limited to the maximum cache size
+   * passed to the constructor.
+   *
+   * @param context The {@code ValidationContext} of the validation
+   * @return The {@code RuleResultCache}, empty if caching is disabled
+   */
+  @Override
+  public Optional<RuleResultCache> getResultCache(ValidationContext context) {
+    if (!caching) {
+      return Optional.empty();
+    }
+    return Optional.of(context.getOrCreateSharedExtension(RuleResultCache.class, type -> new RuleResultCache(maxCacheSize)));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation publishes the {@link RuleResultCache.Statistics} of the {@link RuleResultCache} used by the validation, if any.
+   *
+   * @param context The {@code ValidationContext}
+   */
+  @Override
+  public void validationFinished(ValidationContext context) {
+    EventPublisher publisher = context.getEventPublisher();
+    if (publisher != null && context.knowsSharedExtension(RuleResultCache.class)) {
+      RuleResultCache cache = context.getSharedExtension(RuleResultCache.class);
+      publisher.publish(this, new RuleResultCacheStatisticsPayload(context.getRootFacts(), cache.getStatistics()));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If caching is enabled, the outcome of the {@code condition} is memoized in a {@link ConditionCache} bound to the
+   * {@code ValidationContext}, so that a precondition shared by several {@code Rules} is evaluated only once per object.
+   *
+   * @param context   The {@link ValidationContext}
+   * @param condition The {@link Condition} to check
+   * @param facts     The object being validated
+   * @return {@code true}, if the {@code condition} is met
+   */
+  @Override
+  protected boolean checkPrecondition(ValidationContext context, Condition condition, Object facts) {
+    if (!caching) {
+      return super.checkPrecondition(context, condition, facts);
+    }
+    return context.getOrCreateSharedExtension(ConditionCache.class, type -> new ConditionCache())
+        .evaluate(context, condition, facts);
+  }
+
+  private CompletableFuture<Result> withDeadline(ValidationContext context, Rule<?> rule, CompletableFuture<Result> future) {
+    if (future.isDone()) {
+      return future;
+    }
+    return context.getRemainingTime()
+        .map(remaining -> future.completeOnTimeout(timeoutResult(rule), remaining.toNanos(), TimeUnit.NANOSECONDS))
+        .orElse(future);
+  }
+
+  private CompletableFuture<Result> executeCrossCachedAsync(ValidationContext context, Rule<?> rule, Object facts) {
+    if (!context.isFailFast() && context.getRemainingTime().isEmpty() && context.knowsSharedExtension(CrossValidationResultCache.class)) {
+      return context.getSharedExtension(CrossValidationResultCache.class)
+          .getOrCompute(rule, facts, context.getCurrentPath(), () -> executeAsync(context, rule, facts));
+    }
+    return executeAsync(context, rule, facts);
+  }
+
+  /**
+   * Schedules the execution of the {@code rule} for the given {@code facts}.
+   * <p>
+   * This is called for each rule execution that is not served by the cache. This implementation executes the rule via
+   * {@link #doValidateAsync(ValidationContext, Rule, Object) doValidateAsync} using the {@link Executor} of this instance, or the
+   * {@linkplain #getBulkhead(ValidationContext, Rule) Bulkhead} of the rule, if any. If the rule is rejected, the result has the code
+   * {@code ExecutionRejected}. Since
+   * {@link AsyncRule AsyncRules} just return a future, no thread of the {@code Executor} is blocked while such a rule waits for the
+   * rules it forwards to.
+   *
+   * @param context The {@code ValidationContext}, exclusively used for this execution
+   * @param rule    The {@code Rule} to execute
+   * @param facts   The object to be validated
+   * @return A {@link CompletableFuture} providing the {@link Result}
+   */
+  protected CompletableFuture<Result> executeAsync(ValidationContext context, Rule<?> rule, Object facts) {
+    Executor ruleExecutor = getBulkhead(context, rule).map(Executor.class::cast).orElse(executor);
+    try {
+      return CompletableFuture.supplyAsync(() -> doValidateAsync(context, rule, facts), ruleExecutor)
+          .thenCompose(Function.identity());
+    } catch (RejectedExecutionException e) {
+      return CompletableFuture.completedFuture(Result.failed(new SystemResultReason(Code.ExecutionRejected, e.getMessage())));
+    }
+  }
+
+  /**
+   * Gets the {@link Bulkhead} for executing the {@code rule}.
+   * <p>
+   * The {@code Bulkhead} is looked up in the {@link BulkheadRegistry}, if available as shared extension in the {@code context}.
+   *
+   * @param context The {@code ValidationContext}
+   * @param rule    The {@code Rule} to execute
+   * @return The {@code Bulkhead}, empty, if the {@code rule} is executed by the {@code Executor} of this instance
+   */
+  protected Optional<Bulkhead> getBulkhead(ValidationContext context, Rule<?> rule) {
+    if (!context.knowsSharedExtension(BulkheadRegistry.class)) {
+      return Optional.empty();
     }
+    return context.getSharedExtension(BulkheadRegistry.class).getBulkhead(rule);
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.condition.RuleCondition;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.rule.DispatchingRule;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.SelectorRule;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable execution plan for validating objects of a specific type with the {@link Rule Rules} selected by a {@link RuleSelector}.
+ * <p>
+ * An {@code ExecutionPlan} is compiled by the {@link ExecutionPlanner}. It contains the {@code Rules} the {@code selector} selects for
+ * objects of exactly the type {@code factsType} and the graph of the {@code Rules} reachable from them: each {@link Node} represents a
+ * {@code Rule} and is identified by the rule id; its {@link Edge Edges} point to the {@code Rules} it might execute, be it via a
+ * {@link DispatchingRule}, a {@link SelectorRule} or a {@link RuleCondition} used as precondition.
+ * <p>
+ * Since the objects reached via a path are only known when the validation runs, the targets of an edge are candidates: they are the
+ * {@code Rules} selected for objects of any type, the actual selection at runtime might be a subset of them. If a selector or the paths
+ * of an edge cannot be determined in advance, they are reported as {@code null}. {@link #explain()} renders the plan in a human readable
+ * form.
+ *
+ * @param selector  The {@code RuleSelector} the plan is compiled for
+ * @param factsType The type of the objects the plan is compiled for, {@code null} for {@code null} objects
+ * @param rules     The {@code Rules} the {@code selector} selects for {@code factsType}
+ * @param nodes     The {@code Nodes} of the plan by rule id, in the order of their discovery
+ * @see ExecutionPlanner
+ */
+public record ExecutionPlan(RuleSelector selector, Class<?> factsType, List<? extends Rule<?>> rules, Map<String, Node> nodes) {
+
+  /**
+   * Constructor.
+   *
+   * @param selector  The {@code RuleSelector} the plan is compiled for
+   * @param factsType The type of the objects the plan is compiled for, {@code null} for {@code null} objects
+   * @param rules     The {@code Rules} the {@code selector} selects for {@code factsType}
+   * @param nodes     The {@code Nodes} of the plan by rule id, in the order of their discovery
+   */
+  public ExecutionPlan {
+    Objects.requireNonNull(selector);
+    rules = List.copyOf(rules);
+    nodes = Objects.requireNonNull(nodes);
+  }
+
+  /**
+   * Renders this plan in a human readable form.
+   * <p>
+   * The output lists the selected {@link Rule Rules} first, followed by the {@code Rules} that are reachable from them. Each rule id is
+   * followed by the {@link Edge Edges} of its {@link Node}.
+   *
+   * @return The explanation
+   */
+  public String explain() {
+    StringBuilder buffer = new StringBuilder()
+        .append("Execution plan for ")
+        .append(factsType == null ? "null" : factsType.getName())
+        .append(" using ")
+        .append(selector)
+        .append('\n');
+    appendNodes(buffer, "Selected rules", rules.stream().map(Rule::getId).toList());
+    appendNodes(buffer, "Reachable rules", nodes.keySet().stream()
+        .filter(id -> rules.stream().noneMatch(rule -> rule.getId().equals(id)))
+        .toList());
+    return buffer.toString();
+  }
+
+  private void appendNodes(StringBuilder buffer, String title, List<String> ids) {
+    buffer.append(title).append(" (").append(ids.size()).append("):\n");
+    for (String id : ids) {
+      buffer.append("  ").append(id).append('\n');
+      for (Edge edge : nodes.get(id).edges()) {
+        buffer.append("    ").append(edge).append('\n');
+      }
+    }
+  }
+
+  /**
+   * The kind of an {@link Edge}.
+   */
+  public enum EdgeType {
+    /**
+     * The {@link Rule} dispatches to other {@code Rules} for the objects matching some paths, see {@link DispatchingRule}.
+     */
+    DISPATCH,
+
+    /**
+     * The {@link Rule} forwards to other {@code Rules} for the same object, see {@link SelectorRule}.
+     */
+    SELECTION,
+
+    /**
+     * A precondition of the {@link Rule} executes other {@code Rules}, see {@link RuleCondition}.
+     */
+    PRECONDITION
+  }
+
+  /**
+   * A node of an {@link ExecutionPlan}.
+   *
+   * @param rule  The {@link Rule} represented by this node
+   * @param edges The {@link Edge Edges} to the {@code Rules} this {@code Rule} might execute
+   */
+  public record Node(Rule<?> rule, List<Edge> edges) {
+
+    /**
+     * Constructor.
+     *
+     * @param rule  The {@link Rule} represented by this node
+     * @param edges The {@link Edge Edges} to the {@code Rules} this {@code Rule} might execute
+     */
+    public Node {
+      Objects.requireNonNull(rule);
+      edges = List.copyOf(edges);
+    }
+  }
+
+  /**
+   * An edge of an {@link ExecutionPlan}.
+   *
+   * @param type    The {@link EdgeType}
+   * @param paths   The paths leading to the objects the {@code targets} are executed for; empty if executed for the same object,
+   *                {@code null} if the paths are determined at runtime
+   * @param targets The ids of the candidate {@link Rule Rules}, {@code null} if they are determined at runtime
+   */
+  public record Edge(EdgeType type, Set<String> paths, List<String> targets) {
+
+    /**
+     * Constructor.
+     *
+     * @param type    The {@link EdgeType}
+     * @param paths   The paths leading to the objects the {@code targets} are executed for; empty if executed for the same object,
+     *                {@code null} if the paths are determined at runtime
+     * @param targets The ids of the candidate {@link Rule Rules}, {@code null} if they are determined at runtime
+     */
+    public Edge {
+      Objects.requireNonNull(type);
+      paths = paths == null ? null : Set.copyOf(paths);
+      targets = targets == null ? null : List.copyOf(targets);
+    }
+
+    @Override
+    public String toString() {
+      String via = paths == null ? " <runtime paths>" : paths.isEmpty() ? "" : " " + paths.stream().sorted().toList();
+      return type.name().toLowerCase() + via + " -> " + (targets == null ? "<runtime selection>" : String.join(", ", targets));
+    }
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.condition.AndCondition;
+import de.hipphampel.validation.core.condition.Condition;
+import de.hipphampel.validation.core.condition.NotCondition;
+import de.hipphampel.validation.core.condition.OrCondition;
+import de.hipphampel.validation.core.condition.RuleCondition;
+import de.hipphampel.validation.core.condition.XorCondition;
+import de.hipphampel.validation.core.event.Event;
+import de.hipphampel.validation.core.event.EventListener;
+import de.hipphampel.validation.core.event.WeakEventListener;
+import de.hipphampel.validation.core.event.payloads.RulesChangedPayload;
+import de.hipphampel.validation.core.execution.ExecutionPlan.Edge;
+import de.hipphampel.validation.core.execution.ExecutionPlan.EdgeType;
+import de.hipphampel.validation.core.execution.ExecutionPlan.Node;
+import de.hipphampel.validation.core.provider.RuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.rule.DispatchingRule;
+import de.hipphampel.validation.core.rule.DispatchingRule.DispatchEntry;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.SelectorRule;
+import de.hipphampel.validation.core.value.ConstantValue;
+import de.hipphampel.validation.core.value.Value;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Compiles and caches {@link ExecutionPlan ExecutionPlans} for the {@link Rule Rules} of a {@link RuleRepository}.
+ * <p>
+ * For a given {@link RuleSelector} and type of the object being validated, the {@link #plan(RuleSelector, Class) plan} method compiles
+ * an {@code ExecutionPlan} once and returns the cached instance afterwards. This is possible if the {@code RuleSelector}
+ * {@linkplain RuleSelector#selectRulesForType(RuleRepository, Class) supports the selection in advance}, which is the case for a
+ * {@link de.hipphampel.validation.core.provider.SimpleRuleSelector SimpleRuleSelector} with constant rule ids.
+ * <p>
+ * If an {@code ExecutionPlanner} is available as shared extension of the {@link ValidationContext}, the {@link RuleExecutor} selects
+ * the {@code Rules} via {@link #selectRules(ValidationContext, RuleSelector, Object) selectRules}, so that every validation of an
+ * object of the same type - including the objects a {@link DispatchingRule} dispatches to - reuses the plan instead of selecting the
+ * {@code Rules} again. Use {@link de.hipphampel.validation.core.ValidatorBuilder#withExecutionPlanner(ExecutionPlanner)} to install it.
+ * <p>
+ * The plans are discarded when the {@code RuleRepository} publishes a {@link RulesChangedPayload}. Repositories not publishing their
+ * changes, like an {@link de.hipphampel.validation.core.provider.InMemoryRuleRepository InMemoryRuleRepository} created without a
+ * {@link de.hipphampel.validation.core.event.SubscribableEventPublisher SubscribableEventPublisher}, require to call
+ * {@link #invalidate()} after changing the rules.
+ *
+ * @see ExecutionPlan
+ */
+public class ExecutionPlanner {
+
+  private final EventListener listener = this::onEvent;
+  private final RuleRepository repository;
+  private volatile Map<PlanKey, Optional<ExecutionPlan>> plans = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param repository The {@link RuleRepository} to compile the plans for
+   */
+  public ExecutionPlanner(RuleRepository repository) {
+    this.repository = Objects.requireNonNull(repository);
+    repository.subscribe(new WeakEventListener(listener));
+  }
+
+  /**
+   * Gets the {@link RuleRepository} the plans are compiled for.
+   *
+   * @return The {@code RuleRepository}
+   */
+  public RuleRepository getRepository() {
+    return repository;
+  }
+
+  /**
+   * Gets the {@link ExecutionPlan} for validating objects of exactly the type {@code factsType} with the {@link Rule Rules} selected by
+   * {@code selector}.
+   * <p>
+   * The plan is compiled on the first call and cached afterwards.
+   *
+   * @param selector  The {@link RuleSelector}
+   * @param factsType The type of the objects, {@code null} for {@code null} objects
+   * @return {@code Optional} containing the plan, empty if the {@code selector} does not support the selection in advance
+   */
+  public Optional<ExecutionPlan> plan(RuleSelector selector, Class<?> factsType) {
+    Map<PlanKey, Optional<ExecutionPlan>> currentPlans = plans;
+    PlanKey key = new PlanKey(selector, factsType);
+    Optional<ExecutionPlan> plan = currentPlans.get(key);
+    if (plan == null) {
+      plan = compile(selector, factsType);
+      Optional<ExecutionPlan> existing = currentPlans.putIfAbsent(key, plan);
+      plan = existing == null ? plan : existing;
+    }
+    return plan;
+  }
+
+  /**
+   * Selects the {@link Rule Rules} to validate {@code facts} with.
+   * <p>
+   * If the {@code context} uses the {@link RuleRepository} of this instance and there is an {@link ExecutionPlan} for the
+   * {@code selector} and the type of the {@code facts}, the {@code Rules} of the plan are returned. Otherwise, the {@code selector} is
+   * asked.
+   *
+   * @param context  The {@link ValidationContext}
+   * @param selector The {@link RuleSelector}
+   * @param facts    The object being validated
+   * @return The list of {@code Rules}
+   */
+  public List<? extends Rule<?>> selectRules(ValidationContext context, RuleSelector selector, Object facts) {
+    if (context.getRuleProvider() == repository) {
+      Optional<ExecutionPlan> plan = plan(selector, facts == null ? null : facts.getClass());
+      if (plan.isPresent()) {
+        return plan.get().rules();
+      }
+    }
+    return selector.selectRules(context.getRuleProvider(), context, facts);
+  }
+
+  /**
+   * Discards all cached {@link ExecutionPlan ExecutionPlans}.
+   */
+  public void invalidate() {
+    plans = new ConcurrentHashMap<>();
+  }
+
+  private void onEvent(Event<?> event) {
+    if (event.payload() instanceof RulesChangedPayload) {
+      invalidate();
+    }
+  }
+
+  private Optional<ExecutionPlan> compile(RuleSelector selector, Class<?> factsType) {
+    return selector.selectRulesForType(repository, factsType)
+        .map(rules -> new ExecutionPlan(selector, factsType, rules, compileNodes(rules)));
+  }
+
+  private Map<String, Node> compileNodes(List<? extends Rule<?>> rules) {
+    Map<String, Node> nodes = new LinkedHashMap<>();
+    Deque<Rule<?>> pending = new ArrayDeque<>(rules);
+    while (!pending.isEmpty()) {
+      Rule<?> rule = pending.poll();
+      if (nodes.containsKey(rule.getId())) {
+        continue;
+      }
+      List<Edge> edges = new ArrayList<>();
+      if (rule instanceof DispatchingRule<?> dispatchingRule) {
+        for (DispatchEntry entry : dispatchingRule.getDispatchList()) {
+          edges.add(compileEdge(EdgeType.DISPATCH, constantOf(entry.paths()), entry.rules(), pending));
+        }
+      }
+      if (rule instanceof SelectorRule<?> selectorRule) {
+        edges.add(compileEdge(EdgeType.SELECTION, Set.of(), selectorRule.getSelector(), pending));
+      }
+      rule.getPreconditions().stream()
+          .flatMap(ExecutionPlanner::ruleConditionsOf)
+          .forEach(condition -> {
+            // A RuleCondition without paths executes the rules for the same object
+            Set<String> paths = condition.paths() instanceof ConstantValue<Set<String>> constant
+                ? Objects.requireNonNullElse(constant.value(), Set.of())
+                : null;
+            edges.add(compileEdge(EdgeType.PRECONDITION, paths, constantOf(condition.ruleSelector()), pending));
+          });
+      nodes.put(rule.getId(), new Node(rule, edges));
+    }
+    return Collections.unmodifiableMap(nodes);
+  }
+
+  private Edge compileEdge(EdgeType type, Set<String> paths, RuleSelector selector, Deque<Rule<?>> pending) {
+    List<? extends Rule<?>> targets = selector == null ? null : selector.selectRulesForType(repository, null).orElse(null);
+    if (targets == null) {
+      return new Edge(type, paths, null);
+    }
+    pending.addAll(targets);
+    return new Edge(type, paths, targets.stream().map(Rule::getId).toList());
+  }
+
+  private static Stream<RuleCondition> ruleConditionsOf(Condition condition) {
+    if (condition instanceof RuleCondition ruleCondition) {
+      return Stream.of(ruleCondition);
+    } else if (condition instanceof AndCondition andCondition) {
+      return andCondition.conditions().getStream().flatMap(ExecutionPlanner::ruleConditionsOf);
+    } else if (condition instanceof OrCondition orCondition) {
+      return orCondition.conditions().getStream().flatMap(ExecutionPlanner::ruleConditionsOf);
+    } else if (condition instanceof XorCondition xorCondition) {
+      return xorCondition.conditions().getStream().flatMap(ExecutionPlanner::ruleConditionsOf);
+    } else if (condition instanceof NotCondition notCondition) {
+      return notCondition.conditions().getStream().flatMap(ExecutionPlanner::ruleConditionsOf);
+    }
+    return Stream.empty();
+  }
+
+  private static <T> T constantOf(Value<T> value) {
+    return value instanceof ConstantValue<T> constant ? constant.value() : null;
+  }
+
+  private record PlanKey(RuleSelector selector, Class<?> factsType) {
+
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+/**
+ * Extracts the key of an object being validated for the {@link CrossValidationResultCache}.
+ * <p>
+ * The key identifies the state of the facts: two facts having the same key are considered to produce the same validation results. So a
+ * typical key is a combination of a technical id and a version or a hash of the content. If facts cannot be identified this way, the
+ * extractor returns {@code null}, meaning that the results for these facts are not cached.
+ * <p>
+ * The key must implement {@code equals} and {@code hashCode}.
+ */
+@FunctionalInterface
+public interface FactKeyExtractor {
+
+  /**
+   * Extracts the key for the given {@code facts}.
+   *
+   * @param facts The object being validated
+   * @return The key, or {@code null}, if the results for these {@code facts} must not be cached
+   */
+  Object extractKey(Object facts);
+}
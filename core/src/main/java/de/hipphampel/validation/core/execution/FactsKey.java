@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.path.Path;
+import java.util.Objects;
+
+/**
+ * Key of the caches bound to a validation, consisting of the object the entry belongs to (e.g. a
+ * {@link de.hipphampel.validation.core.rule.Rule Rule}), the facts, and the {@link Path}.
+ * <p>
+ * The facts are compared by identity, so that they are never hashed deeply; only for value like facts (such as strings, numbers, or enums)
+ * {@code equals} is used. Depending on how the key is created, the owners are compared by identity or by {@code equals}.
+ *
+ * @param owner        The object the entry belongs to
+ * @param ownerByValue If {@code true}, the owners are compared by {@code equals}, otherwise by identity
+ * @param facts        The facts
+ * @param path         The {@code Path}
+ * @param hash         The precomputed hash code
+ * @see RuleResultCache
+ * @see ConditionCache
+ */
+record FactsKey(Object owner, boolean ownerByValue, Object facts, Path path, int hash) {
+
+  /**
+   * Creates a key comparing the {@code owner} by identity.
+   *
+   * @param owner The object the entry belongs to
+   * @param facts The facts
+   * @param path  The {@code Path}
+   * @return The key
+   */
+  static FactsKey byIdentity(Object owner, Object facts, Path path) {
+    return new FactsKey(owner, false, facts, path, hash(System.identityHashCode(owner), facts, path));
+  }
+
+  /**
+   * Creates a key comparing the {@code owner} by {@code equals}.
+   *
+   * @param owner The object the entry belongs to
+   * @param facts The facts
+   * @param path  The {@code Path}
+   * @return The key
+   */
+  static FactsKey byValue(Object owner, Object facts, Path path) {
+    return new FactsKey(owner, true, facts, path, hash(owner.hashCode(), facts, path));
+  }
+
+  private static int hash(int ownerHash, Object facts, Path path) {
+    int hash = ownerHash;
+    hash = 31 * hash + (isValueLike(facts) ? Objects.hashCode(facts) : System.identityHashCode(facts));
+    return 31 * hash + Objects.hashCode(path);
+  }
+
+  private static boolean isValueLike(Object facts) {
+    return facts instanceof String || facts instanceof Number || facts instanceof Boolean || facts instanceof Character
+        || facts instanceof Enum<?>;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof FactsKey that) || hash != that.hash || ownerByValue != that.ownerByValue) {
+      return false;
+    }
+    if (owner != that.owner && !(ownerByValue && owner.equals(that.owner))) {
+      return false;
+    }
+    if (facts != that.facts && !(isValueLike(facts) && facts.equals(that.facts))) {
+      return false;
+    }
+    return Objects.equals(path, that.path);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
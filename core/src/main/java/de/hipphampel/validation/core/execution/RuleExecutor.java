@@ -22,13 +22,16 @@
  */
 package de.hipphampel.validation.core.execution;
 
+import de.hipphampel.validation.core.path.CompiledPath;
 import de.hipphampel.validation.core.path.Path;
 import de.hipphampel.validation.core.path.PathResolver;
+import de.hipphampel.validation.core.path.PathVisitor;
 import de.hipphampel.validation.core.provider.RuleSelector;
 import de.hipphampel.validation.core.report.Reporter;
 import de.hipphampel.validation.core.rule.Result;
 import de.hipphampel.validation.core.rule.ResultCode;
 import de.hipphampel.validation.core.rule.Rule;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -53,7 +56,10 @@ import java.util.stream.Stream;
  * {@link ValidationContext}.
  * <p>
  * Based on this single rule execution there are several further methods, that allow to execute
- * multiple {@code Rules} or execute the validation on some sub objects of a given one.
+ * multiple {@code Rules} or execute the validation on some sub objects of a given one. They select
+ * the {@code Rules} via the {@link RuleSelector}, unless an {@link ExecutionPlanner} is available as
+ * shared extension of the {@code ValidationContext}; in this case the {@code Rules} of its
+ * {@link ExecutionPlan ExecutionPlans} are used.
  * <p>
  * This interface has a default implementation for several methods, concrete implementation must
  * implement {@link #validate(ValidationContext, Rule, Object)} and should implement
@@ -136,7 +142,8 @@ public interface RuleExecutor {
    * {@link #validate(ValidationContext, Rule, Object) validate} for each {@code Rule} the
    * {@code selector} selects. The execution is done synchronously, meaning that the method blocks,
    * until the result is computed; but there is no guarantee that the execution is done in the same
-   * thread.
+   * thread. If a {@link RuleScheduler} is available as shared extension, the {@code Rules} are
+   * executed in the order it determines.
    *
    * @param context  The {@code ValidationContext}
    * @param selector The {@link RuleSelector} to use
@@ -146,7 +153,7 @@ public interface RuleExecutor {
    */
   default List<Result> validate(ValidationContext context, RuleSelector selector,
       Object facts) {
-    List<? extends Rule<?>> rules = selector.selectRules(context.getRuleProvider(), context, facts);
+    List<? extends Rule<?>> rules = selectRules(context, selector, facts);
     return rules.stream()
         .map(rule -> validate(context, rule, facts))
         .collect(Collectors.toList());
@@ -284,6 +291,9 @@ public interface RuleExecutor {
    * {@link #validate(ValidationContext, RuleSelector, Object) validate} for each {@code Rule} the
    * {@code selector} selects. The execution of each {@code Rule} is done asynchronously, by calling
    * {@linkplain #validateAsync(ValidationContext, Rule, Object) validateAsync} for each of them.
+   * Once the validation is {@linkplain ValidationContext#isAborted() aborted}, no further {@code Rules} are scheduled.
+   * If a {@link RuleScheduler} is available as shared extension, the {@code Rules} are started in
+   * the order it determines.
    *
    * @param context  The {@code ValidationContext}
    * @param selector The {@link RuleSelector} to use
@@ -293,8 +303,9 @@ public interface RuleExecutor {
    */
   default CompletableFuture<List<Result>> validateAsync(ValidationContext context,
       RuleSelector selector, Object facts) {
-    List<? extends Rule<?>> rules = selector.selectRules(context.getRuleProvider(), context, facts);
+    List<? extends Rule<?>> rules = selectRules(context, selector, facts);
     List<CompletableFuture<Result>> futures = rules.stream()
+        .takeWhile(rule -> !context.isAborted())
         .map(rule -> validateAsync(context, rule, facts))
         .toList();
     return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
@@ -360,17 +371,95 @@ public interface RuleExecutor {
             .collect(Collectors.toList()));
   }
 
+  /**
+   * Asynchronously validates the objects matching the given {@code pattern} for the
+   * {@link Rule Rules} selected by {@code selector}.
+   * <p>
+   * This is effectively the same as calling
+   * {@link #validateForPathsAsync(ValidationContext, RuleSelector, Object, Stream)
+   * validateForPathsAsync} with the {@code Paths} the {@code pattern} resolves to, but the matches
+   * are consumed via {@link CompiledPath#visitPattern(Object, PathVisitor) visitPattern}, so that
+   * they are neither collected nor resolved a second time. Once the validation is
+   * {@linkplain ValidationContext#isAborted() aborted}, the visit is stopped.
+   *
+   * @param context     The {@code ValidationContext}
+   * @param selector    The {@link RuleSelector} to use
+   * @param parentFacts The object containing the objects to validate
+   * @param pattern     The {@code CompiledPath} selecting the objects to validate, might be a
+   *                    pattern or a concrete path
+   * @return The list of {@link Result Results} (only results for existing paths are reported)
+   */
+  default CompletableFuture<List<Result>> validateForPatternAsync(ValidationContext context,
+      RuleSelector selector, Object parentFacts, CompiledPath pattern) {
+    List<CompletableFuture<List<Result>>> futures = new ArrayList<>();
+    pattern.visitPattern(parentFacts, (path, facts) -> !context.isAborted() && futures.add(
+        validateForResolvedPath(context, parentFacts, path, facts,
+            f -> validateAsync(context, selector, f))));
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+        .thenApply(v -> futures.stream()
+            .map(CompletableFuture::join)
+            .flatMap(List::stream)
+            .collect(Collectors.toList()));
+  }
+
+  /**
+   * Gets the {@link RuleResultCache} this instance uses for the validation using {@code context}, creating it if necessary.
+   * <p>
+   * Allows to put results into the cache before the validation starts. This default implementation returns an empty {@link Optional},
+   * since it does not cache.
+   *
+   * @param context The {@code ValidationContext} of the validation
+   * @return The {@code RuleResultCache}, empty if this instance does not cache
+   */
+  default Optional<RuleResultCache> getResultCache(ValidationContext context) {
+    return Optional.empty();
+  }
+
+  /**
+   * Called by the {@link de.hipphampel.validation.core.Validator Validator} when the validation using {@code context} has been finished.
+   * <p>
+   * Allows implementations to release or report resources bound to the validation. This default implementation does nothing.
+   *
+   * @param context The {@code ValidationContext} of the validation
+   */
+  default void validationFinished(ValidationContext context) {
+  }
+
+  /**
+   * Called by the {@link de.hipphampel.validation.core.Validator Validator} when the future of the validation using {@code context} has
+   * been cancelled.
+   * <p>
+   * At this point, the {@code context} is already {@linkplain ValidationContext#abort() aborted}, so that no further {@link Rule Rules}
+   * are started. Allows implementations to stop the {@code Rules} still running. This default implementation does nothing.
+   *
+   * @param context The {@code ValidationContext} of the validation
+   */
+  default void validationCancelled(ValidationContext context) {
+  }
+
+  private List<? extends Rule<?>> selectRules(ValidationContext context, RuleSelector selector, Object facts) {
+    List<? extends Rule<?>> rules = context.knowsSharedExtension(ExecutionPlanner.class)
+        ? context.getSharedExtension(ExecutionPlanner.class).selectRules(context, selector, facts)
+        : selector.selectRules(context.getRuleProvider(), context, facts);
+    return context.knowsSharedExtension(RuleScheduler.class)
+        ? context.getSharedExtension(RuleScheduler.class).schedule(context, rules)
+        : rules;
+  }
+
   private <T> Optional<T> validateForPath(ValidationContext context, Object parentFacts,
       Path path, Function<Object, T> validations) {
     return context.getPathResolver().resolve(parentFacts, path)
-        .map(facts -> {
-          try {
-            context.enterPath(parentFacts, path);
-            return Optional.of(validations.apply(facts));
-          } finally {
-            context.leavePath();
-          }
-        })
+        .map(facts -> Optional.of(validateForResolvedPath(context, parentFacts, path, facts, validations)))
         .orElse(Optional.empty());
   }
+
+  private <T> T validateForResolvedPath(ValidationContext context, Object parentFacts, Path path,
+      Object facts, Function<Object, T> validations) {
+    try {
+      context.enterPath(parentFacts, path);
+      return validations.apply(facts);
+    } finally {
+      context.leavePath();
+    }
+  }
 }
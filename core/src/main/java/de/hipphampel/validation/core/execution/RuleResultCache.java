@@ -0,0 +1,190 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache for the {@link Result Results} of {@link Rule} executions.
+ * <p>
+ * This is used by the {@link DefaultRuleExecutor} to execute a {@code Rule} only once per facts and {@link Path} during a validation. An
+ * instance is stored as a shared extension in the {@link ValidationContext}, so its lifetime is bound to the validation.
+ * <p>
+ * The entries are stored in a single map using a flat key consisting of the rule, the facts, and the path. Rules and facts are compared
+ * by identity, so that the facts are never hashed deeply; only for value like facts (such as strings, numbers, or enums) {@code equals}
+ * is used. The cache might be bounded by a maximum number of entries, in which case the oldest entries are evicted first. Evicting an
+ * entry never affects the result of a validation, it only might cause a rule to be executed again.
+ * <p>
+ * The number of hits, misses, and evictions is counted and can be obtained via {@link #getStatistics()}.
+ */
+public class RuleResultCache {
+
+  private final long maxSize;
+  private final ConcurrentHashMap<FactsKey, CompletableFuture<Result>> cache = new ConcurrentHashMap<>();
+  private final Queue<FactsKey> insertionOrder;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an unbounded instance.
+   */
+  public RuleResultCache() {
+    this(0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize The maximum number of entries; if less or equal to zero, the cache is unbounded
+   */
+  public RuleResultCache(long maxSize) {
+    this.maxSize = Math.max(0, maxSize);
+    this.insertionOrder = this.maxSize > 0 ? new ConcurrentLinkedQueue<>() : null;
+  }
+
+  /**
+   * Gets the maximum number of entries.
+   *
+   * @return The maximum number of entries, {@code 0} if unbounded
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Gets the result for the given {@code rule}, {@code facts}, and {@code path} from the cache or computes it.
+   * <p>
+   * If there is no entry yet, {@code computation} is called to start the computation. The computation is not called while holding a lock
+   * of the cache, so it may safely call this method recursively.
+   *
+   * @param rule        The {@link Rule}
+   * @param facts       The facts being validated
+   * @param path        The {@link Path} of the {@code facts}
+   * @param computation Starts the computation of the {@link Result}
+   * @return A {@link CompletableFuture} providing the result
+   */
+  public CompletableFuture<Result> getOrCompute(Rule<?> rule, Object facts, Path path,
+      Supplier<CompletableFuture<Result>> computation) {
+    FactsKey key = FactsKey.byIdentity(rule, facts, path);
+    CompletableFuture<Result> result = cache.get(key);
+    if (result != null) {
+      hits.increment();
+      return result;
+    }
+    CompletableFuture<Result> placeholder = new CompletableFuture<>();
+    result = cache.putIfAbsent(key, placeholder);
+    if (result != null) {
+      hits.increment();
+      return result;
+    }
+    misses.increment();
+    if (insertionOrder != null) {
+      insertionOrder.add(key);
+      evict();
+    }
+    try {
+      computation.get().whenComplete((r, e) -> {
+        if (e != null) {
+          placeholder.completeExceptionally(e);
+        } else {
+          placeholder.complete(r);
+        }
+      });
+    } catch (RuntimeException e) {
+      placeholder.completeExceptionally(e);
+    }
+    return placeholder;
+  }
+
+  /**
+   * Puts an already known {@link Result} into the cache.
+   * <p>
+   * This is used to seed the cache with the results of a previous validation, see {@code Validator.revalidate}. An existing entry is not
+   * replaced.
+   *
+   * @param rule   The {@link Rule}
+   * @param facts  The facts being validated
+   * @param path   The {@link Path} of the {@code facts}
+   * @param result The {@code Result}
+   */
+  public void put(Rule<?> rule, Object facts, Path path, Result result) {
+    FactsKey key = FactsKey.byIdentity(rule, facts, path);
+    if (cache.putIfAbsent(key, CompletableFuture.completedFuture(result)) == null && insertionOrder != null) {
+      insertionOrder.add(key);
+      evict();
+    }
+  }
+
+  /**
+   * Gets the current number of entries.
+   *
+   * @return The number of entries
+   */
+  public long size() {
+    return cache.mappingCount();
+  }
+
+  /**
+   * Gets the {@link Statistics} of this instance.
+   *
+   * @return The {@code Statistics}
+   */
+  public Statistics getStatistics() {
+    return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size());
+  }
+
+  private void evict() {
+    while (size() > maxSize) {
+      FactsKey oldest = insertionOrder.poll();
+      if (oldest == null) {
+        return;
+      }
+      if (cache.remove(oldest) != null) {
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Statistics of a {@link RuleResultCache}.
+   *
+   * @param hits      Number of requests served by the cache
+   * @param misses    Number of requests that required to execute the rule
+   * @param evictions Number of evicted entries
+   * @param size      Current number of entries
+   */
+  public record Statistics(long hits, long misses, long evictions, long size) {
+
+  }
+}
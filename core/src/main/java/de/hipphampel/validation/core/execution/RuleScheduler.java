@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.List;
+
+/**
+ * Determines the order in which the {@link Rule Rules} selected by a {@link RuleSelector} are executed.
+ * <p>
+ * If a {@code RuleScheduler} is available as shared extension in the {@link ValidationContext}, the {@link RuleExecutor} passes the
+ * {@code Rules} selected by a {@code RuleSelector} to {@link #schedule(ValidationContext, List) schedule} before executing them. In
+ * addition, the {@code RuleExecutor} {@linkplain #recordExecution(Rule, Result, long) reports} each finished execution, so that an
+ * implementation might consider the observed execution times and results.
+ * <p>
+ * Implementations must be thread safe.
+ *
+ * @see CostBasedRuleScheduler
+ */
+public interface RuleScheduler {
+
+  /**
+   * Orders the {@code rules} for execution.
+   * <p>
+   * The returned list must contain the same {@link Rule Rules} as {@code rules}.
+   *
+   * @param context The {@link ValidationContext}
+   * @param rules   The {@code Rules} to execute, in the order provided by the {@link RuleSelector}
+   * @return The {@code Rules} in the order they should be executed
+   */
+  List<? extends Rule<?>> schedule(ValidationContext context, List<? extends Rule<?>> rules);
+
+  /**
+   * Called by the {@link RuleExecutor} each time a {@link Rule} has been executed.
+   * <p>
+   * This default implementation does nothing.
+   *
+   * @param rule   The {@code Rule}
+   * @param result The {@link Result} of the execution
+   * @param nanos  The execution time in nanoseconds
+   */
+  default void recordExecution(Rule<?> rule, Result result, long nanos) {
+  }
+}
@@ -28,10 +28,15 @@ import de.hipphampel.validation.core.event.payloads.RuleFinishedPayload;
 import de.hipphampel.validation.core.event.payloads.RuleStartedPayload;
 import de.hipphampel.validation.core.exception.RuleFailedException;
 import de.hipphampel.validation.core.report.Reporter;
+import de.hipphampel.validation.core.rule.AsyncRule;
 import de.hipphampel.validation.core.rule.Result;
 import de.hipphampel.validation.core.rule.Rule;
 import de.hipphampel.validation.core.rule.SystemResultReason;
 import de.hipphampel.validation.core.rule.SystemResultReason.Code;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,10 +54,21 @@ import org.slf4j.LoggerFactory;
  *   Rule, Object, Result)}</li>
  *   <li>Exceptions during rule execution are caught and translated to {@code Result} with
  *   code {@code FAILED}</li>
+ *   <li>If the validation runs in {@linkplain ValidationContext#isFailFast() fail-fast mode}, it is aborted as soon as the report of the
+ *   {@link Reporter} is final; from then on, {@code Rules} are no longer executed, but reported as {@code SKIPPED} with the code
+ *   {@code ValidationAborted}</li>
+ *   <li>If the {@linkplain ValidationContext#isDeadlineExceeded() deadline} of the validation is exceeded, {@code Rules} are no longer
+ *   executed, but reported as {@code FAILED} with the code {@code Timeout}. A {@code Rule} might restrict the deadline for itself and the
+ *   {@code Rules} it calls by specifying the metadata {@value #METADATA_TIMEOUT}, either as {@link Duration}, as number of milliseconds, or
+ *   as {@code String} in one of these formats. Since running {@code Rules} cannot be interrupted, the timeout is cooperative</li>
+ *   <li>If a {@link RuleScheduler} is available as shared extension, it is informed about the execution time and result of each
+ *   {@code Rule}</li>
  * </ol>
  * <p>
  * Note that this implementation does not support asynchronous rule execution: the {@code *Async}
- * methods are just wrappers for the synchronous ones, returning an already completed future. Also,
+ * methods are just wrappers for the synchronous ones, returning an already completed future. The method
+ * {@link #doValidateAsync(ValidationContext, Rule, Object) doValidateAsync} is intended to be used by derived classes
+ * that execute rules asynchronously. Also,
  * it does not provide any optimizations to prevent duplicate rule execution. For a more elaborated
  * implementation see {@link DefaultRuleExecutor}
  *
@@ -60,6 +76,11 @@ import org.slf4j.LoggerFactory;
  */
 public class SimpleRuleExecutor implements RuleExecutor {
 
+  /**
+   * Metadata key to specify the timeout of a {@link Rule}.
+   */
+  public static final String METADATA_TIMEOUT = "timeout";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(SimpleRuleExecutor.class);
 
   @Override
@@ -82,9 +103,78 @@ public class SimpleRuleExecutor implements RuleExecutor {
       Result result) {
     Reporter<?> reporter = context.getReporter();
     reporter.add(context, facts, context.getCurrentPath(), rule, result);
+    if (context.isFailFast() && reporter.isFinal()) {
+      context.abort();
+    }
     return result;
   }
 
+  /**
+   * Creates the {@link Result} for a {@code rule} not executed, because the validation is {@linkplain ValidationContext#isAborted()
+   * aborted}.
+   *
+   * @param rule The {@code Rule} not executed
+   * @return The {@code Result}
+   */
+  protected Result abortedResult(Rule<?> rule) {
+    return Result.skipped(new SystemResultReason(Code.ValidationAborted, rule.getId()));
+  }
+
+  /**
+   * Creates the {@link Result} for a {@code rule} not executed or not finished in time, because the
+   * {@linkplain ValidationContext#isDeadlineExceeded() deadline is exceeded}.
+   *
+   * @param rule The {@code Rule} not executed
+   * @return The {@code Result}
+   */
+  protected Result timeoutResult(Rule<?> rule) {
+    return Result.failed(new SystemResultReason(Code.Timeout, rule.getId()));
+  }
+
+  /**
+   * Gets the timeout of the {@code rule}.
+   * <p>
+   * This implementation evaluates the {@value #METADATA_TIMEOUT} metadata of the {@code rule}, which might be a {@link Duration}, a
+   * {@code Number} of milliseconds, or a {@code String} containing either a number of milliseconds or an ISO-8601 duration.
+   *
+   * @param rule The {@code Rule}
+   * @return The timeout, empty if the {@code rule} has none
+   */
+  protected Optional<Duration> getRuleTimeout(Rule<?> rule) {
+    Object timeout = rule.getMetadata().get(METADATA_TIMEOUT);
+    if (timeout == null || timeout instanceof Duration) {
+      return Optional.ofNullable((Duration) timeout);
+    }
+    if (timeout instanceof Number number) {
+      return Optional.of(Duration.ofMillis(number.longValue()));
+    }
+    String str = String.valueOf(timeout).trim();
+    try {
+      return Optional.of(str.startsWith("P") || str.startsWith("p") ? Duration.parse(str) : Duration.ofMillis(Long.parseLong(str)));
+    } catch (RuntimeException e) {
+      LOGGER.warn("Ignoring invalid timeout '" + str + "' of rule '" + rule.getId() + "'");
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Prepares the {@code context} for the execution of the {@code rule}.
+   * <p>
+   * Restricts the deadline according to the {@linkplain #getRuleTimeout(Rule) timeout of the rule} and checks, whether the {@code rule}
+   * may be executed at all.
+   *
+   * @param context The {@code ValidationContext}, exclusively used for this execution
+   * @param rule    The {@code Rule} to execute
+   * @return The {@link Result} to report instead of executing the {@code rule}, or {@code null}, if it may be executed
+   */
+  protected Result prepareExecution(ValidationContext context, Rule<?> rule) {
+    if (context.isAborted()) {
+      return abortedResult(rule);
+    }
+    getRuleTimeout(rule).ifPresent(context::restrictDeadline);
+    return context.isDeadlineExceeded() ? timeoutResult(rule) : null;
+  }
+
   /**
    * Internal validation.
    * <p>
@@ -96,6 +186,10 @@ public class SimpleRuleExecutor implements RuleExecutor {
    * @return The {@link Result} indicating the result
    */
   protected Result doValidate(ValidationContext context, Rule<?> rule, Object facts) {
+    Result notExecuted = prepareExecution(context, rule);
+    if (notExecuted != null) {
+      return notExecuted;
+    }
     Result result = null;
     long now = System.nanoTime();
     EventPublisher publisher = context.getEventPublisher();
@@ -117,15 +211,87 @@ public class SimpleRuleExecutor implements RuleExecutor {
       result = Result.failed(
           new SystemResultReason(Code.RuleExecutionThrowsException, e.getMessage()));
     } finally {
-      if (publisher != null) {
-        publisher.publish(this, new RuleFinishedPayload(rule, context.getPathStack(),
-            facts, result, System.nanoTime() - now));
-      }
+      ruleFinished(context, rule, facts, result, System.nanoTime() - now);
       context.leaveRule();
     }
     return result;
   }
 
+  /**
+   * Internal asynchronous validation.
+   * <p>
+   * Like {@link #doValidate(ValidationContext, Rule, Object) doValidate}, but for {@link AsyncRule AsyncRules} the result is obtained via
+   * {@link AsyncRule#validateAsync(ValidationContext, Object) validateAsync}, so that the calling thread is not blocked while the rule
+   * waits for other rules. For all other {@code Rules} this returns an already completed future with the result of {@code doValidate}.
+   * <p>
+   * The {@code context} must not be used by the caller until the returned future is completed.
+   *
+   * @param context The {@code ValidationContext}
+   * @param rule    The {@code Rule} to execute
+   * @param facts   The object to be validated
+   * @return A {@link CompletableFuture} providing the {@link Result}
+   */
+  protected CompletableFuture<Result> doValidateAsync(ValidationContext context, Rule<?> rule, Object facts) {
+    if (!(rule instanceof AsyncRule<?> asyncRule)) {
+      return CompletableFuture.completedFuture(doValidate(context, rule, facts));
+    }
+    Result notExecuted = prepareExecution(context, rule);
+    if (notExecuted != null) {
+      return CompletableFuture.completedFuture(notExecuted);
+    }
+
+    long now = System.nanoTime();
+    EventPublisher publisher = context.getEventPublisher();
+
+    if (!context.enterRule(rule, facts)) {
+      return CompletableFuture.completedFuture(Result.failed(
+          new SystemResultReason(Code.CyclicRuleDependency, rule.getId())));
+    }
+    CompletableFuture<Result> future;
+    try {
+      if (publisher != null) {
+        publisher.publish(this, new RuleStartedPayload(rule, context.getPathStack(), facts));
+      }
+      Result preliminaryResult = checkFactsType(rule, facts)
+          .mapIfOk(toBeMapped -> checkPreconditions(context, rule, facts));
+      future = preliminaryResult.isOk()
+          ? invokeValidationAsync(context, asyncRule, facts)
+          : CompletableFuture.completedFuture(preliminaryResult);
+    } catch (Exception e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+
+    return future.handle((r, t) -> {
+      Result result = null;
+      try {
+        if (t != null) {
+          throw t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        }
+        result = r.mapIfSkipped(toBeMapped -> postprocessSkippedResult(context, rule, facts, toBeMapped));
+      } catch (RuleFailedException rfe) {
+        result = rfe.toResult();
+      } catch (Throwable e) {
+        LOGGER.error("Execution of rule '" + rule.getId() + "' failed", e);
+        result = Result.failed(
+            new SystemResultReason(Code.RuleExecutionThrowsException, e.getMessage()));
+      } finally {
+        ruleFinished(context, rule, facts, result, System.nanoTime() - now);
+        context.leaveRule();
+      }
+      return result;
+    });
+  }
+
+  private void ruleFinished(ValidationContext context, Rule<?> rule, Object facts, Result result, long nanos) {
+    EventPublisher publisher = context.getEventPublisher();
+    if (publisher != null) {
+      publisher.publish(this, new RuleFinishedPayload(rule, context.getPathStack(), facts, result, nanos));
+    }
+    if (result != null && context.knowsSharedExtension(RuleScheduler.class)) {
+      context.getSharedExtension(RuleScheduler.class).recordExecution(rule, result, nanos);
+    }
+  }
+
   private Result checkFactsType(Rule<?> rule, Object facts) {
     if (facts == null) {
       return Result.ok();
@@ -158,7 +324,17 @@ public class SimpleRuleExecutor implements RuleExecutor {
     return Result.ok();
   }
 
-  private boolean checkPrecondition(ValidationContext context, Condition condition, Object facts) {
+  /**
+   * Checks a single precondition.
+   * <p>
+   * This implementation simply evaluates the {@code condition}.
+   *
+   * @param context   The {@link ValidationContext}
+   * @param condition The {@link Condition} to check
+   * @param facts     The object being validated
+   * @return {@code true}, if the {@code condition} is met
+   */
+  protected boolean checkPrecondition(ValidationContext context, Condition condition, Object facts) {
     return condition.evaluate(context, facts);
   }
 
@@ -179,6 +355,19 @@ public class SimpleRuleExecutor implements RuleExecutor {
     }
   }
 
+  /**
+   * Calls the {@code validateAsync} method of the {@link AsyncRule}.
+   *
+   * @param context The {@link ValidationContext}
+   * @param rule    The {@link AsyncRule} being executed.
+   * @param facts   The object being validated
+   * @return A {@link CompletableFuture} providing the {@code Result}
+   */
+  @SuppressWarnings("unchecked")
+  protected CompletableFuture<Result> invokeValidationAsync(ValidationContext context, AsyncRule<?> rule, Object facts) {
+    return ((AsyncRule<Object>) rule).validateAsync(context, facts);
+  }
+
   /**
    * Postprocesses the {@link Result} in case it has the code {@code SKIPPED}.
    * <p>
@@ -0,0 +1,208 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import de.hipphampel.validation.core.rule.AsyncRule;
+import de.hipphampel.validation.core.rule.DispatchingRule;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@link RuleExecutor} that runs each {@link Rule} execution on its own thread.
+ * <p>
+ * This implementation is intended for {@code Rules} that block, e.g. because they perform a lookup in a database or call a remote service.
+ * Other than the {@link DefaultRuleExecutor}, which runs the {@code Rules} on a (typically small) pool of threads, this executor starts a
+ * new thread via the associated {@link ThreadFactory} for each rule execution, so that a blocking {@code Rule} never occupies a thread
+ * that is needed by another {@code Rule}.
+ * <p>
+ * By default, virtual threads are used, if the Java runtime supports them (Java 21 or newer); otherwise a daemon platform thread is
+ * created for each rule execution. Apart from this, it behaves like the {@code DefaultRuleExecutor}, especially results are cached by
+ * default.
+ * <p>
+ * Rule executions are organized in scopes: each execution started while another one is running (e.g. the subordinated {@code Rules} of a
+ * {@link DispatchingRule}) is bound to the scope of the latter. If the future of an execution is cancelled, the thread of the execution is
+ * interrupted and all executions bound to its scope are cancelled as well. Since {@link AsyncRule AsyncRules} complete only after their
+ * subordinated {@code Rules} are completed, the subordinated executions never outlive the execution that started them. If the future
+ * returned by {@link de.hipphampel.validation.core.Validator#validateAsync(Object, de.hipphampel.validation.core.rule.RuleSelector)
+ * Validator.validateAsync} is cancelled, the executions not bound to another scope are cancelled, and by this all executions of the
+ * validation.
+ *
+ * @see DefaultRuleExecutor
+ */
+public class ThreadPerRuleExecutor extends DefaultRuleExecutor {
+
+  private static final ThreadLocal<RuleScope> CURRENT_SCOPE = new ThreadLocal<>();
+  private final ThreadFactory threadFactory;
+
+  /**
+   * Default constructor.
+   * <p>
+   * Creates an instance using virtual threads, if available, and caching.
+   */
+  public ThreadPerRuleExecutor() {
+    this(defaultThreadFactory(), true);
+  }
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an instance using the given {@link ThreadFactory} to create a thread for each rule execution.
+   *
+   * @param threadFactory The {@code ThreadFactory}
+   * @param caching       Flag indicating whether or not caching rule results.
+   */
+  public ThreadPerRuleExecutor(ThreadFactory threadFactory, boolean caching) {
+    this(threadFactory, caching, 0);
+  }
+
+  /**
+   * Constructor.
+   * <p>
+   * Creates an instance using the given {@link ThreadFactory} to create a thread for each rule execution.
+   *
+   * @param threadFactory The {@code ThreadFactory}
+   * @param caching       Flag indicating whether or not caching rule results.
+   * @param maxCacheSize  The maximum number of entries of the {@link RuleResultCache} per validation; if less or equal to zero, the cache
+   *                      is unbounded
+   */
+  public ThreadPerRuleExecutor(ThreadFactory threadFactory, boolean caching, long maxCacheSize) {
+    super(newThreadExecutor(threadFactory), caching, maxCacheSize);
+    this.threadFactory = Objects.requireNonNull(threadFactory);
+  }
+
+  @Override
+  protected CompletableFuture<Result> executeAsync(ValidationContext context, Rule<?> rule, Object facts) {
+    RuleScope parent = CURRENT_SCOPE.get();
+    RuleScope scope = parent != null
+        ? new RuleScope(parent, parent.children)
+        : new RuleScope(null, context.getOrCreateSharedExtension(RootScopes.class, type -> new RootScopes()).scopes);
+    threadFactory.newThread(() -> scope.run(() -> doValidateAsync(context, rule, facts))).start();
+    return scope.result;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation cancels the executions of the validation that are still running, so that their threads are interrupted.
+   *
+   * @param context The {@code ValidationContext} of the validation
+   */
+  @Override
+  public void validationCancelled(ValidationContext context) {
+    if (context.knowsSharedExtension(RootScopes.class)) {
+      context.getSharedExtension(RootScopes.class).scopes.forEach(scope -> scope.result.cancel(false));
+    }
+  }
+
+  /**
+   * Creates the default {@link ThreadFactory}.
+   * <p>
+   * The factory creates virtual threads, if the Java runtime supports them, otherwise daemon platform threads.
+   *
+   * @return The {@code ThreadFactory}
+   */
+  public static ThreadFactory defaultThreadFactory() {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Method factoryMethod = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      return (ThreadFactory) factoryMethod.invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      AtomicLong counter = new AtomicLong();
+      return runnable -> {
+        Thread thread = new Thread(runnable, "rule-executor-" + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+    }
+  }
+
+  private static Executor newThreadExecutor(ThreadFactory threadFactory) {
+    Objects.requireNonNull(threadFactory);
+    return command -> threadFactory.newThread(command).start();
+  }
+
+  private static class RootScopes {
+
+    private final Set<RuleScope> scopes = ConcurrentHashMap.newKeySet();
+  }
+
+  private static class RuleScope {
+
+    private final Set<RuleScope> siblings;
+    private final Set<RuleScope> children = ConcurrentHashMap.newKeySet();
+    private final CompletableFuture<Result> result = new CompletableFuture<>();
+    private volatile Thread thread;
+
+    RuleScope(RuleScope parent, Set<RuleScope> siblings) {
+      this.siblings = siblings;
+      siblings.add(this);
+      if (parent != null && parent.result.isCancelled()) {
+        result.cancel(false);
+      }
+      result.whenComplete((r, t) -> onCompletion());
+    }
+
+    void run(Supplier<CompletableFuture<Result>> execution) {
+      if (result.isDone()) {
+        return;
+      }
+      thread = Thread.currentThread();
+      CURRENT_SCOPE.set(this);
+      try {
+        execution.get().whenComplete((r, t) -> {
+          if (t != null) {
+            result.completeExceptionally(t);
+          } else {
+            result.complete(r);
+          }
+        });
+      } catch (RuntimeException | Error e) {
+        result.completeExceptionally(e);
+      } finally {
+        CURRENT_SCOPE.remove();
+        thread = null;
+      }
+    }
+
+    private void onCompletion() {
+      siblings.remove(this);
+      if (!result.isCancelled()) {
+        return;
+      }
+      Thread runningThread = thread;
+      if (runningThread != null) {
+        runningThread.interrupt();
+      }
+      children.forEach(child -> child.result.cancel(false));
+    }
+  }
+}
@@ -39,9 +39,12 @@ import de.hipphampel.validation.core.rule.Rule;
 import de.hipphampel.validation.core.utils.ObjectRegistry;
 import de.hipphampel.validation.core.utils.Pair;
 import de.hipphampel.validation.core.utils.Stacked;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
@@ -59,6 +62,15 @@ import java.util.function.Function;
  * Thirdly, the {@code Validator} might pass validation parameters to the validation. These parameters might be used to influence the
  * validation behaviour.
  * <p>
+ * If the validation runs in {@linkplain #isFailFast() fail-fast mode}, it is {@linkplain #isAborted() aborted} as soon as the report of
+ * the {@link Reporter} is {@linkplain Reporter#isFinal() final}. The {@code RuleExecutor} and the {@code Rules} forwarding to other
+ * {@code Rules} use this to skip the {@code Rules} not executed yet.
+ * <p>
+ * Optionally, the validation might have a {@linkplain #restrictDeadline(Duration) deadline}. Once it is {@linkplain #isDeadlineExceeded()
+ * exceeded}, the {@code RuleExecutor} no longer starts any {@code Rules}, but reports them with the code {@code Timeout}. In contrast to
+ * the aborted flag, the deadline is not shared by the copies, but inherited, so that a {@code Rule} might restrict the deadline for the
+ * {@code Rules} it calls.
+ * <p>
  * It is guaranteed that an instance of the {@code ValidationContext} is only accessed by one single thread at any point of time. But since
  * {@code Rules} might be executed asynchronously, there is a need to create a {@link #copy() copy} of the {@code ValidationContext} from
  * time to time. The contract is that the copied instance must return exactly the same objects for the infrastructural or shared objects,
@@ -79,8 +91,12 @@ public class ValidationContext {
   private final EventPublisher eventPublisher;
   private final Reporter<?> reporter;
   private final ObjectRegistry sharedExtensions;
-  private final ObjectRegistry localExtensions;
+  private ObjectRegistry localExtensions;
   private final Map<String, Object> parameters;
+  private final boolean failFast;
+  private final AtomicBoolean aborted;
+  private boolean hasDeadline;
+  private long deadline;
   private Stacked<Pair<Rule<?>, Object>> ruleStack;
   private Stacked<Resolvable> pathStack;
   private Object rootFacts;
@@ -115,6 +131,30 @@ public class ValidationContext {
       RuleRepository ruleRepository,
       PathResolver pathResolver,
       EventPublisher eventPublisher) {
+    this(reporter, parameters, ruleExecutor, ruleRepository, pathResolver, eventPublisher, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param reporter       The {@link Reporter}
+   * @param ruleExecutor   The {@link RuleExecutor}
+   * @param ruleRepository The {@link RuleRepository}
+   * @param pathResolver   The {@link PathResolver}
+   * @param eventPublisher The {@link EventPublisher}
+   * @param parameters     Additional paramters passed to the validation
+   * @param failFast       If {@code true}, the validation is aborted as soon as the report of the {@code reporter} is final
+   */
+  public ValidationContext(
+      Reporter<?> reporter,
+      Map<String, Object> parameters,
+      RuleExecutor ruleExecutor,
+      RuleRepository ruleRepository,
+      PathResolver pathResolver,
+      EventPublisher eventPublisher,
+      boolean failFast) {
+    this.failFast = failFast;
+    this.aborted = new AtomicBoolean();
     this.ruleStack = Stacked.empty();
     this.pathStack = Stacked.empty();
     this.parameters = Collections.unmodifiableMap(parameters);
@@ -124,7 +164,6 @@ public class ValidationContext {
     this.reporter = Objects.requireNonNull(reporter);
     this.eventPublisher = eventPublisher;
     this.sharedExtensions = new ObjectRegistry();
-    this.localExtensions = new ObjectRegistry();
     sharedExtensions.add(Objects.requireNonNull(reporter), Reporter.class);
     if (eventPublisher!=null) {
       sharedExtensions.add(eventPublisher, EventPublisher.class);
@@ -146,11 +185,14 @@ public class ValidationContext {
     this.eventPublisher = source.eventPublisher;
     this.reporter = source.reporter;
     this.sharedExtensions = source.sharedExtensions;
-    this.localExtensions = new ObjectRegistry();
     this.ruleStack = source.ruleStack;
     this.pathStack = source.pathStack;
     this.parameters = source.parameters;
     this.rootFacts = source.rootFacts;
+    this.failFast = source.failFast;
+    this.aborted = source.aborted;
+    this.hasDeadline = source.hasDeadline;
+    this.deadline = source.deadline;
   }
 
   /**
@@ -176,6 +218,88 @@ public class ValidationContext {
     return new ValidationContext(this);
   }
 
+  /**
+   * Indicates whether the validation runs in fail-fast mode.
+   * <p>
+   * In fail-fast mode, the validation is {@linkplain #abort() aborted} as soon as the report of the {@link Reporter} is
+   * {@linkplain Reporter#isFinal() final}.
+   *
+   * @return {@code true}, if in fail-fast mode
+   * @see #isAborted()
+   */
+  public boolean isFailFast() {
+    return failFast;
+  }
+
+  /**
+   * Indicates whether the validation has been aborted.
+   * <p>
+   * If so, {@link Rule Rules} not started yet are no longer executed; the {@link RuleExecutor} reports them with the code
+   * {@code ValidationAborted} instead. The flag is shared by all {@linkplain #copy() copies} of this instance.
+   *
+   * @return {@code true}, if aborted
+   * @see #abort()
+   */
+  public boolean isAborted() {
+    return aborted.get();
+  }
+
+  /**
+   * Aborts the validation.
+   * <p>
+   * Normally called by the {@link RuleExecutor}, when the validation runs in {@linkplain #isFailFast() fail-fast mode} and the report is
+   * final.
+   *
+   * @see #isAborted()
+   */
+  public void abort() {
+    aborted.set(true);
+  }
+
+  /**
+   * Restricts the deadline of the validation.
+   * <p>
+   * The new deadline is {@code timeout} from now on, unless the current deadline is earlier. The deadline is inherited by the
+   * {@linkplain #copy() copies} created afterwards, but does not affect this instance's source or already existing copies.
+   *
+   * @param timeout The maximum time the validation may take from now on
+   * @see #isDeadlineExceeded()
+   */
+  public void restrictDeadline(Duration timeout) {
+    long newDeadline = System.nanoTime() + timeout.toNanos();
+    if (!hasDeadline || newDeadline - deadline < 0) {
+      this.deadline = newDeadline;
+      this.hasDeadline = true;
+    }
+  }
+
+  /**
+   * Gets the time remaining until the deadline is reached.
+   *
+   * @return The remaining time, which is {@link Duration#ZERO} in case the deadline is exceeded, or empty, if there is no deadline
+   * @see #restrictDeadline(Duration)
+   */
+  public Optional<Duration> getRemainingTime() {
+    if (!hasDeadline) {
+      return Optional.empty();
+    }
+    long remaining = deadline - System.nanoTime();
+    return Optional.of(remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO);
+  }
+
+  /**
+   * Indicates whether the deadline of the validation is exceeded.
+   * <p>
+   * If so, {@link Rule Rules} not started yet are no longer executed; the {@link RuleExecutor} reports them with the code {@code Timeout}
+   * instead. Running {@code Rules} are not interrupted, but might call this method to stop cooperatively.
+   *
+   * @return {@code true}, if exceeded
+   * @see #restrictDeadline(Duration)
+   */
+  public boolean isDeadlineExceeded() {
+    return hasDeadline && deadline - System.nanoTime() <= 0;
+  }
+
   /**
    * Gets the stack of the {@link Rule Rules} being executed.
    * <p>
@@ -210,16 +334,19 @@ public class ValidationContext {
    * @see #getCurrentRule()
    */
   public boolean enterRule(Rule<?> rule, Object facts) {
-    Pair<Rule<?>, Object> entry = new Pair<>(rule, facts);
-    if (ruleStack.exists(v -> Objects.equals(v, entry))) {
-      return false;
+    // Walks the stack without a predicate, so that the check itself does not allocate
+    for (Stacked<Pair<Rule<?>, Object>> frame = ruleStack; !frame.isEmpty(); frame = frame.getParent()) {
+      Pair<Rule<?>, Object> entry = frame.getValue();
+      if ((entry.first() == rule || entry.first().equals(rule)) && Objects.equals(entry.second(), facts)) {
+        return false;
+      }
     }
 
     if (ruleStack.isEmpty()) {
       rootFacts = facts;
     }
 
-    ruleStack = ruleStack.push(entry);
+    ruleStack = ruleStack.push(new Pair<>(rule, facts));
     return true;
   }
 
@@ -529,7 +656,7 @@ public class ValidationContext {
    */
   @Deprecated
   public <T> T getLocalExtension(Class<T> type) {
-    return localExtensions.get(type);
+    return localExtensions().get(type);
   }
 
   /**
@@ -543,7 +670,7 @@ public class ValidationContext {
    */
   @Deprecated
   public boolean knowsLocalExtension(Class<?> type) {
-    return localExtensions.knowsType(type);
+    return localExtensions != null && localExtensions.knowsType(type);
   }
 
   /**
@@ -560,6 +687,14 @@ public class ValidationContext {
    */
   @Deprecated
   public <T> T getOrCreateLocalExtension(Class<T> type, Function<Class<T>, T> creator) {
-    return localExtensions.getOrRegister(type, creator);
+    return localExtensions().getOrRegister(type, creator);
+  }
+
+  private ObjectRegistry localExtensions() {
+    // Created on demand, since most contexts - especially the copies created per rule execution - never use local extensions
+    if (localExtensions == null) {
+      localExtensions = new ObjectRegistry();
+    }
+    return localExtensions;
   }
 }
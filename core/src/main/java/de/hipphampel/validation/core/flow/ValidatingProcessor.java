@@ -0,0 +1,348 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.flow;
+
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.Report;
+import de.hipphampel.validation.core.report.ReportReporter;
+import de.hipphampel.validation.core.report.ReporterFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Flow.Processor} that validates the objects it receives.
+ * <p>
+ * Each object received from the upstream publisher is validated via
+ * {@link Validator#validateAsync(ReporterFactory, Object, RuleSelector, Map) validateAsync}, and the object together with its report is
+ * published as {@link ValidatedItem} to the subscriber of this processor. The processor respects the demand of both sides:
+ * <ul>
+ *   <li>At most {@code concurrency} objects are requested from upstream, but not yet published downstream. So there are never more
+ *   than {@code concurrency} validations running at the same time, and a slow subscriber slows down the upstream publisher instead of
+ *   letting the reports pile up.</li>
+ *   <li>Items are only published, if the subscriber requested them.</li>
+ * </ul>
+ * Depending on {@code ordered}, the items are published in the order the objects have been received or in the order the validations
+ * are finished. If a validation fails, the subscriber receives an {@code onError} and the upstream subscription is cancelled. If the
+ * subscriber cancels its subscription, the upstream subscription and the validations still running are cancelled.
+ * <p>
+ * This implementation supports exactly one subscriber.
+ *
+ * @param <T> Type of the report
+ */
+public class ValidatingProcessor<T> implements Flow.Processor<Object, ValidatedItem<T>> {
+
+  private final Validator validator;
+  private final ReporterFactory<T> reporterFactory;
+  private final RuleSelector ruleSelector;
+  private final Map<String, Object> parameters;
+  private final int concurrency;
+  private final boolean ordered;
+
+  private final Object lock = new Object();
+  private final AtomicInteger wip = new AtomicInteger();
+  private final Queue<CompletableFuture<ValidatedItem<T>>> pending = new ArrayDeque<>();
+  private final Set<CompletableFuture<?>> running = new HashSet<>();
+  private Subscription upstream;
+  private Subscriber<? super ValidatedItem<T>> downstream;
+  private boolean subscribed;
+  private long demand;
+  private int occupied;
+  private int outstanding;
+  private boolean upstreamDone;
+  private Throwable error;
+  private boolean terminated;
+
+  /**
+   * Creates an instance producing {@link Report Reports}.
+   *
+   * @param validator    The {@link Validator} to use
+   * @param ruleSelector The {@link RuleSelector} selecting the rules to execute
+   * @param concurrency  The maximum number of objects being validated or waiting to be published at the same time
+   * @param ordered      If {@code true}, the items are published in the order they are received
+   * @return The new instance
+   */
+  public static ValidatingProcessor<Report> forReports(Validator validator, RuleSelector ruleSelector, int concurrency, boolean ordered) {
+    return new ValidatingProcessor<>(validator, ReportReporter::new, ruleSelector, Map.of(), concurrency, ordered);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param validator       The {@link Validator} to use
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute
+   * @param parameters      Additional parameters being set in the {@code ValidationContext}
+   * @param concurrency     The maximum number of objects being validated or waiting to be published at the same time
+   * @param ordered         If {@code true}, the items are published in the order they are received
+   */
+  public ValidatingProcessor(Validator validator, ReporterFactory<T> reporterFactory, RuleSelector ruleSelector,
+      Map<String, Object> parameters, int concurrency, boolean ordered) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be positive");
+    }
+    this.validator = Objects.requireNonNull(validator);
+    this.reporterFactory = Objects.requireNonNull(reporterFactory);
+    this.ruleSelector = Objects.requireNonNull(ruleSelector);
+    this.parameters = Objects.requireNonNull(parameters);
+    this.concurrency = concurrency;
+    this.ordered = ordered;
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super ValidatedItem<T>> subscriber) {
+    Objects.requireNonNull(subscriber);
+    synchronized (lock) {
+      if (downstream != null) {
+        subscriber.onSubscribe(new DownstreamSubscription(null));
+        subscriber.onError(new IllegalStateException("ValidatingProcessor supports only one subscriber"));
+        return;
+      }
+      downstream = subscriber;
+    }
+    subscriber.onSubscribe(new DownstreamSubscription(subscriber));
+    // Signals to the subscriber are only allowed after onSubscribe has returned
+    synchronized (lock) {
+      subscribed = true;
+    }
+    drain();
+  }
+
+  @Override
+  public void onSubscribe(Subscription subscription) {
+    synchronized (lock) {
+      if (upstream != null) {
+        subscription.cancel();
+        return;
+      }
+      upstream = subscription;
+    }
+    drain();
+  }
+
+  @Override
+  public void onNext(Object facts) {
+    synchronized (lock) {
+      if (terminated) {
+        return;
+      }
+    }
+    CompletableFuture<ValidatedItem<T>> future;
+    try {
+      CompletableFuture<T> validation = validator.validateAsync(reporterFactory, facts, ruleSelector, parameters);
+      track(validation);
+      future = validation.thenApply(report -> new ValidatedItem<>(facts, report));
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<ValidatedItem<T>> item = future;
+    synchronized (lock) {
+      outstanding--;
+      occupied++;
+      if (ordered) {
+        pending.add(item);
+      }
+    }
+    item.whenComplete((result, ex) -> {
+      if (!ordered) {
+        synchronized (lock) {
+          pending.add(item);
+        }
+      }
+      drain();
+    });
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    synchronized (lock) {
+      upstreamDone = true;
+      if (error == null) {
+        error = throwable;
+      }
+    }
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    synchronized (lock) {
+      upstreamDone = true;
+    }
+    drain();
+  }
+
+  private void track(CompletableFuture<?> validation) {
+    boolean cancel;
+    synchronized (lock) {
+      cancel = terminated;
+      if (!cancel && !validation.isDone()) {
+        running.add(validation);
+      }
+    }
+    if (cancel) {
+      validation.cancel(true);
+      return;
+    }
+    validation.whenComplete((result, ex) -> {
+      synchronized (lock) {
+        running.remove(validation);
+      }
+    });
+  }
+
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      emitAvailableItems();
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void emitAvailableItems() {
+    while (true) {
+      Subscriber<? super ValidatedItem<T>> subscriber;
+      ValidatedItem<T> next = null;
+      Throwable failure = null;
+      boolean complete = false;
+      long toRequest = 0;
+      Subscription subscription;
+      synchronized (lock) {
+        subscriber = downstream;
+        subscription = upstream;
+        if (terminated || !subscribed) {
+          return;
+        }
+        CompletableFuture<ValidatedItem<T>> head = pending.peek();
+        if (head != null && head.isCompletedExceptionally()) {
+          failure = unwrap(head);
+        } else if (error != null) {
+          failure = error;
+        } else if (head != null && head.isDone() && demand > 0) {
+          pending.poll();
+          next = head.join();
+          demand--;
+          occupied--;
+        } else if (upstreamDone && occupied == 0) {
+          complete = true;
+        }
+        if (failure != null || complete) {
+          terminated = true;
+        } else if (!upstreamDone && subscription != null) {
+          toRequest = concurrency - occupied - outstanding;
+          outstanding += (int) Math.max(0, toRequest);
+        }
+      }
+      if (failure != null) {
+        if (subscription != null) {
+          subscription.cancel();
+        }
+        subscriber.onError(failure);
+        return;
+      }
+      if (complete) {
+        subscriber.onComplete();
+        return;
+      }
+      if (toRequest > 0) {
+        subscription.request(toRequest);
+      }
+      if (next == null) {
+        return;
+      }
+      subscriber.onNext(next);
+    }
+  }
+
+  private static Throwable unwrap(CompletableFuture<?> future) {
+    try {
+      future.join();
+      return null;
+    } catch (CompletionException e) {
+      return e.getCause() == null ? e : e.getCause();
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  private class DownstreamSubscription implements Subscription {
+
+    private final Subscriber<?> subscriber;
+
+    DownstreamSubscription(Subscriber<?> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (subscriber == null) {
+        return;
+      }
+      synchronized (lock) {
+        if (n <= 0) {
+          if (error == null) {
+            error = new IllegalArgumentException("Requested number of items must be positive");
+          }
+        } else {
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      if (subscriber == null) {
+        return;
+      }
+      Subscription subscription;
+      List<CompletableFuture<?>> validations;
+      synchronized (lock) {
+        terminated = true;
+        subscription = upstream;
+        pending.clear();
+        validations = new ArrayList<>(running);
+        running.clear();
+      }
+      if (subscription != null) {
+        subscription.cancel();
+      }
+      validations.forEach(validation -> validation.cancel(true));
+    }
+  }
+}
@@ -26,8 +26,13 @@ import de.hipphampel.validation.core.path.ComponentPath.Component;
 import de.hipphampel.validation.core.path.ComponentPath.ComponentType;
 import de.hipphampel.validation.core.utils.Pair;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 
@@ -60,14 +65,33 @@ import java.util.stream.Stream;
  *   <li>{@link #resolvePatternLevel(Object, Component) resolvePatternLevel} which is called to
  *   resolve single level of a pattern {@code Path}</li>
  * </ol>
+ * <p>
+ * Concrete {@code ComponentPaths} can be {@linkplain #compile(Path) compiled}: the resulting {@link CompiledPath} resolves each level via a
+ * {@link LevelResolver} that is created once per component by {@link #createLevelResolver(Component) createLevelResolver}, which derived
+ * classes may override to specialize the access. Compiled paths are cached by this instance, so that compiling the same path or path string
+ * again is cheap. The number of cached paths is limited; once the limit is reached, further paths are not compiled, but resolved via this
+ * instance, so that paths built on the fly do not allocate new level caches each time.
+ * <p>
+ * Patterns are matched while descending the object: the resolver keeps track of the pattern components that might match the current level
+ * and enumerates the children of an object only if a wildcard component requires it. Matches are reported to a {@link PathVisitor}, see
+ * {@link #visitPattern(Object, Path, PathVisitor) visitPattern}; the enumeration of the children of an object is done by
+ * {@link #visitPatternLevel(Object, Component, ChildVisitor) visitPatternLevel}.
  *
  * @see ComponentPath
  */
 public abstract class AbstractComponentPathResolver implements PathResolver {
 
+  /**
+   * Marker returned by a {@link LevelResolver}, if the level cannot be resolved.
+   */
+  protected static final Object UNRESOLVED = new Object();
+
+  private static final int MAX_COMPILED_PATHS = 4096;
+
   private final String separator;
   private final String allInLevel;
   private final String manyLevels;
+  private final Map<Object, CompiledPath> compiledPaths;
 
   /**
    * Constructor.
@@ -80,6 +104,7 @@ public abstract class AbstractComponentPathResolver implements PathResolver {
     this.separator = separator;
     this.allInLevel = allInLevel;
     this.manyLevels = manyLevels;
+    this.compiledPaths = new ConcurrentHashMap<>();
   }
 
   /**
@@ -189,6 +214,67 @@ public abstract class AbstractComponentPathResolver implements PathResolver {
     return (Resolved<T>) Resolved.of(current);
   }
 
+  @Override
+  public CompiledPath compile(String str) {
+    return getOrCompile(str, () -> parse(str));
+  }
+
+  @Override
+  public CompiledPath compile(Path path) {
+    return getOrCompile(path, () -> path);
+  }
+
+  private CompiledPath getOrCompile(Object key, Supplier<Path> pathSupplier) {
+    CompiledPath compiledPath = compiledPaths.get(key);
+    if (compiledPath != null) {
+      return compiledPath;
+    }
+    Path path = pathSupplier.get();
+    if (compiledPaths.size() >= MAX_COMPILED_PATHS) {
+      return new DelegatingCompiledPath(this, path);
+    }
+    compiledPath = compilePath(path);
+    CompiledPath existing = compiledPaths.putIfAbsent(key, compiledPath);
+    return existing == null ? compiledPath : existing;
+  }
+
+  private CompiledPath compilePath(Path path) {
+    if (!(path instanceof ComponentPath cp)) {
+      return PathResolver.super.compile(path);
+    } else if (path.isPattern()) {
+      return compilePattern(cp);
+    }
+    LevelResolver[] levelResolvers = cp.getComponents().stream()
+        .map(this::createLevelResolver)
+        .toArray(LevelResolver[]::new);
+    return new CompiledConcretePath(cp, levelResolvers);
+  }
+
+  /**
+   * Creates the {@link LevelResolver} for the given {@code component}.
+   * <p>
+   * This is called when {@linkplain #compile(Path) compiling} a concrete {@code ComponentPath}, once for each of its components. It is
+   * guaranteed that the type of the {@code component} is {@link ComponentType#NamedLevel}. The default implementation returns a
+   * {@code LevelResolver} calling {@link #resolveLevel(Object, Component) resolveLevel}; derived classes that override this method need to
+   * ensure that the returned instance behaves the same way.
+   *
+   * @param component The component of the {@code Path} to resolve
+   * @return The {@code LevelResolver}
+   */
+  protected LevelResolver createLevelResolver(Component component) {
+    return ref -> toLevelValue(resolveLevel(ref, component));
+  }
+
+  /**
+   * Converts the given {@link Resolved} into the value to be returned by a {@link LevelResolver}.
+   *
+   * @param resolved The {@code Resolved}
+   * @return The value, or {@link #UNRESOLVED}, if {@code resolved} is empty.
+   */
+  protected static Object toLevelValue(Resolved<?> resolved) {
+    return resolved.isPresent() ? resolved.get() : UNRESOLVED;
+  }
+
   /**
    * Resolves one level of a concrete {@code ComponentPath}.
    * <p>
@@ -207,43 +293,37 @@ public abstract class AbstractComponentPathResolver implements PathResolver {
     if (!(pattern instanceof ComponentPath cp) || pattern.isConcrete()) {
       return exists(ref, pattern) ? Stream.of(pattern) : Stream.empty();
     }
+    return compilePattern(cp).resolvePattern(ref);
+  }
+
+  @Override
+  public void visitPattern(Object ref, Path pattern, PathVisitor visitor) {
+    if (!(pattern instanceof ComponentPath cp)) {
+      return;
+    }
+    if (pattern.isConcrete()) {
+      Resolved<Object> value = resolve(ref, pattern);
+      if (value.isPresent()) {
+        visitor.visit(pattern, value.get());
+      }
+      return;
+    }
+    compilePattern(cp).visitPattern(ref, visitor);
+  }
 
-    return patternStream(ref, cp, 0, ComponentPath.empty())
-        .filter(p -> p.isMatchedBy(pattern));
+  @Override
+  public boolean exists(Object ref, Path path) {
+    if (!(path instanceof ComponentPath cp) || path.isConcrete()) {
+      return PathResolver.super.exists(ref, path);
+    }
+    return compilePattern(cp).exists(ref);
   }
 
-  private Stream<ComponentPath> patternStream(Object ref, ComponentPath pattern, int level,
-      ComponentPath concreteParentPath) {
-    if (level == pattern.getComponents().size()) {
-      return Stream.of(concreteParentPath);
-    }
-    if (level > pattern.getComponents().size()) {
-      return Stream.empty();
-    }
-
-    Component component = pattern.getComponents().get(level);
-    return switch (component.type()) {
-      case NamedLevel -> resolveLevel(ref, component).stream()
-          .flatMap(value -> patternStream(
-              value,
-              pattern,
-              level + 1,
-              concreteParentPath.concat(component)));
-      case AnyInLevel -> resolvePatternLevel(ref, component)
-          .flatMap(p -> patternStream(
-              p.second(),
-              pattern,
-              level + 1,
-              concreteParentPath.concat(p.first())));
-      case ManyLevels -> Stream.concat(
-          Stream.of(concreteParentPath),
-          resolvePatternLevel(ref, component)
-              .flatMap(p -> patternStream(
-                  p.second(),
-                  pattern,
-                  level,
-                  concreteParentPath.concat(p.first()))));
-    };
+  private CompiledPath compilePattern(ComponentPath pattern) {
+    if (pattern.getComponents().size() >= Long.SIZE) {
+      return new DelegatingCompiledPath(new LegacyPatternResolver(), pattern);
+    }
+    return new CompiledPatternPath(pattern);
   }
 
   /**
@@ -261,4 +341,343 @@ public abstract class AbstractComponentPathResolver implements PathResolver {
   protected abstract Stream<Pair<Component, Object>> resolvePatternLevel(Object ref,
       Component component);
 
+  /**
+   * Visits the children of {@code ref} for one level of a pattern {@code ComponentPath}.
+   * <p>
+   * This is called when visiting a pattern, in order to enumerate the children of {@code ref}; it is the callback based counterpart of
+   * {@link #resolvePatternLevel(Object, Component) resolvePatternLevel}: it calls the {@code visitor} for each pair of a concrete
+   * {@link Component} (having the type {@link ComponentType#NamedLevel}) and the corresponding child object, until the {@code visitor}
+   * returns {@code false}. This implementation iterates the stream returned by {@code resolvePatternLevel}; derived classes might override
+   * it to avoid the stream, but need to ensure that both methods report the same children in the same order.
+   *
+   * @param ref       The object where the {@code component} is applied to
+   * @param component The component of the {@code Path} to resolve, which is not of type {@code NamedLevel}
+   * @param visitor   The {@link ChildVisitor}
+   * @return {@code false}, if the {@code visitor} stopped the visit, otherwise {@code true}
+   */
+  protected boolean visitPatternLevel(Object ref, Component component, ChildVisitor visitor) {
+    Iterator<Pair<Component, Object>> children = resolvePatternLevel(ref, component).iterator();
+    while (children.hasNext()) {
+      Pair<Component, Object> child = children.next();
+      if (!visitor.visitChild(child.first(), child.second())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Callback for {@link #visitPatternLevel(Object, Component, ChildVisitor) visitPatternLevel}.
+   */
+  @FunctionalInterface
+  protected interface ChildVisitor {
+
+    /**
+     * Called for each child of an object.
+     *
+     * @param component The {@link Component} addressing the child, having the type {@link ComponentType#NamedLevel}
+     * @param value     The child
+     * @return {@code true}, if the visit should continue, {@code false} to stop it
+     */
+    boolean visitChild(Component component, Object value);
+  }
+
+  /**
+   * Resolves one level of a {@linkplain #compile(Path) compiled} concrete {@code ComponentPath}.
+   * <p>
+   * Instances are created via {@link #createLevelResolver(Component) createLevelResolver}. In contrast to
+   * {@link #resolveLevel(Object, Component) resolveLevel}, a not resolvable level is indicated by returning {@link #UNRESOLVED}, so that
+   * no intermediate {@link Resolved} objects need to be created.
+   */
+  @FunctionalInterface
+  protected interface LevelResolver {
+
+    /**
+     * Resolves the level for the given {@code ref}.
+     *
+     * @param ref The object where the level is applied to
+     * @return The resolved value, or {@link #UNRESOLVED}, if not resolvable.
+     */
+    Object resolveLevel(Object ref);
+  }
+
+  private class CompiledConcretePath implements CompiledPath {
+
+    private final ComponentPath path;
+    private final LevelResolver[] levelResolvers;
+
+    private CompiledConcretePath(ComponentPath path, LevelResolver[] levelResolvers) {
+      this.path = path;
+      this.levelResolvers = levelResolvers;
+    }
+
+    @Override
+    public Path getPath() {
+      return path;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Resolved<T> resolve(Object ref) {
+      Object value = resolveValue(ref);
+      return value == UNRESOLVED ? Resolved.empty() : (Resolved<T>) Resolved.of(value);
+    }
+
+    @Override
+    public Stream<? extends Path> resolvePattern(Object ref) {
+      return exists(ref) ? Stream.of(path) : Stream.empty();
+    }
+
+    @Override
+    public void visitPattern(Object ref, PathVisitor visitor) {
+      Object value = resolveValue(ref);
+      if (value != UNRESOLVED) {
+        visitor.visit(path, value);
+      }
+    }
+
+    @Override
+    public boolean exists(Object ref) {
+      return resolveValue(ref) != UNRESOLVED;
+    }
+
+    private Object resolveValue(Object ref) {
+      Object current = ref;
+      for (LevelResolver levelResolver : levelResolvers) {
+        current = levelResolver.resolveLevel(current);
+        if (current == UNRESOLVED) {
+          break;
+        }
+      }
+      return current;
+    }
+  }
+
+  /**
+   * {@link CompiledPath} for patterns.
+   * <p>
+   * The pattern is matched while descending the object graph by tracking the set of pattern positions that might match the next level in a
+   * bit mask: bit {@code i} means that the {@code i}-th pattern component is the next one to match; the bit at the position of the pattern
+   * length means that the pattern is completely matched. Since a {@link ComponentType#ManyLevels} component might match zero levels, the
+   * position after it is always added when its own position is reached. This way, each concrete path is visited at most once and no
+   * {@code ComponentPath} is created for the intermediate levels.
+   * <p>
+   * The matching follows {@link ComponentPath#isMatchedBy(Path)}: a trailing {@code ManyLevels} component matches at least one level, and
+   * the empty path is only matched, if all components are {@code ManyLevels}. So the completely matched state is never reached by zero
+   * levels of a {@code ManyLevels} component, except initially.
+   */
+  private class CompiledPatternPath implements CompiledPath {
+
+    private final ComponentPath pattern;
+    private final Component[] components;
+    private final long anyInLevelMask;
+    private final long manyLevelsMask;
+    private final long namedLevelMask;
+    private final long acceptMask;
+    private final long initialStates;
+
+    private CompiledPatternPath(ComponentPath pattern) {
+      this.pattern = pattern;
+      this.components = pattern.getComponents().toArray(Component[]::new);
+      long anyInLevel = 0;
+      long manyLevels = 0;
+      long namedLevel = 0;
+      for (int i = 0; i < components.length; i++) {
+        switch (components[i].type()) {
+          case NamedLevel -> namedLevel |= 1L << i;
+          case AnyInLevel -> anyInLevel |= 1L << i;
+          case ManyLevels -> manyLevels |= 1L << i;
+        }
+      }
+      this.anyInLevelMask = anyInLevel;
+      this.manyLevelsMask = manyLevels;
+      this.namedLevelMask = namedLevel;
+      this.acceptMask = 1L << components.length;
+      this.initialStates = closure(1L) | (manyLevels == acceptMask - 1 ? acceptMask : 0);
+    }
+
+    @Override
+    public Path getPath() {
+      return pattern;
+    }
+
+    @Override
+    public <T> Resolved<T> resolve(Object ref) {
+      return Resolved.empty();
+    }
+
+    @Override
+    public Stream<? extends Path> resolvePattern(Object ref) {
+      List<Path> paths = new ArrayList<>();
+      visitPattern(ref, (path, value) -> paths.add(path));
+      return paths.stream();
+    }
+
+    @Override
+    public void visitPattern(Object ref, PathVisitor visitor) {
+      new PatternVisit(visitor).visit(ref, initialStates, 0);
+    }
+
+    @Override
+    public boolean exists(Object ref) {
+      boolean[] found = new boolean[1];
+      visitPattern(ref, (path, value) -> {
+        found[0] = true;
+        return false;
+      });
+      return found[0];
+    }
+
+    private long closure(long states) {
+      long many = states & manyLevelsMask;
+      while (many != 0) {
+        long bit = Long.lowestOneBit(many);
+        many &= ~bit;
+        if ((bit << 1) != acceptMask && (states & (bit << 1)) == 0) {
+          states |= bit << 1;
+          many |= (bit << 1) & manyLevelsMask;
+        }
+      }
+      return states;
+    }
+
+    private long step(long states, Component child) {
+      long many = states & manyLevelsMask;
+      // A ManyLevels component stays active; if it is the last one, the consumed level completes the match
+      long next = ((states & anyInLevelMask) << 1) | many | ((many << 1) & acceptMask);
+      long named = states & namedLevelMask;
+      while (named != 0) {
+        int position = Long.numberOfTrailingZeros(named);
+        named &= named - 1;
+        if (components[position].name().equals(child.name())) {
+          next |= 1L << (position + 1);
+        }
+      }
+      return closure(next);
+    }
+
+    private class PatternVisit {
+
+      private final PathVisitor visitor;
+      private Component[] stack;
+
+      private PatternVisit(PathVisitor visitor) {
+        this.visitor = visitor;
+        this.stack = new Component[Math.max(components.length, 4)];
+      }
+
+      private boolean visit(Object value, long states, int depth) {
+        if ((states & acceptMask) != 0 && !visitor.visit(toPath(depth), value)) {
+          return false;
+        }
+        long active = states & ~acceptMask;
+        if (active == 0) {
+          return true;
+        }
+        long wildcards = active & (anyInLevelMask | manyLevelsMask);
+        if (wildcards == 0) {
+          return visitNamedChildren(value, active, depth);
+        }
+        Component wildcard = components[Long.numberOfTrailingZeros(wildcards)];
+        return visitPatternLevel(value, wildcard, (component, child) -> {
+          long next = step(active, component);
+          return next == 0 || visitChild(component, child, next, depth);
+        });
+      }
+
+      private boolean visitNamedChildren(Object value, long active, int depth) {
+        long named = active;
+        while (named != 0) {
+          int position = Long.numberOfTrailingZeros(named);
+          named &= named - 1;
+          Component component = components[position];
+          if (isNameHandledBefore(active, position)) {
+            continue;
+          }
+          Object child = toLevelValue(resolveLevel(value, component));
+          if (child != UNRESOLVED && !visitChild(component, child, step(active, component), depth)) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      private boolean isNameHandledBefore(long active, int position) {
+        long before = active & ((1L << position) - 1);
+        while (before != 0) {
+          int other = Long.numberOfTrailingZeros(before);
+          before &= before - 1;
+          if (components[other].name().equals(components[position].name())) {
+            return true;
+          }
+        }
+        return false;
+      }
+
+      private boolean visitChild(Component component, Object child, long states, int depth) {
+        if (depth == stack.length) {
+          stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth] = component;
+        return visit(child, states, depth + 1);
+      }
+
+      private Path toPath(int depth) {
+        return depth == 0 ? ComponentPath.empty() : new ComponentPath(Arrays.asList(Arrays.copyOf(stack, depth)));
+      }
+    }
+  }
+
+  /**
+   * Resolves patterns having more components than the {@link CompiledPatternPath} supports.
+   * <p>
+   * It enumerates all paths on the levels covered by the pattern and filters them afterwards.
+   */
+  private class LegacyPatternResolver implements PathResolver {
+
+    @Override
+    public Path selfPath() {
+      return AbstractComponentPathResolver.this.selfPath();
+    }
+
+    @Override
+    public Path parse(String str) {
+      return AbstractComponentPathResolver.this.parse(str);
+    }
+
+    @Override
+    public String toString(Path path) {
+      return AbstractComponentPathResolver.this.toString(path);
+    }
+
+    @Override
+    public <T> Resolved<T> resolve(Object ref, Path path) {
+      return AbstractComponentPathResolver.this.resolve(ref, path);
+    }
+
+    @Override
+    public Stream<? extends Path> resolvePattern(Object ref, Path pattern) {
+      ComponentPath cp = (ComponentPath) pattern;
+      return patternStream(ref, cp, 0, ComponentPath.empty())
+          .filter(p -> p.isMatchedBy(pattern))
+          .distinct();
+    }
+
+    private Stream<ComponentPath> patternStream(Object ref, ComponentPath pattern, int level, ComponentPath concreteParentPath) {
+      if (level == pattern.getComponents().size()) {
+        return Stream.of(concreteParentPath);
+      }
+      Component component = pattern.getComponents().get(level);
+      return switch (component.type()) {
+        case NamedLevel -> resolveLevel(ref, component).stream()
+            .flatMap(value -> patternStream(value, pattern, level + 1, concreteParentPath.concat(component)));
+        case AnyInLevel -> resolvePatternLevel(ref, component)
+            .flatMap(p -> patternStream(p.second(), pattern, level + 1, concreteParentPath.concat(p.first())));
+        case ManyLevels -> Stream.concat(
+            Stream.of(concreteParentPath),
+            resolvePatternLevel(ref, component)
+                .flatMap(p -> patternStream(p.second(), pattern, level, concreteParentPath.concat(p.first()))));
+      };
+    }
+  }
 }
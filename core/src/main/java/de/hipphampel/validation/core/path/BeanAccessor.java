@@ -23,6 +23,7 @@
 package de.hipphampel.validation.core.path;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Supplemental service for a {@link BeanPathResolver} for accessing the properties of a bean.
@@ -62,4 +63,19 @@ public interface BeanAccessor {
    * @return The property names.
    */
   List<String> getPropertyNames(Object bean);
+
+  /**
+   * Gets a function to read the property named {@code name} from beans having exactly the given {@code beanType}.
+   * <p>
+   * This is optional: it allows a {@link BeanPathResolver} to bind the property access of a {@link CompiledPath} once per class instead of
+   * looking it up for each bean. The returned function must behave like {@link #getProperty(Object, String) getProperty}, except that it
+   * returns the plain value. The default implementation returns {@code null}, meaning that this is not supported.
+   *
+   * @param beanType The {@link Class} of the beans
+   * @param name     The property name
+   * @return The function or {@code null}, if the property is unknown or the feature is not supported
+   */
+  default Function<Object, Object> getPropertyReader(Class<?> beanType, String name) {
+    return null;
+  }
 }
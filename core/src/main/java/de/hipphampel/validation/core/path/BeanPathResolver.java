@@ -25,6 +25,7 @@ package de.hipphampel.validation.core.path;
 import de.hipphampel.validation.core.path.ComponentPath.Component;
 import de.hipphampel.validation.core.path.ComponentPath.ComponentType;
 import de.hipphampel.validation.core.utils.Pair;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -96,7 +97,24 @@ public class BeanPathResolver extends CollectionPathResolver {
    */
   public BeanPathResolver(String separator, String allInLevel, String manyLevels, BeanAccessor beanAccessor,
       boolean mapUnresolvableToNull) {
-    super(separator, allInLevel, manyLevels, mapUnresolvableToNull);
+    this(separator, allInLevel, manyLevels, beanAccessor, mapUnresolvableToNull, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param separator             String used to separate the different components.
+   * @param allInLevel            String representing exactly one levels having any name
+   * @param manyLevels            String representing zero or more levels having any name
+   * @param beanAccessor          The {@code BeanAccessor} to use
+   * @param mapUnresolvableToNull If {@code true}, then not existing concrete {@link Path Paths} resolve to a {@link Resolved} with value
+   *                              {@code null}. If {@code false} it resolves to an {@link Resolved#empty() empty} {@code Resolved}
+   * @param snapshotCollections   If {@code true}, index lookups on {@code Collections} that are not {@code Lists} use a snapshot array
+   *                              cached by the identity of the collection, see {@link CollectionPathResolver}
+   */
+  public BeanPathResolver(String separator, String allInLevel, String manyLevels, BeanAccessor beanAccessor,
+      boolean mapUnresolvableToNull, boolean snapshotCollections) {
+    super(separator, allInLevel, manyLevels, mapUnresolvableToNull, snapshotCollections);
     this.beanAccessor = beanAccessor;
   }
 
@@ -108,6 +126,25 @@ public class BeanPathResolver extends CollectionPathResolver {
     return super.resolveLevelForNonCollection(ref, component);
   }
 
+  @Override
+  protected LevelResolver createLevelResolverForNonCollection(Class<?> type, Component component) {
+    Function<Object, Object> propertyReader = beanAccessor.getPropertyReader(type, component.name());
+    if (propertyReader != null) {
+      return propertyReader::apply;
+    }
+    return super.createLevelResolverForNonCollection(type, component);
+  }
+
+  @Override
+  protected boolean visitPatternLevelForNonCollection(Object ref, Component component, ChildVisitor visitor) {
+    for (String name : beanAccessor.getPropertyNames(ref)) {
+      if (!visitor.visitChild(new Component(ComponentType.NamedLevel, name), beanAccessor.getProperty(ref, name).get())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   protected Stream<Pair<Component, Object>> resolvePatternLevelForNonCollection(Object ref,
       Component component) {
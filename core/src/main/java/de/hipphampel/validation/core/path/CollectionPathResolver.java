@@ -26,8 +26,10 @@ import de.hipphampel.validation.core.path.ComponentPath.Component;
 import de.hipphampel.validation.core.path.ComponentPath.ComponentType;
 import de.hipphampel.validation.core.utils.Pair;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -48,13 +50,28 @@ import java.util.stream.Stream;
  * <p>
  * Apart from that this implementation follows the same semantics as described for its base class, the
  * {@link AbstractComponentPathResolver}
+ * <p>
+ * The {@link LevelResolver LevelResolvers} of {@linkplain #compile(Path) compiled} paths are specialized for the runtime classes they
+ * observe: for each class, {@link #createLevelResolver(Class, Component)} is called once, and the result is remembered in an inline cache,
+ * which is optimized for the case that a level always sees objects of the same class.
+ * <p>
+ * Resolving a concrete index on a {@code Collection} that is not a {@link List} requires to iterate the collection up to that index. If
+ * all elements of such a collection are addressed one by one, this leads to quadratic costs. For that case, the resolver can be created
+ * with {@code snapshotCollections} enabled: the first index lookup on such a collection copies its elements into an array, which is
+ * cached by the identity of the collection and used for all further index lookups. Since the snapshots are kept as long as the resolver
+ * lives and do not reflect later modifications of the collections, such a resolver should be used for a single validation only.
  *
  * @see AbstractComponentPathResolver
  * @see ComponentPath
  */
 public class CollectionPathResolver extends AbstractComponentPathResolver {
 
+  private static final Component[] INDEX_COMPONENTS = IntStream.range(0, 1024)
+      .mapToObj(i -> new Component(ComponentType.NamedLevel, String.valueOf(i)))
+      .toArray(Component[]::new);
+
   private final boolean mapUnresolvableToNull;
+  private final Map<IdentityKey, Object[]> snapshots;
 
   /**
    * Constructor.
@@ -64,10 +81,27 @@ public class CollectionPathResolver extends AbstractComponentPathResolver {
    * @param manyLevels            String representing zero or more levels having any name
    * @param mapUnresolvableToNull If {@code true}, then not existing concrete {@link Path Paths} resolve to a {@link Resolved} with value
    *                              {@code null}. If {@code false} it resolves to an {@link Resolved#empty() empty} {@code Resolved}
+   * @param snapshotCollections   If {@code true}, index lookups on {@code Collections} that are not {@code Lists} use a snapshot array
+   *                              cached by the identity of the collection
    */
-  public CollectionPathResolver(String separator, String allInLevel, String manyLevels, boolean mapUnresolvableToNull) {
+  public CollectionPathResolver(String separator, String allInLevel, String manyLevels, boolean mapUnresolvableToNull,
+      boolean snapshotCollections) {
     super(separator, allInLevel, manyLevels);
     this.mapUnresolvableToNull = mapUnresolvableToNull;
+    this.snapshots = snapshotCollections ? new ConcurrentHashMap<>() : null;
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param separator             String used to separate the different components.
+   * @param allInLevel            String representing exactly one levels having any name
+   * @param manyLevels            String representing zero or more levels having any name
+   * @param mapUnresolvableToNull If {@code true}, then not existing concrete {@link Path Paths} resolve to a {@link Resolved} with value
+   *                              {@code null}. If {@code false} it resolves to an {@link Resolved#empty() empty} {@code Resolved}
+   */
+  public CollectionPathResolver(String separator, String allInLevel, String manyLevels, boolean mapUnresolvableToNull) {
+    this(separator, allInLevel, manyLevels, mapUnresolvableToNull, false);
   }
 
   /**
@@ -102,6 +136,16 @@ public class CollectionPathResolver extends AbstractComponentPathResolver {
     return mapUnresolvableToNull;
   }
 
+  /**
+   * Gets the {@code snapshotCollections}
+   *
+   * @return If {@code true}, index lookups on {@code Collections} that are not {@code Lists} use a snapshot array cached by the identity of
+   * the collection
+   */
+  public boolean isSnapshotCollections() {
+    return snapshots != null;
+  }
+
   @Override
   protected Resolved<Object> resolveLevel(Object ref, Component component) {
     if (ref instanceof Map<?, ?> map) {
@@ -120,12 +164,8 @@ public class CollectionPathResolver extends AbstractComponentPathResolver {
         return Resolved.empty();
       }
     } else if (ref instanceof Collection<?> collection) {
-      int index = stringToIndex(component.name());
-      if (index >= 0 && index < collection.size()) {
-        return Resolved.of(collection.stream().skip(index).findFirst().orElseThrow());
-      } else {
-        return Resolved.empty();
-      }
+      Object value = getCollectionElement(collection, stringToIndex(component.name()));
+      return value == UNRESOLVED ? Resolved.empty() : Resolved.of(value);
     }
     return resolveLevelForNonCollection(ref, component);
   }
@@ -144,6 +184,82 @@ public class CollectionPathResolver extends AbstractComponentPathResolver {
     return mapUnresolvableToNull ? Resolved.of(null) : Resolved.empty();
   }
 
+  @Override
+  protected LevelResolver createLevelResolver(Component component) {
+    return new InlineCachingLevelResolver(component);
+  }
+
+  /**
+   * Creates a {@link LevelResolver} specialized for objects having exactly the given {@code type}.
+   * <p>
+   * This is called by the {@code LevelResolvers} of {@linkplain #compile(Path) compiled paths} once for each {@code type} they observe. The
+   * returned instance must behave like {@link #resolveLevel(Object, Component) resolveLevel}. For types that are neither {@link Map Maps}
+   * nor {@link Collection Collections}, it calls {@link #createLevelResolverForNonCollection(Class, Component)
+   * createLevelResolverForNonCollection}.
+   *
+   * @param type      The {@link Class} of the objects the {@code LevelResolver} is applied to
+   * @param component The component of the {@code Path} to resolve
+   * @return The {@code LevelResolver}
+   */
+  protected LevelResolver createLevelResolver(Class<?> type, Component component) {
+    String name = component.name();
+    if (Map.class.isAssignableFrom(type)) {
+      Object missing = mapUnresolvableToNull ? null : UNRESOLVED;
+      return ref -> {
+        Map<?, ?> map = (Map<?, ?>) ref;
+        Object value = map.get(name);
+        return value != null || map.containsKey(name) ? value : missing;
+      };
+    } else if (List.class.isAssignableFrom(type)) {
+      int index = stringToIndex(name);
+      return ref -> {
+        List<?> list = (List<?>) ref;
+        return index >= 0 && index < list.size() ? list.get(index) : UNRESOLVED;
+      };
+    } else if (Collection.class.isAssignableFrom(type)) {
+      int index = stringToIndex(name);
+      return ref -> getCollectionElement((Collection<?>) ref, index);
+    }
+    return createLevelResolverForNonCollection(type, component);
+  }
+
+  /**
+   * Creates a {@link LevelResolver} specialized for objects having exactly the given {@code type}, which is neither a {@link Map} nor a
+   * {@link Collection}.
+   * <p>
+   * The returned instance must behave like {@link #resolveLevelForNonCollection(Object, Component) resolveLevelForNonCollection}, which is
+   * what this implementation calls.
+   *
+   * @param type      The {@link Class} of the objects the {@code LevelResolver} is applied to
+   * @param component The component of the {@code Path} to resolve
+   * @return The {@code LevelResolver}
+   */
+  protected LevelResolver createLevelResolverForNonCollection(Class<?> type, Component component) {
+    return ref -> toLevelValue(resolveLevelForNonCollection(ref, component));
+  }
+
+  private Object getCollectionElement(Collection<?> collection, int index) {
+    if (index < 0) {
+      return UNRESOLVED;
+    }
+    if (snapshots != null) {
+      Object[] snapshot = snapshots.computeIfAbsent(new IdentityKey(collection), key -> collection.toArray());
+      return index < snapshot.length ? snapshot[index] : UNRESOLVED;
+    }
+    if (index >= collection.size()) {
+      return UNRESOLVED;
+    }
+    Iterator<?> it = collection.iterator();
+    for (int i = 0; i < index; i++) {
+      it.next();
+    }
+    return it.next();
+  }
+
+  private static Component indexComponent(int index) {
+    return index < INDEX_COMPONENTS.length ? INDEX_COMPONENTS[index] : new Component(ComponentType.NamedLevel, String.valueOf(index));
+  }
+
   private int stringToIndex(String str) {
     try {
       return Integer.parseInt(str);
@@ -162,18 +278,62 @@ public class CollectionPathResolver extends AbstractComponentPathResolver {
     } else if (ref instanceof List list) {
       return IntStream.range(0, list.size()).boxed()
           .map(i -> Pair.of(
-              new Component(ComponentType.NamedLevel, "" + i),
+              indexComponent(i),
               list.get(i)));
     } else if (ref instanceof Collection collection) {
       AtomicInteger i = new AtomicInteger();
       return ((Collection<?>) collection).stream()
           .map(e -> Pair.of(
-              new Component(ComponentType.NamedLevel, "" + i.getAndIncrement()),
+              indexComponent(i.getAndIncrement()),
               e));
     }
     return resolvePatternLevelForNonCollection(ref, component);
   }
 
+  @Override
+  protected boolean visitPatternLevel(Object ref, Component component, ChildVisitor visitor) {
+    if (ref instanceof Map<?, ?> map) {
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        if (!visitor.visitChild(new Component(ComponentType.NamedLevel, String.valueOf(entry.getKey())), entry.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    } else if (ref instanceof Collection<?> collection) {
+      int index = 0;
+      for (Object element : collection) {
+        if (!visitor.visitChild(indexComponent(index++), element)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return visitPatternLevelForNonCollection(ref, component, visitor);
+  }
+
+  /**
+   * Called when visiting a pattern level for a non map or collection.
+   * <p>
+   * This is the callback based counterpart of {@link #resolvePatternLevelForNonCollection(Object, Component)
+   * resolvePatternLevelForNonCollection}, which is what this implementation iterates. Derived classes overriding one of them need to ensure
+   * that both report the same children in the same order.
+   *
+   * @param ref       The object where the {@code component} is applied to
+   * @param component The component of the {@code Path} to resolve
+   * @param visitor   The {@link ChildVisitor}
+   * @return {@code false}, if the {@code visitor} stopped the visit, otherwise {@code true}
+   */
+  protected boolean visitPatternLevelForNonCollection(Object ref, Component component, ChildVisitor visitor) {
+    Iterator<Pair<Component, Object>> children = resolvePatternLevelForNonCollection(ref, component).iterator();
+    while (children.hasNext()) {
+      Pair<Component, Object> child = children.next();
+      if (!visitor.visitChild(child.first(), child.second())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Called when attempting to resolve a patter level for a non map or collection.
    * <p>
@@ -189,4 +349,50 @@ public class CollectionPathResolver extends AbstractComponentPathResolver {
       Component component) {
     return Stream.empty();
   }
+
+  private record IdentityKey(Object ref) {
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof IdentityKey other && other.ref == ref;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(ref);
+    }
+  }
+
+  private record Specialization(Class<?> type, LevelResolver levelResolver) {
+
+  }
+
+  private class InlineCachingLevelResolver implements LevelResolver {
+
+    private final Component component;
+    private final Map<Class<?>, LevelResolver> specializations;
+    private Specialization monomorphic;
+
+    private InlineCachingLevelResolver(Component component) {
+      this.component = component;
+      this.specializations = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Object resolveLevel(Object ref) {
+      if (ref == null) {
+        return toLevelValue(CollectionPathResolver.this.resolveLevel(null, component));
+      }
+      Class<?> type = ref.getClass();
+      Specialization specialization = monomorphic;
+      if (specialization != null && specialization.type() == type) {
+        return specialization.levelResolver().resolveLevel(ref);
+      }
+      LevelResolver levelResolver = specializations.computeIfAbsent(type, t -> createLevelResolver(t, component));
+      if (specialization == null) {
+        monomorphic = new Specialization(type, levelResolver);
+      }
+      return levelResolver.resolveLevel(ref);
+    }
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.path;
+
+import java.util.stream.Stream;
+
+/**
+ * A {@link Path} prepared for repeated evaluation.
+ * <p>
+ * Instances of this interface are created by {@link PathResolver#compile(Path)} respectively {@link PathResolver#compile(String)}. They
+ * are bound to the {@link PathResolver} that created them and behave exactly like calling the corresponding methods of the
+ * {@code PathResolver} with the {@linkplain #getPath() underlying path}, but might perform better, since the preparations that are
+ * independent of the reference object are done only once.
+ * <p>
+ * Instances are intended to be reused and therefore need to be thread safe.
+ *
+ * @see PathResolver#compile(Path)
+ */
+public interface CompiledPath {
+
+  /**
+   * Gets the underlying {@link Path}.
+   *
+   * @return The {@code Path}
+   */
+  Path getPath();
+
+  /**
+   * Resolves the path based on the {@code ref}.
+   * <p>
+   * This is the same as calling {@link PathResolver#resolve(Object, Path)} with the {@linkplain #getPath() underlying path}.
+   *
+   * @param ref The reference object
+   * @param <T> Type of the resolved object
+   * @return The {@link Resolved} object, which might be defined or not.
+   */
+  <T> Resolved<T> resolve(Object ref);
+
+  /**
+   * Resolves the path as pattern based on the {@code ref}.
+   * <p>
+   * This is the same as calling {@link PathResolver#resolvePattern(Object, Path)} with the {@linkplain #getPath() underlying path}.
+   *
+   * @param ref The reference object
+   * @return The stream of matching {@code Paths}.
+   */
+  Stream<? extends Path> resolvePattern(Object ref);
+
+  /**
+   * Visits all concrete {@code Paths} matching the path based on {@code ref}.
+   * <p>
+   * This is the same as calling {@link PathResolver#visitPattern(Object, Path, PathVisitor)} with the {@linkplain #getPath() underlying
+   * path}.
+   *
+   * @param ref     The reference object
+   * @param visitor The {@link PathVisitor}
+   */
+  void visitPattern(Object ref, PathVisitor visitor);
+
+  /**
+   * Checks, whether the path exists based on {@code ref}.
+   * <p>
+   * This is the same as calling {@link PathResolver#exists(Object, Path)} with the {@linkplain #getPath() underlying path}.
+   *
+   * @param ref The reference object
+   * @return {@code true}, if exists
+   */
+  boolean exists(Object ref);
+}
@@ -111,6 +111,7 @@ public class ComponentPath implements Path {
 
   private final List<Component> components;
   private final boolean pattern;
+  private final int hashCode;
 
   /**
    * Constructor.
@@ -120,6 +121,7 @@ public class ComponentPath implements Path {
   public ComponentPath(List<Component> components) {
     this.components = Collections.unmodifiableList(Objects.requireNonNull(components));
     this.pattern = components.stream().anyMatch(component -> component.type != NamedLevel);
+    this.hashCode = Objects.hash(components, pattern);
   }
 
   /**
@@ -269,6 +271,25 @@ public class ComponentPath implements Path {
     };
   }
 
+  @Override
+  public boolean overlaps(Path other) {
+    if (!(other instanceof ComponentPath cp)) {
+      return true;
+    }
+    int count = Math.min(components.size(), cp.components.size());
+    for (int i = 0; i < count; i++) {
+      Component mine = components.get(i);
+      Component theirs = cp.components.get(i);
+      if (mine.type == ComponentType.ManyLevels || theirs.type == ComponentType.ManyLevels) {
+        return true;
+      }
+      if (mine.type == ComponentType.NamedLevel && theirs.type == ComponentType.NamedLevel && !mine.name.equals(theirs.name)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Gets the last {@link Component} of this path
    *
@@ -287,12 +308,12 @@ public class ComponentPath implements Path {
       return false;
     }
     ComponentPath that = (ComponentPath) o;
-    return pattern == that.pattern && Objects.equals(components, that.components);
+    return hashCode == that.hashCode && pattern == that.pattern && Objects.equals(components, that.components);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(components, pattern);
+    return hashCode;
   }
 
   /**
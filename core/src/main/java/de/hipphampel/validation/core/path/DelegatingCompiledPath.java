@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.path;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * {@link CompiledPath} that simply delegates to its {@link PathResolver}.
+ * <p>
+ * This is the default implementation for {@code PathResolvers} that have no specialized support for compiled paths.
+ *
+ * @param pathResolver The {@code PathResolver}
+ * @param path         The {@link Path}
+ */
+public record DelegatingCompiledPath(PathResolver pathResolver, Path path) implements CompiledPath {
+
+  /**
+   * Constructor.
+   *
+   * @param pathResolver The {@code PathResolver}
+   * @param path         The {@link Path}
+   */
+  public DelegatingCompiledPath {
+    Objects.requireNonNull(pathResolver);
+    Objects.requireNonNull(path);
+  }
+
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  @Override
+  public <T> Resolved<T> resolve(Object ref) {
+    return pathResolver.resolve(ref, path);
+  }
+
+  @Override
+  public Stream<? extends Path> resolvePattern(Object ref) {
+    return pathResolver.resolvePattern(ref, path);
+  }
+
+  @Override
+  public void visitPattern(Object ref, PathVisitor visitor) {
+    pathResolver.visitPattern(ref, path, visitor);
+  }
+
+  @Override
+  public boolean exists(Object ref) {
+    return pathResolver.exists(ref, path);
+  }
+}
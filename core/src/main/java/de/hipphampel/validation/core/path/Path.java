@@ -85,4 +85,19 @@ public interface Path {
    * @return The concatenated {@code Path}
    */
   Path concat(Path child);
+
+  /**
+   * Checks, whether this and the {@code other} {@link Path} overlap.
+   * <p>
+   * Two paths overlap, if the object one path points to might contain or be contained in the object the other path points to, so if one
+   * path is a prefix of the other. Patterns overlap with any path that matches or contains a path they match.
+   * <p>
+   * This default implementation always returns {@code true}, which is the safe answer for implementations that cannot tell.
+   *
+   * @param other The other {@code Path}
+   * @return {@code true}, if the paths overlap
+   */
+  default boolean overlaps(Path other) {
+    return true;
+  }
 }
@@ -22,6 +22,7 @@
  */
 package de.hipphampel.validation.core.path;
 
+import java.util.Iterator;
 import java.util.stream.Stream;
 
 /**
@@ -76,6 +77,36 @@ public interface PathResolver {
    */
   Path parse(String str);
 
+  /**
+   * Compiles the given {@code path} into a {@link CompiledPath}.
+   * <p>
+   * A {@code CompiledPath} behaves exactly like calling the {@code resolve*} and {@code exists} methods of this instance with the
+   * {@code path}, but is intended to be kept and reused, so that implementations might do all preparations that are independent of the
+   * reference object only once. Implementations are also free to cache the compiled paths. The default implementation just returns a
+   * {@link DelegatingCompiledPath}.
+   *
+   * @param path The {@link Path}
+   * @return The {@code CompiledPath}
+   */
+  default CompiledPath compile(Path path) {
+    return new DelegatingCompiledPath(this, path);
+  }
+
+  /**
+   * Parses and compiles the given {@code str} into a {@link CompiledPath}.
+   * <p>
+   * This is basically the same as calling {@code compile(parse(str))}, but implementations might cache the result, so that repeated
+   * calls with the same string neither parse nor compile the path again.
+   *
+   * @param str String representation of the {@code Path}
+   * @return The {@code CompiledPath}
+   * @throws IllegalArgumentException If the path is not valid
+   * @see #compile(Path)
+   */
+  default CompiledPath compile(String str) {
+    return compile(parse(str));
+  }
+
   /**
    * Returns a parsable string representation of {@code path}.
    * <p>
@@ -146,6 +177,29 @@ public interface PathResolver {
     return resolvePattern(resolvable.reference(), resolvable.path());
   }
 
+  /**
+   * Visits all concrete {@code Paths} matching the given {@code pattern} based on {@code ref}.
+   * <p>
+   * Calls the {@code visitor} for each {@code Path} that {@link #resolvePattern(Object, Path) resolvePattern} would return, together with
+   * the value the {@code Path} resolves to. The visit stops as soon as the {@code visitor} returns {@code false}. The default
+   * implementation calls {@code resolvePattern} and {@link #resolve(Object, Path) resolve}, implementations should override it to avoid
+   * resolving the {@code Paths} twice.
+   *
+   * @param ref     The reference object
+   * @param pattern The {@link Path}
+   * @param visitor The {@link PathVisitor}
+   */
+  default void visitPattern(Object ref, Path pattern, PathVisitor visitor) {
+    Iterator<? extends Path> paths = resolvePattern(ref, pattern).iterator();
+    while (paths.hasNext()) {
+      Path path = paths.next();
+      Resolved<Object> value = resolve(ref, path);
+      if (value.isPresent() && !visitor.visit(path, value.get())) {
+        return;
+      }
+    }
+  }
+
   /**
    * Checks, whether the given {@code path} exists based on {@code ref}.
    * <p>
@@ -0,0 +1,43 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.path;
+
+/**
+ * Callback for the matches found when visiting a pattern.
+ * <p>
+ * This is used by {@link PathResolver#visitPattern(Object, Path, PathVisitor)} and {@link CompiledPath#visitPattern(Object, PathVisitor)}
+ * to report each concrete {@link Path} matching the pattern together with the value it resolves to, so that the caller neither needs to
+ * collect the {@code Paths} nor to resolve them again.
+ */
+@FunctionalInterface
+public interface PathVisitor {
+
+  /**
+   * Called for each concrete {@link Path} matching the pattern.
+   *
+   * @param path  The concrete {@code Path}
+   * @param value The value the {@code path} resolves to
+   * @return {@code true}, if the visit should continue, {@code false} to stop it
+   */
+  boolean visit(Path path, Object value);
+}
@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -47,9 +48,16 @@ import java.util.stream.Stream;
  * properties are recognized. If the white list is empty, if recognozes for any class the accessors;
  * otherwise only for those classes where the full qualified class name matches at least one entry
  * of the white list (which is a list of regular expresssions).
+ * <p>
+ * The accessors of a class are determined once and then reused. How a property is actually read can be customized by overriding
+ * {@link #createGetter(Method)}, as the {@link LambdaBeanAccessor} does.
+ *
+ * @see LambdaBeanAccessor
  */
 public class ReflectionBeanAccessor implements BeanAccessor {
 
+  private static final Object[] NO_ARGS = new Object[0];
+
   private final List<Pattern> whiteList;
   private final Map<Class<?>, AccessorMap> accessors;
 
@@ -98,7 +106,7 @@ public class ReflectionBeanAccessor implements BeanAccessor {
     if (bean == null) {
       return false;
     }
-    return getAccessorMap(bean.getClass()).getAccessorMethod(name).isPresent();
+    return getAccessorMap(bean.getClass()).getGetter(name) != null;
   }
 
   @Override
@@ -114,14 +122,32 @@ public class ReflectionBeanAccessor implements BeanAccessor {
     if (bean == null) {
       return Resolved.empty();
     }
-    return getAccessorMap(bean.getClass()).getAccessorMethod(name)
-        .map(method -> Resolved.of(invoke(bean, method)))
-        .orElse(Resolved.empty());
+    Function<Object, Object> getter = getAccessorMap(bean.getClass()).getGetter(name);
+    return getter == null ? Resolved.empty() : Resolved.of(getter.apply(bean));
+  }
+
+  @Override
+  public Function<Object, Object> getPropertyReader(Class<?> beanType, String name) {
+    return getAccessorMap(beanType).getGetter(name);
+  }
+
+  /**
+   * Creates the function to read a property via the given accessor {@code method}.
+   * <p>
+   * This is called once per bean class and property, the returned function is reused for all subsequent accesses. This implementation
+   * returns a function calling {@link Method#invoke(Object, Object...)}. Any exception thrown by the accessor is wrapped into a
+   * {@link RuntimeException}.
+   *
+   * @param method The accessor {@link Method}
+   * @return The function to read the property from the bean
+   */
+  protected Function<Object, Object> createGetter(Method method) {
+    return bean -> invoke(bean, method);
   }
 
   private Object invoke(Object bean, Method method) {
     try {
-      return method.invoke(bean);
+      return method.invoke(bean, NO_ARGS);
     } catch (InvocationTargetException e) {
       throw new RuntimeException(e.getCause());
     } catch (IllegalAccessException e) {
@@ -137,16 +163,20 @@ public class ReflectionBeanAccessor implements BeanAccessor {
     if (!inWhiteList(beanType)) {
       return new AccessorMap(Map.of());
     }
+    Map<String, Method> methods;
     if (beanType.isRecord()) {
-      return new AccessorMap(Stream.of(beanType.getRecordComponents())
+      methods = Stream.of(beanType.getRecordComponents())
           .collect(
               Collectors.toMap(RecordComponent::getName, RecordComponent::getAccessor, (a, b) -> a,
-                  TreeMap::new)));
+                  TreeMap::new));
     } else {
-      return new AccessorMap(Stream.of(beanType.getMethods())
+      methods = Stream.of(beanType.getMethods())
           .flatMap(m -> getPropertyName(m).map(n -> Pair.of(n, m)).stream())
-          .collect(Collectors.toMap(Pair::first, Pair::second, (a, b) -> a, TreeMap::new)));
+          .collect(Collectors.toMap(Pair::first, Pair::second, (a, b) -> a, TreeMap::new));
     }
+    Map<String, Function<Object, Object>> getters = new TreeMap<>();
+    methods.forEach((name, method) -> getters.put(name, createGetter(method)));
+    return new AccessorMap(getters);
   }
 
   private boolean inWhiteList(Class<?> beanType) {
@@ -182,19 +212,19 @@ public class ReflectionBeanAccessor implements BeanAccessor {
   private static class AccessorMap {
 
     private final List<String> propertyNames;
-    private final Map<String, Method> accessors;
+    private final Map<String, Function<Object, Object>> getters;
 
-    private AccessorMap(Map<String, Method> accessors) {
-      this.propertyNames = new ArrayList<>(accessors.keySet());
-      this.accessors = accessors;
+    private AccessorMap(Map<String, Function<Object, Object>> getters) {
+      this.propertyNames = new ArrayList<>(getters.keySet());
+      this.getters = getters;
     }
 
     public List<String> getPropertyNames() {
       return propertyNames;
     }
 
-    public Optional<Method> getAccessorMethod(String name) {
-      return Optional.ofNullable(accessors.get(name));
+    public Function<Object, Object> getGetter(String name) {
+      return getters.get(name);
     }
   }
 }
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.provider;
+
+import de.hipphampel.validation.core.event.Event;
+import de.hipphampel.validation.core.event.EventListener;
+import de.hipphampel.validation.core.event.WeakEventListener;
+import de.hipphampel.validation.core.event.payloads.RulesChangedPayload;
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RuleRepository} that maintains an index to speed up the selection of {@link Rule Rules}.
+ * <p>
+ * This decorates an existing {@code RuleRepository}. In addition to the normal repository functionality, it is able to
+ * {@linkplain #selectRules(Set, Class) select} the {@code Rules} matching a set of rule id patterns and a facts type. The result of the
+ * selection is computed once per combination of patterns and facts type and is then served from an index, so that subsequent selections
+ * are a simple map lookup. The {@link SimpleRuleSelector} automatically makes use of it, if the {@code RuleRepository} it selects from is
+ * an {@code IndexedRuleRepository}.
+ * <p>
+ * The index is invalidated, when the underlying {@code RuleRepository} publishes a {@link RulesChangedPayload}. Note that not all
+ * repositories do so by default (e.g. an {@link InMemoryRuleRepository} constructed without a
+ * {@link de.hipphampel.validation.core.event.SubscribableEventPublisher SubscribableEventPublisher}), so in these cases
+ * {@link #invalidate()} has to be called manually after the rules have been changed.
+ *
+ * @see SimpleRuleSelector
+ */
+public class IndexedRuleRepository extends DelegatingRuleRepository {
+
+  private final EventListener listener = this::onEvent;
+  private final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+  private volatile Map<IndexKey, List<Rule<?>>> index = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param delegate The {@link RuleRepository} to delegate to
+   */
+  public IndexedRuleRepository(RuleRepository delegate) {
+    super(delegate);
+    delegate.subscribe(new WeakEventListener(listener));
+  }
+
+  /**
+   * Selects the {@link Rule Rules} matching the given criteria.
+   * <p>
+   * A {@code Rule} is selected, if its id matches at least one of the regular expressions in {@code ruleIdPatterns} and its
+   * {@linkplain Rule#getFactsType() facts type} is assignable from {@code factsType}. If {@code ruleIdPatterns} is {@code null}, the id is
+   * not checked, if {@code factsType} is {@code null}, the facts type is not checked.
+   * <p>
+   * The returned list is immutable.
+   *
+   * @param ruleIdPatterns The regular expressions for the rule ids, might be {@code null}
+   * @param factsType      The type of the object being validated, might be {@code null}
+   * @return The list of matching {@code Rules}
+   */
+  public List<? extends Rule<?>> selectRules(Set<String> ruleIdPatterns, Class<?> factsType) {
+    Map<IndexKey, List<Rule<?>>> currentIndex = index;
+    IndexKey key = new IndexKey(ruleIdPatterns, factsType);
+    List<Rule<?>> rules = currentIndex.get(key);
+    if (rules == null) {
+      rules = computeRules(ruleIdPatterns, factsType);
+      currentIndex.putIfAbsent(new IndexKey(ruleIdPatterns == null ? null : Set.copyOf(ruleIdPatterns), factsType), rules);
+    }
+    return rules;
+  }
+
+  /**
+   * Invalidates the index.
+   * <p>
+   * This is called automatically, when the underlying {@link RuleRepository} publishes a {@link RulesChangedPayload}.
+   */
+  public void invalidate() {
+    index = new ConcurrentHashMap<>();
+  }
+
+  private void onEvent(Event<?> event) {
+    if (event.payload() instanceof RulesChangedPayload) {
+      invalidate();
+    }
+  }
+
+  private List<Rule<?>> computeRules(Set<String> ruleIdPatterns, Class<?> factsType) {
+    List<Pattern> compiledPatterns = ruleIdPatterns == null ? null : compilePatterns(ruleIdPatterns);
+    List<Rule<?>> rules = new ArrayList<>();
+    for (String id : getRuleIds()) {
+      Rule<?> rule = getRule(id);
+      if ((factsType == null || rule.getFactsType().isAssignableFrom(factsType)) && matchesAny(compiledPatterns, id)) {
+        rules.add(rule);
+      }
+    }
+    return List.copyOf(rules);
+  }
+
+  private List<Pattern> compilePatterns(Collection<String> ruleIdPatterns) {
+    return ruleIdPatterns.stream()
+        .map(pattern -> patterns.computeIfAbsent(pattern, Pattern::compile))
+        .toList();
+  }
+
+  static boolean matchesAny(List<Pattern> patterns, String id) {
+    if (patterns == null) {
+      return true;
+    }
+    for (Pattern pattern : patterns) {
+      if (pattern.matcher(id).matches()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private record IndexKey(Set<String> ruleIdPatterns, Class<?> factsType) {
+
+  }
+}
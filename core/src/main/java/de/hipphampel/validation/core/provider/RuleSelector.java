@@ -22,6 +22,8 @@
  */
 package de.hipphampel.validation.core.provider;
 
+import de.hipphampel.validation.core.execution.ExecutionPlan;
+import de.hipphampel.validation.core.execution.ExecutionPlanner;
 import de.hipphampel.validation.core.execution.RuleExecutor;
 import de.hipphampel.validation.core.execution.ValidationContext;
 import de.hipphampel.validation.core.rule.Rule;
@@ -29,6 +31,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Selects {@link Rule Rules} for validating a specific object-
@@ -59,6 +62,25 @@ public interface RuleSelector {
    */
   List<? extends Rule<?>> selectRules(RuleRepository provider, ValidationContext context, Object facts);
 
+  /**
+   * Selects the {@link Rule Rules} of the given {@code provider} for objects of type {@code factsType} in advance, if possible.
+   * <p>
+   * This is used by the {@link ExecutionPlanner} to compile {@link ExecutionPlan ExecutionPlans}. Implementations should return a
+   * non-empty {@code Optional} only if the selection depends on nothing but the type of the object being validated, so that
+   * {@link #selectRules(RuleRepository, ValidationContext, Object) selectRules} returns the same {@code Rules} for any object whose class
+   * is exactly {@code factsType}. If {@code factsType} is {@code null}, the result contains the {@code Rules} that are selected for a
+   * {@code null} object, which are the candidates for objects of any type.
+   * <p>
+   * This default implementation returns an empty {@code Optional}.
+   *
+   * @param provider  The {@link RuleRepository}
+   * @param factsType The exact type of the objects being validated, might be {@code null}
+   * @return {@code Optional} with the list of {@code Rules}, empty if the selection cannot be done in advance
+   */
+  default Optional<List<? extends Rule<?>>> selectRulesForType(RuleRepository provider, Class<?> factsType) {
+    return Optional.empty();
+  }
+
   /**
    * Utility method to create a {@link RuleSelector} selecting the {@link Rule Rules} having the
    * given ids.
@@ -24,13 +24,16 @@ package de.hipphampel.validation.core.provider;
 
 import de.hipphampel.validation.core.execution.ValidationContext;
 import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.value.ConstantValue;
 import de.hipphampel.validation.core.value.Value;
 import de.hipphampel.validation.core.value.Values;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 
@@ -44,10 +47,14 @@ import java.util.stream.Collectors;
  *   <li>The id of the {@code Rule} either matches the pattern of the provided rule id filter or the filter
  *   is {@code null}</li>
  * </ol>
+ * <p>
+ * The regular expressions are compiled once per selection, or only once at all if the rule id filter is a {@link ConstantValue}. If the
+ * {@link RuleRepository} is an {@link IndexedRuleRepository}, the selection is served from its index.
  */
 public class SimpleRuleSelector implements RuleSelector {
 
   private final Value<Set<String>> ruleIdFilter;
+  private final List<Pattern> constantPatterns;
 
   /**
    * Constructor.
@@ -57,6 +64,9 @@ public class SimpleRuleSelector implements RuleSelector {
    */
   public SimpleRuleSelector(Value<Set<String>> ruleIdFilter) {
     this.ruleIdFilter = ruleIdFilter;
+    this.constantPatterns = ruleIdFilter instanceof ConstantValue<Set<String>> constant && constant.value() != null
+        ? compilePatterns(constant.value())
+        : null;
   }
 
   /**
@@ -101,17 +111,66 @@ public class SimpleRuleSelector implements RuleSelector {
     return new SimpleRuleSelector(ruleIdFilter);
   }
 
+  /**
+   * Selects the {@link Rule Rules}.
+   * <p>
+   * If {@code provider} is an {@link IndexedRuleRepository}, the selection is delegated to its index, otherwise all {@code Rules} of the
+   * {@code provider} are checked.
+   *
+   * @param provider The {@link RuleRepository} to select the rules from
+   * @param context  The {@link ValidationContext}
+   * @param facts    The object being validated
+   * @return The list of selected {@code Rules}
+   */
   @Override
   public List<? extends Rule<?>> selectRules(RuleRepository provider, ValidationContext context,
       Object facts) {
     Set<String> allowedRuleIds = ruleIdFilter == null ? null : ruleIdFilter.get(context, facts);
+    if (provider instanceof IndexedRuleRepository indexedRepository) {
+      return indexedRepository.selectRules(allowedRuleIds, facts == null ? null : facts.getClass());
+    }
+
+    List<Pattern> patterns = allowedRuleIds == null ? null
+        : constantPatterns != null ? constantPatterns
+            : compilePatterns(allowedRuleIds);
     return provider.getRuleIds().stream()
         .map(provider::getRule)
-        .filter(rule -> selectRule(rule, allowedRuleIds, facts))
+        .filter(rule -> selectRule(rule, patterns, facts))
         .collect(Collectors.toList());
   }
 
-  private boolean selectRule(Rule<?> rule, Set<String> allowedRuleIds, Object facts) {
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The selection can be done in advance, if the filter for the rule ids is a constant or absent.
+   *
+   * @param provider  The {@link RuleRepository}
+   * @param factsType The exact type of the objects being validated, might be {@code null}
+   * @return {@code Optional} with the list of {@code Rules}, empty if the filter for the rule ids is not a constant
+   */
+  @Override
+  public Optional<List<? extends Rule<?>>> selectRulesForType(RuleRepository provider, Class<?> factsType) {
+    Set<String> allowedRuleIds;
+    if (ruleIdFilter == null) {
+      allowedRuleIds = null;
+    } else if (ruleIdFilter instanceof ConstantValue<Set<String>> constant) {
+      allowedRuleIds = constant.value();
+    } else {
+      return Optional.empty();
+    }
+    if (provider instanceof IndexedRuleRepository indexedRepository) {
+      return Optional.of(indexedRepository.selectRules(allowedRuleIds, factsType));
+    }
+
+    List<Pattern> patterns = allowedRuleIds == null ? null : constantPatterns;
+    return Optional.of(provider.getRuleIds().stream()
+        .map(provider::getRule)
+        .filter(rule -> (factsType == null || rule.getFactsType().isAssignableFrom(factsType))
+            && IndexedRuleRepository.matchesAny(patterns, rule.getId()))
+        .collect(Collectors.toList()));
+  }
+
+  private boolean selectRule(Rule<?> rule, List<Pattern> patterns, Object facts) {
     if (facts != null) {
       Class<?> ruleFactsType = rule.getFactsType();
       if (!ruleFactsType.isInstance(facts)) {
@@ -119,17 +178,13 @@ public class SimpleRuleSelector implements RuleSelector {
       }
     }
 
-    if (allowedRuleIds == null) {
-      return true;
-    }
-
-    for (String idPattern : allowedRuleIds) {
-      if (rule.getId().matches(idPattern)) {
-        return true;
-      }
-    }
+    return IndexedRuleRepository.matchesAny(patterns, rule.getId());
+  }
 
-    return false;
+  private static List<Pattern> compilePatterns(Set<String> ruleIdPatterns) {
+    return ruleIdPatterns.stream()
+        .map(Pattern::compile)
+        .toList();
   }
 
   @Override
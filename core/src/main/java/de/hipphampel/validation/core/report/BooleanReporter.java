@@ -83,4 +83,16 @@ public class BooleanReporter implements Reporter<Boolean> {
   public Boolean getReport() {
     return report.get();
   }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The report of this instance is final as soon as it is {@code false}.
+   *
+   * @return {@code true}, if the report is final
+   */
+  @Override
+  public boolean isFinal() {
+    return !report.get();
+  }
 }
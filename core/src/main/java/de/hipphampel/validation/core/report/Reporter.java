@@ -72,4 +72,17 @@ public interface Reporter<T> {
    * @return The report
    */
   T getReport();
+
+  /**
+   * Indicates whether the report is final.
+   * <p>
+   * A report is final, if adding further {@link Result Results} cannot change it anymore. If the validation runs in fail-fast mode (see
+   * {@link ValidationContext#isFailFast()}), the validation is aborted as soon as the report becomes final. This default implementation
+   * returns always {@code false}.
+   *
+   * @return {@code true}, if the report is final
+   */
+  default boolean isFinal() {
+    return false;
+  }
 }
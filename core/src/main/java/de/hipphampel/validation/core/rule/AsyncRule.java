@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.rule;
+
+import de.hipphampel.validation.core.execution.RuleExecutor;
+import de.hipphampel.validation.core.execution.ValidationContext;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Supplemental interface for {@link Rule Rules} that are able to provide their {@link Result} in an asynchronous fashion.
+ * <p>
+ * This is typically implemented by {@link ForwardingRule ForwardingRules}, whose {@code Result} depends on the {@code Results} of other
+ * {@code Rules} that are possibly executed asynchronously. Instead of waiting for the subordinated {@code Rules} to complete, such rules
+ * return a {@link CompletableFuture} that is completed when all of them are done. A {@link RuleExecutor} that is aware of this interface
+ * calls {@link #validateAsync(ValidationContext, Object) validateAsync} and so avoids that a thread is blocked while waiting for the
+ * subordinated {@code Rules}.
+ * <p>
+ * The {@link #validate(ValidationContext, Object) validate} method has a default implementation that waits for the future returned by
+ * {@code validateAsync}, so that such rules can be still used by {@code RuleExecutors} not aware of this interface.
+ *
+ * @param <T> Type of the object being validated
+ * @see RuleExecutor
+ */
+public interface AsyncRule<T> extends Rule<T> {
+
+  /**
+   * Validates the given {@code facts} asynchronously.
+   * <p>
+   * The semantics are the same as for {@link #validate(ValidationContext, Object) validate}, but the {@link Result} is provided via a
+   * {@link CompletableFuture}. Implementations should not block while waiting for other {@code Rules}.
+   *
+   * @param context The {@link ValidationContext}
+   * @param facts   The object being validated
+   * @return A {@code CompletableFuture} providing the {@code Result}
+   */
+  CompletableFuture<Result> validateAsync(ValidationContext context, T facts);
+
+  /**
+   * Validates the given {@code facts} synchronously.
+   * <p>
+   * This default implementation waits for the future returned by {@link #validateAsync(ValidationContext, Object) validateAsync}.
+   *
+   * @param context The {@link ValidationContext}
+   * @param facts   The object being validated
+   * @return The {@link Result}
+   */
+  @Override
+  default Result validate(ValidationContext context, T facts) {
+    try {
+      return validateAsync(context, facts).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      throw e;
+    }
+  }
+}
@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Stream;
 
 /**
  * {@link Rule} implementatiuon that dispatches the validation to subordinates {@code Rules}
@@ -43,6 +42,9 @@ import java.util.stream.Stream;
  * {@link RuleSelector}. Upon validation, this implementation iterates through all these entries and calls the {@code Rules} of the
  * {@code RuleSelector} for each matching {@code Path}.
  * <p>
+ * Since it is an {@link AsyncRule}, the subordinated {@code Rules} are executed without blocking the calling thread, if the
+ * {@link RuleExecutor} supports this.
+ * <p>
  * Note that the {@link PathBasedRule} is related and more suitable in certain use cases.
  *
  * @param <T> Type of the objecz to validate
@@ -50,7 +52,7 @@ import java.util.stream.Stream;
  * @see Path
  * @see PathBasedRule
  */
-public class DispatchingRule<T> extends AbstractRule<T> implements ForwardingRule<T> {
+public class DispatchingRule<T> extends AbstractRule<T> implements ForwardingRule<T>, AsyncRule<T> {
 
   private final List<DispatchEntry> dispatchList;
 
@@ -69,16 +71,24 @@ public class DispatchingRule<T> extends AbstractRule<T> implements ForwardingRul
     this.dispatchList = dispatchList;
   }
 
+  /**
+   * Gets the list of {@link DispatchEntry DispatchEntries}.
+   *
+   * @return The list of {@code DispatchEntries}
+   */
+  public List<DispatchEntry> getDispatchList() {
+    return dispatchList;
+  }
+
   @Override
-  public Result validate(ValidationContext context, T facts) {
+  public CompletableFuture<Result> validateAsync(ValidationContext context, T facts) {
     List<CompletableFuture<Result>> futures = dispatchList.stream()
         .map(e -> e.validateAsync(this, context, facts))
         .toList();
     return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
         .thenApply(v -> futures.stream()
             .map(CompletableFuture::join)
-            .reduce(noRuleResult(), this::mergeResults))
-        .join();
+            .reduce(noRuleResult(), this::mergeResults));
   }
 
   /**
@@ -92,19 +102,15 @@ public class DispatchingRule<T> extends AbstractRule<T> implements ForwardingRul
     private CompletableFuture<Result> validateAsync(DispatchingRule<?> rule,
         ValidationContext context, Object facts) {
       RuleExecutor executor = context.getRuleExecutor();
-      Stream<? extends Path> paths = getPaths(context, facts);
-      return executor.validateForPathsAsync(context, rules, facts, paths)
-          .thenApply(results -> results.stream().reduce(
-              rule.noRuleResult(),
-              rule::mergeResults
-          ));
-    }
-
-    private Stream<? extends Path> getPaths(ValidationContext context, Object facts) {
       PathResolver resolver = context.getPathResolver();
-      return paths.get(context, facts).stream()
-          .map(resolver::parse)
-          .flatMap(p -> resolver.resolvePattern(facts, p));
+      List<CompletableFuture<List<Result>>> futures = paths.get(context, facts).stream()
+          .map(resolver::compile)
+          .map(pattern -> executor.validateForPatternAsync(context, rules, facts, pattern))
+          .toList();
+      return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+          .thenApply(v -> futures.stream()
+              .flatMap(future -> future.join().stream())
+              .reduce(rule.noRuleResult(), rule::mergeResults));
     }
 
   }
@@ -25,16 +25,21 @@ package de.hipphampel.validation.core.rule;
 import de.hipphampel.validation.core.condition.Condition;
 import de.hipphampel.validation.core.exception.RuleFailedException;
 import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.path.CompiledPath;
 import de.hipphampel.validation.core.path.Path;
 import de.hipphampel.validation.core.path.PathResolver;
 import de.hipphampel.validation.core.path.Resolved;
 import de.hipphampel.validation.core.utils.OneOfTwo;
 import de.hipphampel.validation.core.utils.TypeInfo;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,6 +57,10 @@ import java.util.function.Function;
  * Please refer to the {@link ParameterBinding} class for predefined binding types for the parameters. For the {@code ResultMapper} there
  * exists just a {@linkplain DefaultResultMapper default implementation} with limited capabilities, if you need your own, you need to
  * implemnt it.
+ * <p>
+ * The method parameters and a {@link MethodHandle} bound to the {@code boundInstance} are determined once at construction time, so that
+ * calling the rule does not involve any reflective lookups. If no {@code MethodHandle} can be obtained for the method, it falls back to
+ * {@link Method#invoke(Object, Object...)}.
  *
  * @param <T> Type of the object being validated
  */
@@ -91,6 +100,8 @@ public class ReflectionRule<T> extends AbstractRule<T> {
 
   private final Object boundInstance;
   private final Method ruleMethod;
+  private final Parameter[] parameters;
+  private final MethodHandle invoker;
   private final List<ParameterBinding> bindings;
   private final ResultMapper resultMapper;
 
@@ -141,6 +152,21 @@ public class ReflectionRule<T> extends AbstractRule<T> {
       throw new IllegalArgumentException(
           "ParameterBinding count (" + bindings.size() + ") mismatches method parameter count (" + ruleMethod.getParameterCount() + ")");
     }
+    this.parameters = ruleMethod.getParameters();
+    this.invoker = createInvoker(boundInstance, ruleMethod);
+  }
+
+  private static MethodHandle createInvoker(Object boundInstance, Method ruleMethod) {
+    try {
+      MethodHandle handle = MethodHandles.lookup().unreflect(ruleMethod);
+      if (boundInstance != null) {
+        handle = handle.bindTo(boundInstance);
+      }
+      return handle.asSpreader(Object[].class, ruleMethod.getParameterCount())
+          .asType(MethodType.methodType(Object.class, Object[].class));
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
   }
 
   @Override
@@ -150,6 +176,15 @@ public class ReflectionRule<T> extends AbstractRule<T> {
     return resultMapper.apply(result);
   }
 
+  /**
+   * Gets the {@link ParameterBinding ParameterBindings} for the method parameters.
+   *
+   * @return The unmodifiable list of {@code ParameterBindings}
+   */
+  public List<ParameterBinding> getBindings() {
+    return Collections.unmodifiableList(bindings);
+  }
+
   /**
    * Prepares the argument list for the method call.
    * <p>
@@ -162,7 +197,7 @@ public class ReflectionRule<T> extends AbstractRule<T> {
   protected Object[] getArguments(ValidationContext context, T facts) {
     Object[] args = new Object[bindings.size()];
     for (int i = 0; i < args.length; i++) {
-      args[i] = getArgument(context, facts, ruleMethod.getParameters()[i], bindings.get(i));
+      args[i] = getArgument(context, facts, parameters[i], bindings.get(i));
     }
     return args;
   }
@@ -255,6 +290,17 @@ public class ReflectionRule<T> extends AbstractRule<T> {
    * @return The native result of the method.
    */
   protected Object invokeMethod(Object[] args) {
+    if (invoker == null) {
+      return invokeReflectively(args);
+    }
+    try {
+      return (Object) invoker.invokeExact(args);
+    } catch (Throwable t) {
+      throw new RuleFailedException("Rule execution failed", t);
+    }
+  }
+
+  private Object invokeReflectively(Object[] args) {
     try {
       return ruleMethod.invoke(boundInstance, args);
     } catch (InvocationTargetException e) {
@@ -359,9 +405,8 @@ public class ReflectionRule<T> extends AbstractRule<T> {
     @Override
     public Resolved<?> apply(ValidationContext context, Object facts) {
       PathResolver pathResolver = context.getPathResolver();
-      return pathResolver.resolve(
-          facts,
-          path.mapIfFirst(pathResolver::parse));
+      CompiledPath compiledPath = path.hasFirst() ? pathResolver.compile(path.getFirst()) : pathResolver.compile(path.getSecond());
+      return compiledPath.resolve(facts);
     }
   }
 
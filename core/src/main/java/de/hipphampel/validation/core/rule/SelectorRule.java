@@ -28,17 +28,21 @@ import de.hipphampel.validation.core.provider.RuleSelector;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * {@link Rule} that executes all {@code Rules} provided by the given {@link RuleSelector}.
  * <p>
  * This is a {@link ForwardingRule}, so the {@code Rule} itself has no business logic except fowarding the validation to all {@code Rules}
  * of the associated {@code RuleSelector}
+ * <p>
+ * Since it is an {@link AsyncRule}, the {@code Rules} of the {@code RuleSelector} are executed without blocking the calling thread, if
+ * the {@link de.hipphampel.validation.core.execution.RuleExecutor RuleExecutor} supports this.
  *
  * @param <T> Type of the object being validated.
  * @see RuleSelector
  */
-public class SelectorRule<T> extends AbstractRule<T> implements ForwardingRule<T> {
+public class SelectorRule<T> extends AbstractRule<T> implements ForwardingRule<T>, AsyncRule<T> {
 
   private final RuleSelector selector;
 
@@ -81,10 +85,18 @@ public class SelectorRule<T> extends AbstractRule<T> implements ForwardingRule<T
     this.selector = Objects.requireNonNull(selector);
   }
 
+  /**
+   * Gets the {@link RuleSelector} selecting the {@link Rule Rules} to forward to.
+   *
+   * @return The {@code RuleSelector}
+   */
+  public RuleSelector getSelector() {
+    return selector;
+  }
+
   @Override
-  public Result validate(ValidationContext context, T facts) {
+  public CompletableFuture<Result> validateAsync(ValidationContext context, T facts) {
     return context.getRuleExecutor().validateAsync(context, selector, facts)
-        .thenApply(list -> list.stream().reduce(noRuleResult(), this::mergeResults))
-        .join();
+        .thenApply(list -> list.stream().reduce(noRuleResult(), this::mergeResults));
   }
 }
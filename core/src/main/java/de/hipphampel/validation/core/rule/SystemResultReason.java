@@ -70,6 +70,27 @@ public record SystemResultReason(Code code, String message) implements ResultRea
     /**
      * Indicates a cyclic dependency between {@link Rule Rules}.
      */
-    CyclicRuleDependency
+    CyclicRuleDependency,
+
+    /**
+     * Indicates that the {@link Rule} was not executed, because the validation has been aborted.
+     *
+     * @see de.hipphampel.validation.core.execution.ValidationContext#isAborted()
+     */
+    ValidationAborted,
+
+    /**
+     * Indicates that the {@link Rule} was not executed or did not finish in time, because the deadline of the validation or the timeout of
+     * the {@code Rule} has been exceeded.
+     *
+     * @see de.hipphampel.validation.core.execution.ValidationContext#isDeadlineExceeded()
+     */
+    Timeout,
+
+    /**
+     * Indicates that the {@link Rule} was not executed, because the {@code Executor} rejected it, e.g. since its
+     * {@linkplain de.hipphampel.validation.core.execution.Bulkhead Bulkhead} is exhausted.
+     */
+    ExecutionRejected
   }
 }
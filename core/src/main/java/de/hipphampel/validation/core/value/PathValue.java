@@ -24,6 +24,7 @@ package de.hipphampel.validation.core.value;
 
 import de.hipphampel.validation.core.exception.ValueEvaluationException;
 import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.path.CompiledPath;
 import de.hipphampel.validation.core.path.Path;
 import de.hipphampel.validation.core.path.PathResolver;
 import de.hipphampel.validation.core.path.Resolved;
@@ -45,7 +46,8 @@ import java.util.Optional;
  * The optional {@code referenceObject} and {@code defaultValue} are itself {@code Value} instances.
  * The {@code path} parameter is either a {@code Value} as well, which is then parsed into a
  * {@code Path} instance, or directyl a {@code Path}, which is a little bit faster at execution time
- * but less concise at construction time.
+ * but less concise at construction time. In both cases the {@code Path} is
+ * {@linkplain PathResolver#compile(Path) compiled} before it is resolved.
  *
  * @param path            The {@code Path} to evaluate
  * @param referenceObject The object the path is resolved for. If empty, the object being validated
@@ -65,9 +67,11 @@ public record PathValue<T>(OneOfTwo<Value<String>, Path> path,
     Object reference = referenceObject
         .map(ref -> (Object) ref.get(context, facts))
         .orElse(facts);
-    Path pathToResolve = path.mapIfFirst(value -> valueToPath(context, facts, value));
+    CompiledPath pathToResolve = path.hasFirst() ?
+        resolver.compile(path.getFirst().get(context, facts)) :
+        resolver.compile(path.getSecond());
 
-    Resolved<T> resolved = resolver.resolve(reference, pathToResolve);
+    Resolved<T> resolved = pathToResolve.resolve(reference);
     if (resolved.isPresent()) {
       return resolved.get();
     }
@@ -79,11 +83,6 @@ public record PathValue<T>(OneOfTwo<Value<String>, Path> path,
     return defaultValue.get().get(context, facts);
   }
 
-  private Path valueToPath(ValidationContext context, Object facts, Value<String> value) {
-    String pathStr = value.get(context, facts);
-    return context.getPathResolver().parse(pathStr);
-  }
-
   @Override
   public String toString() {
     if (referenceObject.isPresent()) {
@@ -33,6 +33,7 @@ module de.hipphampel.validation.core {
   exports de.hipphampel.validation.core.event.payloads;
   exports de.hipphampel.validation.core.execution;
   exports de.hipphampel.validation.core.exception;
+  exports de.hipphampel.validation.core.flow;
   exports de.hipphampel.validation.core.path;
   exports de.hipphampel.validation.core.provider;
   exports de.hipphampel.validation.core.report;
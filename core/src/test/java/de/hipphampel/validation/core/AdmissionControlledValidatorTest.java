@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.hipphampel.validation.core.exception.ValidationRejectedException;
+import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.Report;
+import de.hipphampel.validation.core.report.Reporter;
+import de.hipphampel.validation.core.report.ReporterFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControlledValidatorTest {
+
+  private final StubValidator delegate = new StubValidator();
+
+  @Test
+  public void validateAsync_queuesAndRejectsExcessValidations() {
+    AdmissionControlledValidator validator = new AdmissionControlledValidator(delegate, 1, 1);
+
+    CompletableFuture<Report> first = validator.validateAsync("first", RuleSelector.of(".*"));
+    CompletableFuture<Report> second = validator.validateAsync("second", RuleSelector.of(".*"));
+    CompletableFuture<Report> third = validator.validateAsync("third", RuleSelector.of(".*"));
+
+    assertThat(delegate.validations).hasSize(1);
+    assertThat(validator.getInFlight()).isEqualTo(1);
+    assertThat(validator.getQueueSize()).isEqualTo(1);
+    assertThat(validator.getRejectedCount()).isEqualTo(1);
+    assertThatThrownBy(third::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ValidationRejectedException.class);
+
+    Report report = new Report(Set.of());
+    delegate.validations.get(0).complete(report);
+    assertThat(first).isCompletedWithValue(report);
+    assertThat(delegate.validations).hasSize(2);
+    assertThat(validator.getQueueSize()).isEqualTo(0);
+
+    delegate.validations.get(1).complete(report);
+    assertThat(second).isCompletedWithValue(report);
+    assertThat(validator.getInFlight()).isEqualTo(0);
+  }
+
+  @Test
+  public void validateAsync_drainsLargeQueueOfSynchronousValidationsWithoutRecursion() {
+    AdmissionControlledValidator validator = new AdmissionControlledValidator(delegate, 1, 20_000);
+    CompletableFuture<Report> first = validator.validateAsync("first", RuleSelector.of(".*"));
+    List<CompletableFuture<Report>> queued = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      queued.add(validator.validateAsync("queued", RuleSelector.of(".*")));
+    }
+    assertThat(validator.getQueueSize()).isEqualTo(20_000);
+
+    delegate.completeImmediately = true;
+    delegate.validations.get(0).complete(new Report(Set.of()));
+
+    assertThat(first).isCompleted();
+    assertThat(queued).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+    assertThat(validator.getQueueSize()).isEqualTo(0);
+    assertThat(validator.getInFlight()).isEqualTo(0);
+  }
+
+  @Test
+  public void validateAsync_cancelRemovesQueuedValidation() {
+    AdmissionControlledValidator validator = new AdmissionControlledValidator(delegate, 1, 1);
+
+    CompletableFuture<Report> first = validator.validateAsync("first", RuleSelector.of(".*"));
+    CompletableFuture<Report> second = validator.validateAsync("second", RuleSelector.of(".*"));
+    second.cancel(true);
+    assertThat(validator.getQueueSize()).isEqualTo(0);
+
+    first.cancel(true);
+    assertThat(delegate.validations).hasSize(1);
+    assertThat(delegate.validations.get(0)).isCancelled();
+    assertThat(validator.getInFlight()).isEqualTo(0);
+  }
+
+  @Test
+  public void validateAsync_adaptsLimitToLatency() throws InterruptedException {
+    AdmissionControlledValidator validator = new AdmissionControlledValidator(delegate, 1, 4, 10, Duration.ofMillis(200),
+        AdmissionControlledValidator.DEFAULT_BACKOFF_RATIO);
+    assertThat(validator.getLimit()).isEqualTo(4);
+
+    // Slow validation decreases the limit
+    validator.validateAsync("slow", RuleSelector.of(".*"));
+    Thread.sleep(300);
+    delegate.validations.get(0).complete(new Report(Set.of()));
+    assertThat(validator.getLimit()).isEqualTo(3);
+
+    // Fast validations using the limit increase it again
+    for (int i = 0; i < 3; i++) {
+      validator.validateAsync("fast", RuleSelector.of(".*"));
+    }
+    delegate.validations.subList(1, 4).forEach(future -> future.complete(new Report(Set.of())));
+    assertThat(validator.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  public void constructor_validatesLimits() {
+    assertThatThrownBy(() -> new AdmissionControlledValidator(delegate, 0, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdmissionControlledValidator(delegate, 2, 1, 0, null, 0.5))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdmissionControlledValidator(delegate, 1, 1, 0, null, 1.0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static class StubValidator implements Validator {
+
+    private final List<CompletableFuture<Object>> validations = new CopyOnWriteArrayList<>();
+    private volatile boolean completeImmediately;
+
+    @Override
+    public <T> ValidationContext createValidationContext(Reporter<T> reporter, Map<String, Object> parameters) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> validateAsync(ReporterFactory<T> reporterFactory, Object facts, RuleSelector ruleSelector,
+        Map<String, Object> parameters) {
+      if (completeImmediately) {
+        return (CompletableFuture<T>) CompletableFuture.completedFuture(new Report(Set.of()));
+      }
+      CompletableFuture<Object> future = new CompletableFuture<>();
+      validations.add(future);
+      return (CompletableFuture<T>) future;
+    }
+  }
+}
@@ -23,6 +23,7 @@
 package de.hipphampel.validation.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
@@ -32,26 +33,53 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import de.hipphampel.validation.core.condition.Conditions;
 import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
 import de.hipphampel.validation.core.event.Event;
 import de.hipphampel.validation.core.event.EventPublisher;
 import de.hipphampel.validation.core.event.SubscribableEventPublisher;
+import de.hipphampel.validation.core.event.payloads.RuleResultCacheStatisticsPayload;
 import de.hipphampel.validation.core.event.payloads.ValidationFinishedPayload;
 import de.hipphampel.validation.core.event.payloads.ValidationStartedPayload;
+import de.hipphampel.validation.core.execution.DefaultRuleExecutor;
 import de.hipphampel.validation.core.execution.RuleExecutor;
+import de.hipphampel.validation.core.execution.SimpleRuleExecutor;
 import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.path.PathResolver;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
 import de.hipphampel.validation.core.provider.RuleSelector;
 import de.hipphampel.validation.core.report.BooleanReporter;
 import de.hipphampel.validation.core.report.Report;
+import de.hipphampel.validation.core.report.ReportReporter;
 import de.hipphampel.validation.core.report.Reporter;
 import de.hipphampel.validation.core.report.ReporterFactory;
+import de.hipphampel.validation.core.rule.ReflectionRule;
+import de.hipphampel.validation.core.rule.ReflectionRule.FactsBinding;
+import de.hipphampel.validation.core.rule.ReflectionRule.RootFactsBinding;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import de.hipphampel.validation.core.rule.SystemResultReason;
+import de.hipphampel.validation.core.rule.SystemResultReason.Code;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
@@ -252,6 +280,392 @@ public class ValidatorTest {
     events.clear();
     Mockito.reset(validator, ruleExecutor);
   }
+  @Test
+  public void revalidate_executesOnlyRulesOfChangedPaths() {
+    AtomicInteger executions = new AtomicInteger();
+    Rule<Object> check = RuleBuilder.functionRule("check", Object.class)
+        .validateWith((context, facts) -> {
+          executions.incrementAndGet();
+          return "bad".equals(facts) ? Result.failed() : Result.ok();
+        })
+        .build();
+    Rule<Object> root = RuleBuilder.dispatchingRule("root", Object.class)
+        .forPaths("*").validateWith("check")
+        .build();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(check, root))
+        .build();
+    List<String> facts = new ArrayList<>(List.of("a", "b", "c"));
+    PathResolver pathResolver = new BeanPathResolver();
+
+    Report previous = validator.validate(facts, RuleSelector.of("root"));
+    assertThat(executions).hasValue(3);
+
+    facts.set(1, "bad");
+    Report report = validator.revalidate(previous, facts, RuleSelector.of("root"), List.of(pathResolver.parse("1")));
+
+    assertThat(executions).hasValue(4);
+    assertThat(report).isEqualTo(validator.validate(facts, RuleSelector.of("root")));
+  }
+
+  @Test
+  public void revalidate_executesRulesBindingRootFactsAgain() throws NoSuchMethodException {
+    Rule<Object> check = new ReflectionRule<>("check", Object.class, Map.of(), List.of(), null,
+        ValidatorTest.class.getMethod("rootContainsNoBadElement", Object.class, List.class),
+        List.of(new FactsBinding(), new RootFactsBinding()));
+    Rule<Object> root = RuleBuilder.dispatchingRule("root", Object.class)
+        .forPaths("*").validateWith("check")
+        .build();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(check, root))
+        .build();
+    List<String> facts = new ArrayList<>(List.of("a", "b", "c"));
+    PathResolver pathResolver = new BeanPathResolver();
+
+    Report previous = validator.validate(facts, RuleSelector.of("root"));
+    facts.set(1, "bad");
+    Report report = validator.revalidate(previous, facts, RuleSelector.of("root"), List.of(pathResolver.parse("1")));
+
+    assertThat(report).isEqualTo(validator.validate(facts, RuleSelector.of("root")));
+    assertThat(report.entries()).filteredOn(entry -> entry.rule() == check).hasSize(3)
+        .allSatisfy(entry -> assertThat(entry.result().isFailed()).isTrue());
+  }
+
+  @Test
+  public void revalidate_executesRulesWithRuleConditionsAgain() {
+    Rule<Object> p = RuleBuilder.functionRule("p", Object.class)
+        .validateWith((context, facts) -> Result.ok())
+        .build();
+    Rule<Object> r = RuleBuilder.functionRule("r", Object.class)
+        .withPrecondition(Conditions.and(Conditions.rule("p")))
+        .validateWith((context, facts) -> Result.ok())
+        .build();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(p, r))
+        .build();
+
+    Report previous = validator.validate("facts", RuleSelector.of("r"));
+    Report report = validator.revalidate(previous, "facts", RuleSelector.of("r"), List.of());
+
+    assertThat(report).isEqualTo(previous);
+    assertThat(report.entries()).extracting(entry -> entry.rule().getId()).containsExactlyInAnyOrder("p", "r");
+  }
+
+  @Test
+  public void revalidate_usesTheBoundedCacheOfTheRuleExecutor() {
+    Rule<Object> check = RuleBuilder.functionRule("check", Object.class)
+        .validateWith((context, facts) -> "bad".equals(facts) ? Result.failed() : Result.ok())
+        .build();
+    Rule<Object> root = RuleBuilder.dispatchingRule("root", Object.class)
+        .forPaths("*").validateWith("check")
+        .build();
+    List<Event<?>> statistics = new ArrayList<>();
+    SubscribableEventPublisher publisher = new DefaultSubscribableEventPublisher();
+    publisher.subscribe(event -> {
+      if (event.payload() instanceof RuleResultCacheStatisticsPayload) {
+        statistics.add(event);
+      }
+    });
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(check, root))
+        .withRuleExecutor(new DefaultRuleExecutor(ForkJoinPool.commonPool(), true, 2))
+        .withEventPublisher(publisher)
+        .build();
+    List<String> facts = new ArrayList<>(List.of("a", "b", "c", "d"));
+    PathResolver pathResolver = new BeanPathResolver();
+
+    Report previous = validator.validate(facts, RuleSelector.of("root"));
+    facts.set(1, "bad");
+    statistics.clear();
+    Report report = validator.revalidate(previous, facts, RuleSelector.of("root"), List.of(pathResolver.parse("1")));
+
+    assertThat(report).isEqualTo(validator.validate(facts, RuleSelector.of("root")));
+    assertThat(((RuleResultCacheStatisticsPayload) statistics.get(0).payload()).statistics().size()).isLessThanOrEqualTo(2);
+  }
+
+  public static boolean rootContainsNoBadElement(Object facts, List<?> root) {
+    return !root.contains("bad");
+  }
+
+  @Test
+  public void validateAll_returnsReportsInOrder() {
+    Rule<Object> check = RuleBuilder.functionRule("check", Object.class)
+        .validateWith((context, facts) -> "bad".equals(facts) ? Result.failed() : Result.ok())
+        .build();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(check))
+        .build();
+    List<String> facts = List.of("a", "bad", "c", "bad");
+
+    List<Report> reports = validator.validateAll(facts, RuleSelector.of("check"));
+
+    assertThat(reports).containsExactlyElementsOf(facts.stream().map(f -> validator.validate(f, RuleSelector.of("check"))).toList());
+  }
+
+  @Test
+  public void validateAll_passesReportsToSink() {
+    Rule<Object> check = RuleBuilder.functionRule("check", Object.class)
+        .validateWith((context, facts) -> "bad".equals(facts) ? Result.failed() : Result.ok())
+        .build();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(check))
+        .build();
+    Map<Object, Boolean> results = new HashMap<>();
+
+    validator.validateAll(BooleanReporter::new, Stream.of("a", "bad", "c"), RuleSelector.of("check"), Map.of(), 2, results::put);
+
+    assertThat(results).isEqualTo(Map.of("a", true, "bad", false, "c", true));
+  }
+
+  @Test
+  public void validateAll_waitsForRunningValidationsIfIterationFails() {
+    Rule<Object> slow = RuleBuilder.functionRule("slow", Object.class)
+        .validateWith((context, facts) -> {
+          try {
+            Thread.sleep(50);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return Result.ok();
+        })
+        .build();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(slow))
+        .build();
+    Iterator<Object> facts = new Iterator<>() {
+      private boolean first = true;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Object next() {
+        if (first) {
+          first = false;
+          return "a";
+        }
+        throw new IllegalStateException("broken input");
+      }
+    };
+    AtomicInteger sinkCalls = new AtomicInteger();
+
+    assertThatThrownBy(() -> validator.validateAll(ReportReporter::new, () -> facts, RuleSelector.of("slow"), Map.of(), 2,
+        (f, report) -> sinkCalls.incrementAndGet()))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(sinkCalls).hasValue(1);
+  }
+
+  @Test
+  public void validateAll_pullsAtMostParallelismItems() {
+    AtomicInteger pending = new AtomicInteger();
+    AtomicInteger maxPending = new AtomicInteger();
+    Rule<Object> slow = RuleBuilder.functionRule("slow", Object.class)
+        .validateWith((context, facts) -> {
+          try {
+            Thread.sleep(5);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return Result.ok();
+        })
+        .build();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(slow))
+        .build();
+    Stream<Object> facts = Stream.iterate(0, i -> i < 20, i -> i + 1)
+        .peek(i -> maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max))
+        .map(i -> i);
+
+    validator.validateAll(ReportReporter::new, facts, RuleSelector.of("slow"), Map.of(), 2, (f, report) -> pending.decrementAndGet());
+
+    assertThat(pending).hasValue(0);
+    assertThat(maxPending.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  public void batchValidator_isCreatedOnce() {
+    Validator validator = ValidatorBuilder.newBuilder().build();
+
+    Validator batchValidator = validator.batchValidator();
+
+    assertThat(batchValidator).isNotSameAs(validator);
+    assertThat(validator.batchValidator()).isSameAs(batchValidator);
+    assertThat(batchValidator.batchValidator()).isSameAs(batchValidator);
+  }
+
+  @Test
+  public void validateAll_seesRulesAddedBetweenBatches() {
+    Rule<Object> r1 = RuleBuilder.functionRule("r1", Object.class)
+        .validateWith((context, facts) -> Result.ok())
+        .build();
+    Rule<Object> r2 = RuleBuilder.functionRule("r2", Object.class)
+        .validateWith((context, facts) -> Result.ok())
+        .build();
+    InMemoryRuleRepository repository = new InMemoryRuleRepository(r1);
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(repository)
+        .build();
+
+    assertThat(validator.validateAll(List.of("a"), RuleSelector.of("r.*")).get(0).entries()).hasSize(1);
+
+    repository.addRules(r2);
+
+    assertThat(validator.validateAll(List.of("a"), RuleSelector.of("r.*")).get(0).entries()).hasSize(2);
+  }
+
+  @Test
+  public void validateAll_stopsOnFailure() {
+    Validator validator = ValidatorBuilder.newBuilder().build();
+    AtomicInteger sinkCalls = new AtomicInteger();
+    ReporterFactory<Boolean> failingFactory = facts -> {
+      throw new IllegalStateException("failed");
+    };
+
+    assertThatThrownBy(() -> validator.validateAll(failingFactory, List.of("a", "b"), RuleSelector.of("check"), Map.of(), 1,
+        (facts, report) -> sinkCalls.incrementAndGet()))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(sinkCalls).hasValue(0);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "false, false, 3",
+      "true,  false, 1",
+      "true,  true,  1"
+  })
+  public void validate_failFastSkipsRemainingRules(boolean failFast, boolean defaultExecutor, int expectedExecutions) {
+    AtomicInteger executions = new AtomicInteger();
+    List<Rule<?>> rules = Stream.of("r1", "r2", "r3")
+        .map(id -> RuleBuilder.functionRule(id, Object.class)
+            .validateWith((context, facts) -> {
+              executions.incrementAndGet();
+              return Result.failed();
+            })
+            .build())
+        .<Rule<?>>map(rule -> rule)
+        .toList();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(rules))
+        .withRuleExecutor(defaultExecutor ? new DefaultRuleExecutor(Runnable::run) : new SimpleRuleExecutor())
+        .withFailFast(failFast)
+        .build();
+
+    boolean report = validator.validate(BooleanReporter::new, "facts", RuleSelector.of("r.*"));
+
+    assertThat(report).isFalse();
+    assertThat(executions).hasValue(expectedExecutions);
+  }
+
+  @Test
+  public void validate_failFastDoesNotAbortForNonFinalReports() {
+    AtomicInteger executions = new AtomicInteger();
+    List<Rule<?>> rules = Stream.of("r1", "r2")
+        .map(id -> RuleBuilder.functionRule(id, Object.class)
+            .validateWith((context, facts) -> {
+              executions.incrementAndGet();
+              return Result.failed();
+            })
+            .build())
+        .<Rule<?>>map(rule -> rule)
+        .toList();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(rules))
+        .withFailFast(true)
+        .build();
+
+    assertThat(validator.validate("facts", RuleSelector.of("r.*")).entries()).hasSize(2);
+    assertThat(executions).hasValue(2);
+  }
+
+  @Test
+  public void validate_timeoutSkipsRemainingRules() {
+    AtomicInteger executions = new AtomicInteger();
+    List<Rule<?>> rules = Stream.of("r1", "r2", "r3")
+        .map(id -> RuleBuilder.functionRule(id, Object.class)
+            .validateWith((context, facts) -> {
+              executions.incrementAndGet();
+              while (!context.isDeadlineExceeded()) {
+                Thread.onSpinWait();
+              }
+              return Result.ok();
+            })
+            .build())
+        .<Rule<?>>map(rule -> rule)
+        .toList();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(rules))
+        .withRuleExecutor(new SimpleRuleExecutor())
+        .withTimeout(Duration.ofMillis(500))
+        .build();
+
+    Report report = validator.validate("facts", RuleSelector.of("r.*"));
+
+    assertThat(executions).hasValue(1);
+    assertThat(report.entries()).hasSize(3);
+    assertThat(report.entries().stream().map(entry -> entry.result().reason() instanceof SystemResultReason reason ? reason.code() : null))
+        .containsExactlyInAnyOrder(null, Code.Timeout, Code.Timeout);
+  }
+
+  @Test
+  public void validate_ruleTimeoutCompletesRunningRule() {
+    CountDownLatch latch = new CountDownLatch(1);
+    Rule<Object> rule = RuleBuilder.functionRule("slow", Object.class)
+        .withMetadata(SimpleRuleExecutor.METADATA_TIMEOUT, "PT0.01S")
+        .validateWith((context, facts) -> {
+          try {
+            latch.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return Result.ok();
+        })
+        .build();
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      Validator validator = ValidatorBuilder.newBuilder()
+          .withRuleRepository(new InMemoryRuleRepository(rule))
+          .withRuleExecutor(new DefaultRuleExecutor(executorService))
+          .build();
+
+      Report report = validator.validate("facts", RuleSelector.of("slow"));
+
+      assertThat(report.entries()).hasSize(1);
+      assertThat(report.entries().iterator().next().result()).isEqualTo(Result.failed(new SystemResultReason(Code.Timeout, "slow")));
+    } finally {
+      latch.countDown();
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void validateAsync_cancelAbortsValidation() {
+    AtomicInteger executions = new AtomicInteger();
+    List<Rule<?>> rules = Stream.of("r1", "r2", "r3")
+        .map(id -> RuleBuilder.functionRule(id, Object.class)
+            .validateWith((context, facts) -> {
+              executions.incrementAndGet();
+              return Result.ok();
+            })
+            .build())
+        .<Rule<?>>map(rule -> rule)
+        .toList();
+    List<Runnable> scheduled = new ArrayList<>();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(rules))
+        .withRuleExecutor(new DefaultRuleExecutor(scheduled::add))
+        .build();
+
+    CompletableFuture<Report> future = validator.validateAsync("facts", RuleSelector.of("r.*"));
+    assertThat(scheduled).hasSize(3);
+    future.cancel(true);
+    scheduled.forEach(Runnable::run);
+
+    assertThat(future).isCancelled();
+    assertThat(executions).hasValue(0);
+  }
+
   private class TestValidator implements Validator {
 
     @Override
@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
+import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.ReportReporter;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class AdaptiveRuleExecutorTest {
+
+  private AtomicInteger forks;
+  private Executor forkCountingExecutor;
+
+  @BeforeEach
+  public void beforeEach() {
+    forks = new AtomicInteger();
+    forkCountingExecutor = command -> {
+      forks.incrementAndGet();
+      command.run();
+    };
+  }
+
+  @Test
+  public void validateAsync_runsCheapRulesInline() {
+    AdaptiveRuleExecutor executor = createExecutor(AdaptiveRuleExecutor.DEFAULT_FORK_THRESHOLD_NANOS, 16);
+    Rule<Object> rule = okRule("rule");
+    ValidationContext context = createContext(executor);
+
+    assertThat(executor.validateAsync(context, rule, 1).join()).isEqualTo(Result.ok());
+    assertThat(forks).hasValue(0);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "true,  1",
+      "TRUE,  1",
+      "false, 0",
+  })
+  public void validateAsync_respectsExpensiveMarker(String marker, int expectedForks) {
+    // A threshold of 0 treats every measured rule as expensive, unless explicitly marked as cheap
+    AdaptiveRuleExecutor executor = createExecutor(0, 16);
+    Rule<Object> rule = RuleBuilder.conditionRule("rule", Object.class)
+        .withMetadata(AdaptiveRuleExecutor.METADATA_EXPENSIVE, marker)
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+    ValidationContext context = createContext(executor);
+
+    executor.validateAsync(context, rule, 1).join();
+    executor.validateAsync(context, rule, 2).join();
+    assertThat(forks).hasValue(2 * expectedForks);
+  }
+
+  @Test
+  public void validateAsync_forksRulesMeasuredAsExpensive() {
+    AdaptiveRuleExecutor executor = createExecutor(0, 16);
+    Rule<Object> rule = okRule("rule");
+    ValidationContext context = createContext(executor);
+    assertThat(executor.getAverageNanos("rule")).isEqualTo(-1);
+
+    // Not measured yet, so executed inline
+    executor.validateAsync(context, rule, 1).join();
+    assertThat(forks).hasValue(0);
+    assertThat(executor.getAverageNanos("rule")).isGreaterThanOrEqualTo(0);
+
+    // Measured now
+    executor.validateAsync(context, rule, 2).join();
+    assertThat(forks).hasValue(1);
+  }
+
+  @Test
+  public void validateAsync_forksSiblingsOfWideFanOuts() {
+    AdaptiveRuleExecutor executor = createExecutor(AdaptiveRuleExecutor.DEFAULT_FORK_THRESHOLD_NANOS, 2);
+    ValidationContext context = createContext(executor, IntStream.range(0, 5).mapToObj(i -> okRule("rule" + i)).toList());
+
+    List<Result> results = executor.validateAsync(context, RuleSelector.of("rule.*"), 1).join();
+
+    assertThat(results).hasSize(5).allMatch(Result::isOk);
+    assertThat(forks).hasValue(3);
+  }
+
+  @Test
+  public void validateAsync_deduplicatesExecutions() {
+    AdaptiveRuleExecutor executor = createExecutor(AdaptiveRuleExecutor.DEFAULT_FORK_THRESHOLD_NANOS, 1);
+    AtomicInteger evaluations = new AtomicInteger();
+    Rule<Object> rule = RuleBuilder.conditionRule("rule", Object.class)
+        .validateWith((context, facts) -> evaluations.incrementAndGet() > 0)
+        .build();
+    ValidationContext context = createContext(executor, List.of(rule));
+
+    executor.validateAsync(context, rule, 1).join();
+    executor.validateAsync(context, RuleSelector.of("rule"), 1).join();
+    executor.validateAsync(context, RuleSelector.of("rule"), 1).join();
+
+    assertThat(evaluations).hasValue(1);
+    assertThat(forks).hasValue(0);
+  }
+
+  private AdaptiveRuleExecutor createExecutor(long forkThresholdNanos, int forkFanOut) {
+    return new AdaptiveRuleExecutor(forkCountingExecutor, true, 0, forkThresholdNanos, forkFanOut);
+  }
+
+  private static ValidationContext createContext(RuleExecutor executor) {
+    return createContext(executor, List.of());
+  }
+
+  private static ValidationContext createContext(RuleExecutor executor, List<? extends Rule<?>> rules) {
+    return new ValidationContext(new ReportReporter(null), Map.of(), executor, new InMemoryRuleRepository(rules),
+        new BeanPathResolver(), new DefaultSubscribableEventPublisher());
+  }
+
+  private static Rule<Object> okRule(String id) {
+    return RuleBuilder.conditionRule(id, Object.class)
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class BulkheadRegistryTest {
+
+  private final Bulkhead io = new Bulkhead("io", Runnable::run, 1, 0);
+  private final Bulkhead cpu = new Bulkhead("cpu", Runnable::run, 1, 0);
+
+  @Test
+  public void getBulkhead_selectsBulkheadByRuleMetadata() {
+    BulkheadRegistry registry = new BulkheadRegistry(List.of(io, cpu));
+
+    assertThat(registry.getBulkhead(rule("io"))).containsSame(io);
+    assertThat(registry.getBulkhead(rule("cpu"))).containsSame(cpu);
+    assertThat(registry.getBulkhead(rule("unknown"))).isEmpty();
+    assertThat(registry.getBulkhead(rule(null))).isEmpty();
+    assertThat(registry.getBulkheads()).containsExactly(io, cpu);
+  }
+
+  @Test
+  public void constructor_rejectsDuplicateNames() {
+    assertThatThrownBy(() -> new BulkheadRegistry(List.of(io, new Bulkhead("io", Runnable::run, 2, 0))))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Duplicate bulkhead 'io'");
+  }
+
+  private Rule<Object> rule(String pool) {
+    RuleBuilder.ConditionRuleBuilder<Object> builder = RuleBuilder.conditionRule("rule", Object.class);
+    if (pool != null) {
+      builder.withMetadata(BulkheadRegistry.METADATA_POOL, pool);
+    }
+    return builder.validateWith(Conditions.alwaysTrue()).build();
+  }
+}
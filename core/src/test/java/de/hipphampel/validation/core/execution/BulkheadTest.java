@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class BulkheadTest {
+
+  @Test
+  public void execute_queuesAndRejectsTasksExceedingTheLimits() {
+    List<Runnable> delegated = new ArrayList<>();
+    Bulkhead bulkhead = new Bulkhead("test", delegated::add, 2, 1);
+    AtomicInteger executions = new AtomicInteger();
+
+    bulkhead.execute(executions::incrementAndGet);
+    bulkhead.execute(executions::incrementAndGet);
+    bulkhead.execute(executions::incrementAndGet);
+    assertThatThrownBy(() -> bulkhead.execute(executions::incrementAndGet))
+        .isInstanceOf(RejectedExecutionException.class)
+        .hasMessage("Bulkhead 'test' is exhausted");
+    assertThat(delegated).hasSize(2);
+    assertThat(bulkhead.getActiveCount()).isEqualTo(2);
+    assertThat(bulkhead.getQueueSize()).isEqualTo(1);
+
+    // The first task picks up the queued one
+    delegated.get(0).run();
+    assertThat(executions).hasValue(2);
+    assertThat(bulkhead.getActiveCount()).isEqualTo(1);
+    assertThat(bulkhead.getQueueSize()).isEqualTo(0);
+
+    delegated.get(1).run();
+    assertThat(executions).hasValue(3);
+    assertThat(bulkhead.getActiveCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void execute_releasesSlotIfDelegateRejects() {
+    Bulkhead bulkhead = new Bulkhead("test", command -> {
+      throw new RejectedExecutionException("delegate");
+    }, 1, 0);
+
+    assertThatThrownBy(() -> bulkhead.execute(() -> {
+    })).hasMessage("delegate");
+    assertThat(bulkhead.getActiveCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void execute_limitsConcurrencyOfOwnThreads() throws InterruptedException {
+    Bulkhead bulkhead = new Bulkhead("test", 2, 100);
+    ExecutorService callers = Executors.newFixedThreadPool(4);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(20);
+    try {
+      for (int i = 0; i < 20; i++) {
+        callers.execute(() -> bulkhead.execute(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(2);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          running.decrementAndGet();
+          done.countDown();
+        }));
+      }
+      assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(maxRunning.get()).isBetween(1, 2);
+    } finally {
+      callers.shutdown();
+    }
+  }
+
+  @Test
+  public void constructor_validatesLimits() {
+    assertThatThrownBy(() -> new Bulkhead("test", Runnable::run, 0, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new Bulkhead("test", Runnable::run, 1, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
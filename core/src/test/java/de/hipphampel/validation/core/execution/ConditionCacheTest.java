@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.condition.Condition;
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.value.Values;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ConditionCacheTest {
+
+  @Test
+  public void evaluate_memoizesOutcomePerFactsAndPath() {
+    ConditionCache cache = new ConditionCache();
+    ValidationContext context = new ValidationContext();
+    AtomicInteger evaluations = new AtomicInteger();
+    Condition condition = (ctx, facts) -> evaluations.incrementAndGet() > 0 && "yes".equals(facts);
+    Object facts = new Object();
+
+    assertThat(cache.evaluate(context, condition, "yes")).isTrue();
+    assertThat(cache.evaluate(context, condition, "yes")).isTrue();
+    assertThat(cache.evaluate(context, condition, facts)).isFalse();
+    assertThat(cache.evaluate(context, condition, facts)).isFalse();
+    assertThat(cache.evaluate(context, condition, new Object())).isFalse();
+    assertThat(evaluations).hasValue(3);
+
+    context.enterPath("parent", context.getPathResolver().parse("a"));
+    assertThat(cache.evaluate(context, condition, "yes")).isTrue();
+    assertThat(evaluations).hasValue(4);
+
+    assertThat(cache.getStatistics()).isEqualTo(new RuleResultCache.Statistics(2, 4, 0, 4));
+  }
+
+  @Test
+  public void evaluate_sharesEntriesOfEqualConditions() {
+    ConditionCache cache = new ConditionCache();
+    ValidationContext context = new ValidationContext();
+
+    cache.evaluate(context, Conditions.isNotNull(Values.facts()), "facts");
+    cache.evaluate(context, Conditions.isNotNull(Values.facts()), "facts");
+    cache.evaluate(context, Conditions.isNull(Values.facts()), "facts");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getStatistics().hits()).isEqualTo(1);
+  }
+}
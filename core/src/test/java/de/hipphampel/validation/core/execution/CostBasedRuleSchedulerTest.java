@@ -0,0 +1,182 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.BooleanReporter;
+import de.hipphampel.validation.core.report.ReportReporter;
+import de.hipphampel.validation.core.rule.OkRule;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CostBasedRuleSchedulerTest {
+
+  private final Rule<Object> cheapFailing = rule("cheapFailing");
+  private final Rule<Object> cheapPassing = rule("cheapPassing");
+  private final Rule<Object> expensiveFailing = rule("expensiveFailing");
+  private final Rule<Object> unknown = rule("unknown");
+
+  @Test
+  public void constructor_validatesSmoothingFactor() {
+    assertThatThrownBy(() -> new CostBasedRuleScheduler(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new CostBasedRuleScheduler(1.1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void recordExecution_updatesMovingAverages() {
+    CostBasedRuleScheduler scheduler = new CostBasedRuleScheduler(0.5);
+
+    scheduler.recordExecution(cheapFailing, Result.failed(), 100);
+    assertThat(scheduler.getProfile("cheapFailing")).isEqualTo(new CostBasedRuleScheduler.Profile(100, 1.0, 1));
+
+    scheduler.recordExecution(cheapFailing, Result.ok(), 200);
+    assertThat(scheduler.getProfile("cheapFailing")).isEqualTo(new CostBasedRuleScheduler.Profile(150, 0.5, 2));
+    assertThat(scheduler.getProfile("unknown")).isNull();
+  }
+
+  @Test
+  public void schedule_failFastPrefersCheapRulesLikelyToFail() {
+    CostBasedRuleScheduler scheduler = newProfiledScheduler();
+
+    List<Rule<?>> scheduled = List.copyOf(scheduler.schedule(context(true),
+        List.of(expensiveFailing, cheapPassing, cheapFailing, unknown)));
+
+    assertThat(scheduled).containsExactly(unknown, cheapFailing, expensiveFailing, cheapPassing);
+  }
+
+  @Test
+  public void schedule_parallelPrefersExpensiveRules() {
+    CostBasedRuleScheduler scheduler = newProfiledScheduler();
+
+    List<Rule<?>> scheduled = List.copyOf(scheduler.schedule(context(false),
+        List.of(cheapPassing, cheapFailing, unknown, expensiveFailing)));
+
+    assertThat(scheduled).containsExactly(unknown, expensiveFailing, cheapPassing, cheapFailing);
+  }
+
+  @Test
+  public void schedule_isNotAffectedByConcurrentUpdates() {
+    CostBasedRuleScheduler scheduler = new CostBasedRuleScheduler(1.0);
+    Random random = new Random(4711);
+    List<Rule<Object>> rules = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      String id = "rule" + i;
+      Rule<Object> plain = rule(id);
+      // Updates the profiles while sorting, like concurrently finished executions do
+      rules.add(new OkRule<>(id) {
+        @Override
+        public String getId() {
+          scheduler.recordExecution(plain, Result.ok(), random.nextInt(1000));
+          return id;
+        }
+      });
+    }
+    rules.forEach(rule -> scheduler.recordExecution(rule, Result.ok(), 1));
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(scheduler.schedule(context(false), rules)).hasSize(64);
+    }
+  }
+
+  @Test
+  public void saveAndLoad(@TempDir Path dir) throws IOException {
+    CostBasedRuleScheduler scheduler = newProfiledScheduler();
+    Path file = dir.resolve("profiles.properties");
+
+    scheduler.save(file);
+    CostBasedRuleScheduler loaded = new CostBasedRuleScheduler();
+    loaded.load(file);
+
+    for (String id : List.of("cheapFailing", "cheapPassing", "expensiveFailing")) {
+      assertThat(loaded.getProfile(id)).isEqualTo(scheduler.getProfile(id));
+    }
+    assertThat(loaded.getProfile("unknown")).isNull();
+  }
+
+  @Test
+  public void load_failsOnInvalidFormat(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("profiles.properties");
+    Files.writeString(file, "rule=abc\n");
+
+    assertThatThrownBy(() -> new CostBasedRuleScheduler().load(file)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void validate_recordsExecutionsAndSchedulesRules() {
+    CostBasedRuleScheduler scheduler = new CostBasedRuleScheduler();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(cheapFailing, cheapPassing))
+        .withRuleExecutor(new SimpleRuleExecutor())
+        .withRuleScheduler(scheduler)
+        .withFailFast(true)
+        .build();
+
+    assertThat(validator.validate(ReportReporter::new, "facts", RuleSelector.of("cheap.*")).entries()).hasSize(2);
+    assertThat(scheduler.getProfile("cheapFailing").failureProbability()).isEqualTo(1.0);
+    assertThat(scheduler.getProfile("cheapPassing").failureProbability()).isEqualTo(0.0);
+
+    scheduler.recordExecution(cheapPassing, Result.ok(), 1_000_000_000L);
+    boolean report = validator.validate(BooleanReporter::new, "facts", RuleSelector.of("cheap.*"));
+    assertThat(report).isFalse();
+    assertThat(scheduler.getProfile("cheapFailing").samples()).isEqualTo(2);
+    assertThat(scheduler.getProfile("cheapPassing").samples()).isEqualTo(2);
+  }
+
+  private CostBasedRuleScheduler newProfiledScheduler() {
+    CostBasedRuleScheduler scheduler = new CostBasedRuleScheduler();
+    scheduler.recordExecution(cheapFailing, Result.failed(), 1_000);
+    scheduler.recordExecution(cheapPassing, Result.ok(), 2_000);
+    scheduler.recordExecution(expensiveFailing, Result.failed(), 1_000_000);
+    return scheduler;
+  }
+
+  private static ValidationContext context(boolean failFast) {
+    ValidationContext context = new ValidationContext();
+    return failFast
+        ? new ValidationContext(new ReportReporter(null), Map.of(), context.getRuleExecutor(), context.getRuleProvider(),
+        context.getPathResolver(), context.getEventPublisher(), true)
+        : context;
+  }
+
+  private static Rule<Object> rule(String id) {
+    return RuleBuilder.functionRule(id, Object.class)
+        .validateWith((context, facts) -> id.contains("Failing") ? Result.failed() : Result.ok())
+        .build();
+  }
+}
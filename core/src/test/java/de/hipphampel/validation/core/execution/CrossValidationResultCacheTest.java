@@ -0,0 +1,246 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
+import de.hipphampel.validation.core.path.CollectionPathResolver;
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.Report;
+import de.hipphampel.validation.core.rule.OkRule;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import de.hipphampel.validation.core.rule.SystemResultReason;
+import de.hipphampel.validation.core.rule.SystemResultReason.Code;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class CrossValidationResultCacheTest {
+
+  private final Path path = new CollectionPathResolver().selfPath();
+  private final Rule<Object> rule = new OkRule<>("rule");
+  private final AtomicInteger computations = new AtomicInteger();
+
+  @Test
+  public void ctor_failsForNonPositiveMaxSize() {
+    assertThatThrownBy(() -> new CrossValidationResultCache(facts -> facts, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void getOrCompute_reusesResultsForSameKey() {
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> facts, 10);
+
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+    cache.getOrCompute(new OkRule<>("other"), "a", path, this::compute).join();
+    cache.getOrCompute(rule, "b", path, this::compute).join();
+
+    assertThat(computations).hasValue(3);
+    assertThat(cache.getStatistics()).isEqualTo(new RuleResultCache.Statistics(1, 3, 0, 3));
+  }
+
+  @Test
+  public void getOrCompute_doesNotCacheIfKeyIsNull() {
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> null, 10);
+
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+
+    assertThat(computations).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void getOrCompute_evictsLeastRecentlyUsed() {
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> facts, 2);
+
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+    cache.getOrCompute(rule, "b", path, this::compute).join();
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+    cache.getOrCompute(rule, "c", path, this::compute).join();
+    assertThat(computations).hasValue(3);
+
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+    assertThat(computations).hasValue(3);
+    cache.getOrCompute(rule, "b", path, this::compute).join();
+    assertThat(computations).hasValue(4);
+  }
+
+  @Test
+  public void getOrCompute_expiresEntries() throws InterruptedException {
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> facts, 10, Duration.ofMillis(1));
+
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+    Thread.sleep(5);
+    cache.getOrCompute(rule, "a", path, this::compute).join();
+
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  public void getOrCompute_doesNotCacheSystemFailures() {
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> facts, 10);
+    Supplier<CompletableFuture<Result>> failing = () -> {
+      computations.incrementAndGet();
+      return CompletableFuture.completedFuture(Result.failed(new SystemResultReason(Code.RuleExecutionThrowsException, "boom")));
+    };
+
+    cache.getOrCompute(rule, "a", path, failing).join();
+    cache.getOrCompute(rule, "a", path, failing).join();
+
+    assertThat(computations).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void getOrCompute_doesNotCacheResultsOfComputationsStartedBeforeInvalidation() {
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> facts, 10);
+    CompletableFuture<Result> computation = new CompletableFuture<>();
+
+    CompletableFuture<Result> result = cache.getOrCompute(rule, "a", path, () -> computation);
+    cache.invalidateAll();
+    computation.complete(Result.ok());
+
+    assertThat(result).isCompletedWithValue(Result.ok());
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void getOrCompute_boundsSizeOfSegmentedCache() {
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> facts, 1024);
+
+    for (int i = 0; i < 5000; i++) {
+      cache.getOrCompute(rule, i, path, this::compute).join();
+    }
+
+    assertThat(cache.size()).isLessThanOrEqualTo(1024);
+    assertThat(cache.getStatistics().evictions()).isEqualTo(5000 - cache.size());
+  }
+
+  @Test
+  public void validator_reusesResultsUntilRulesChange() {
+    InMemoryRuleRepository repository = new InMemoryRuleRepository(new DefaultSubscribableEventPublisher());
+    repository.addRules(RuleBuilder.functionRule("count", String.class)
+        .validateWith((context, facts) -> {
+          computations.incrementAndGet();
+          return Result.ok();
+        })
+        .build());
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> facts, 10);
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(repository)
+        .withResultCache(cache)
+        .build();
+
+    validator.validate("a", RuleSelector.of("count"));
+    validator.validate("a", RuleSelector.of("count"));
+    assertThat(computations).hasValue(1);
+
+    repository.addRules(new OkRule<>("other"));
+    assertThat(cache.size()).isZero();
+    validator.validate("a", RuleSelector.of("count"));
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  public void validator_reusesResultsUntilInvalidatedIfRepositoryDoesNotPublishChanges() {
+    InMemoryRuleRepository repository = new InMemoryRuleRepository(RuleBuilder.functionRule("count", String.class)
+        .validateWith((context, facts) -> {
+          computations.incrementAndGet();
+          return Result.ok();
+        })
+        .build());
+    CrossValidationResultCache cache = new CrossValidationResultCache(facts -> facts, 10);
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(repository)
+        .withResultCache(cache)
+        .build();
+
+    validator.validate("a", RuleSelector.of("count"));
+    repository.addRules(new OkRule<>("other"));
+    validator.validate("a", RuleSelector.of("count"));
+    assertThat(computations).hasValue(1);
+
+    cache.invalidateAll();
+    validator.validate("a", RuleSelector.of("count"));
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  public void validator_executesRejectedRuleAgainInNextValidation() {
+    List<Runnable> pending = new ArrayList<>();
+    List<Rule<?>> rules = Stream.of("r1", "r2")
+        .map(id -> RuleBuilder.functionRule(id, String.class)
+            .withMetadata(BulkheadRegistry.METADATA_POOL, "io")
+            .validateWith((context, facts) -> {
+              computations.incrementAndGet();
+              return Result.ok();
+            })
+            .build())
+        .<Rule<?>>map(r -> r)
+        .toList();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(rules))
+        .withRuleExecutor(new DefaultRuleExecutor(Runnable::run))
+        .withResultCache(new CrossValidationResultCache(facts -> facts, 10))
+        .withBulkhead(new Bulkhead("io", pending::add, 1, 0))
+        .build();
+
+    // One rule is executed, the other one rejected
+    CompletableFuture<Report> first = validator.validateAsync("a", RuleSelector.of("r.*"));
+    runAll(pending);
+    assertThat(first.join().entries()).filteredOn(entry -> entry.result().isFailed()).hasSize(1);
+    assertThat(computations).hasValue(1);
+
+    // The rejected one is executed again
+    CompletableFuture<Report> second = validator.validateAsync("a", RuleSelector.of("r.*"));
+    runAll(pending);
+    assertThat(second.join().entries()).noneMatch(entry -> entry.result().isFailed());
+    assertThat(computations).hasValue(2);
+  }
+
+  private void runAll(List<Runnable> pending) {
+    while (!pending.isEmpty()) {
+      pending.remove(0).run();
+    }
+  }
+
+  private CompletableFuture<Result> compute() {
+    computations.incrementAndGet();
+    return CompletableFuture.completedFuture(Result.ok());
+  }
+}
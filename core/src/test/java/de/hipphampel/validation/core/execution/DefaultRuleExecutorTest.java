@@ -25,24 +25,38 @@ package de.hipphampel.validation.core.execution;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import de.hipphampel.validation.core.TestUtils;
+import de.hipphampel.validation.core.condition.Condition;
 import de.hipphampel.validation.core.condition.Conditions;
 import de.hipphampel.validation.core.event.Event;
 import de.hipphampel.validation.core.event.payloads.RuleFinishedPayload;
+import de.hipphampel.validation.core.event.payloads.RuleResultCacheStatisticsPayload;
 import de.hipphampel.validation.core.event.payloads.RuleStartedPayload;
+import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.ReportReporter;
 import de.hipphampel.validation.core.rule.AbstractRule;
 import de.hipphampel.validation.core.rule.DelegatingRule;
 import de.hipphampel.validation.core.rule.OkRule;
 import de.hipphampel.validation.core.rule.Result;
 import de.hipphampel.validation.core.rule.Rule;
 import de.hipphampel.validation.core.rule.RuleBuilder;
+import de.hipphampel.validation.core.rule.SystemResultReason;
+import de.hipphampel.validation.core.rule.SystemResultReason.Code;
 import de.hipphampel.validation.core.utils.Stacked;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 public class DefaultRuleExecutorTest {
 
@@ -81,6 +95,28 @@ public class DefaultRuleExecutorTest {
     assertThat(events).hasSize(2);
   }
 
+  @ParameterizedTest
+  @CsvSource({
+      "true,  1",
+      "false, 2"
+  })
+  public void validate_evaluatesEqualPreconditionsOnceIfCachingIsOn(boolean caching, int expectedEvaluations) {
+    DefaultRuleExecutor executor = createExecutor(caching);
+    AtomicInteger evaluations = new AtomicInteger();
+    Rule<Integer> rule1 = RuleBuilder.conditionRule("rule1", Integer.class)
+        .withPrecondition(new CountingCondition(evaluations))
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+    Rule<Integer> rule2 = RuleBuilder.conditionRule("rule2", Integer.class)
+        .withPrecondition(new CountingCondition(evaluations))
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+
+    assertThat(executor.validate(context, rule1, 4711)).isEqualTo(Result.ok());
+    assertThat(executor.validate(context, rule2, 4711)).isEqualTo(Result.ok());
+    assertThat(evaluations).hasValue(expectedEvaluations);
+  }
+
   @Test
   public void validate_doesNotCacheResultsIfCachingIsOff() {
     DefaultRuleExecutor executor = createExecutor(false);
@@ -252,10 +288,142 @@ public class DefaultRuleExecutorTest {
     assertThat(executor.validateAsync(context, rule, 4711).join()).isEqualTo(Result.ok());
   }
 
+  @Test
+  public void validateAsync_forwardingRulesDoNotBlockExecutorThreads() throws Exception {
+    ExecutorService singleThread = Executors.newSingleThreadExecutor();
+    try {
+      DefaultRuleExecutor executor = new DefaultRuleExecutor(singleThread);
+      Rule<Object> leaf1 = RuleBuilder.conditionRule("leaf:1", Object.class)
+          .validateWith(Conditions.alwaysTrue())
+          .build();
+      Rule<Object> leaf2 = RuleBuilder.conditionRule("leaf:2", Object.class)
+          .validateWith(Conditions.alwaysFalse())
+          .build();
+      Rule<Object> inner = RuleBuilder.selectorRule("inner", Object.class)
+          .validateWith(RuleSelector.of("leaf:.*"))
+          .build();
+      Rule<Object> outer = RuleBuilder.dispatchingRule("outer", Object.class)
+          .forPaths("*").validateWith("inner")
+          .build();
+      ValidationContext context = new ValidationContext(new ReportReporter(null), Map.of(), executor,
+          new InMemoryRuleRepository(leaf1, leaf2, inner, outer), new BeanPathResolver(), null);
+
+      Result result = executor.validateAsync(context, outer, List.of("a", "b", "c")).get(10, TimeUnit.SECONDS);
+
+      assertThat(result.isFailed()).isTrue();
+    } finally {
+      singleThread.shutdownNow();
+    }
+  }
+
+  @Test
+  public void getResultCache_returnsTheBoundedCacheUsedByTheValidation() {
+    DefaultRuleExecutor executor = new DefaultRuleExecutor(ForkJoinPool.commonPool(), true, 10);
+    Rule<Integer> rule = new OkRule<>("test");
+
+    RuleResultCache cache = executor.getResultCache(context).orElseThrow();
+    executor.validate(context, rule, 4711);
+
+    assertThat(cache.getMaxSize()).isEqualTo(10);
+    assertThat(cache.getStatistics().misses()).isEqualTo(1);
+    assertThat(executor.getResultCache(context)).containsSame(cache);
+  }
+
+  @Test
+  public void getResultCache_returnsEmptyIfCachingIsOff() {
+    assertThat(createExecutor(false).getResultCache(context)).isEmpty();
+  }
+
+  @Test
+  public void validationFinished_publishesCacheStatistics() {
+    DefaultRuleExecutor executor = createExecutor(true);
+    Rule<Integer> rule = RuleBuilder.conditionRule("test", Integer.class)
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+    executor.validate(context, rule, 4711);
+    executor.validate(context, rule, 4711);
+    executor.validate(context, rule, 4712);
+    events.clear();
+
+    executor.validationFinished(context);
+
+    assertThat(events).containsExactly(
+        new Event<>(new RuleResultCacheStatisticsPayload(context.getRootFacts(), new RuleResultCache.Statistics(1, 2, 0, 2)),
+            TestUtils.FIXED_DATE, executor));
+  }
+
+  @Test
+  public void validationFinished_publishesNothingIfCachingIsOff() {
+    DefaultRuleExecutor executor = createExecutor(false);
+    executor.validate(context, new OkRule<>("test"), 4711);
+    events.clear();
+
+    executor.validationFinished(context);
+
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  public void validate_executesRulesAssignedToBulkheadByBulkhead() {
+    DefaultRuleExecutor executor = createExecutor(true);
+    AtomicInteger delegated = new AtomicInteger();
+    Bulkhead bulkhead = new Bulkhead("io", command -> {
+      delegated.incrementAndGet();
+      command.run();
+    }, 1, 0);
+    context.getOrCreateSharedExtension(BulkheadRegistry.class, type -> new BulkheadRegistry(List.of(bulkhead)));
+    Rule<Object> ioRule = RuleBuilder.conditionRule("io", Object.class)
+        .withMetadata(BulkheadRegistry.METADATA_POOL, "io")
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+    Rule<Object> otherRule = RuleBuilder.conditionRule("other", Object.class)
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+
+    assertThat(executor.validate(context, ioRule, 4711)).isEqualTo(Result.ok());
+    assertThat(executor.validate(context, otherRule, 4711)).isEqualTo(Result.ok());
+    assertThat(delegated).hasValue(1);
+    assertThat(bulkhead.getActiveCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void validateAsync_failsIfBulkheadIsExhausted() {
+    DefaultRuleExecutor executor = createExecutor(true);
+    List<Runnable> pending = new CopyOnWriteArrayList<>();
+    Bulkhead bulkhead = new Bulkhead("io", pending::add, 1, 0);
+    context.getOrCreateSharedExtension(BulkheadRegistry.class, type -> new BulkheadRegistry(List.of(bulkhead)));
+    Rule<Object> rule1 = RuleBuilder.conditionRule("rule1", Object.class)
+        .withMetadata(BulkheadRegistry.METADATA_POOL, "io")
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+    Rule<Object> rule2 = RuleBuilder.conditionRule("rule2", Object.class)
+        .withMetadata(BulkheadRegistry.METADATA_POOL, "io")
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+
+    CompletableFuture<Result> result1 = executor.validateAsync(context, rule1, 4711);
+    CompletableFuture<Result> result2 = executor.validateAsync(context, rule2, 4711);
+
+    assertThat(result2).isCompletedWithValue(
+        Result.failed(new SystemResultReason(Code.ExecutionRejected, "Bulkhead 'io' is exhausted")));
+    assertThat(result1).isNotDone();
+    pending.forEach(Runnable::run);
+    assertThat(result1).isCompletedWithValue(Result.ok());
+  }
+
   private DefaultRuleExecutor createExecutor(boolean caching) {
     return new DefaultRuleExecutor(ForkJoinPool.commonPool(), caching);
   }
 
+  private record CountingCondition(AtomicInteger evaluations) implements Condition {
+
+    @Override
+    public boolean evaluate(ValidationContext context, Object facts) {
+      evaluations.incrementAndGet();
+      return true;
+    }
+  }
+
   private static class SleepyRule extends AbstractRule<Integer> {
 
     public SleepyRule(String id, long sleep) {
@@ -0,0 +1,192 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
+import de.hipphampel.validation.core.execution.ExecutionPlan.Edge;
+import de.hipphampel.validation.core.execution.ExecutionPlan.EdgeType;
+import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.Report;
+import de.hipphampel.validation.core.report.ReportReporter;
+import de.hipphampel.validation.core.rule.OkRule;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import de.hipphampel.validation.core.value.Values;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionPlannerTest {
+
+  private InMemoryRuleRepository repository;
+  private ExecutionPlanner planner;
+
+  @BeforeEach
+  public void beforeEach() {
+    repository = new InMemoryRuleRepository(new DefaultSubscribableEventPublisher(), List.of(
+        RuleBuilder.dispatchingRule("map:root", Map.class)
+            .forPaths("items/*").validateWith("item:.*")
+            .forPaths(Values.path("dynamicPaths")).validateWith("item:.*")
+            .build(),
+        RuleBuilder.conditionRule("item:checked", Object.class)
+            .withPrecondition(Conditions.rule("item:precondition"))
+            .validateWith(Conditions.alwaysTrue())
+            .build(),
+        new OkRule<>("item:precondition"),
+        RuleBuilder.selectorRule("map:forward", Map.class)
+            .validateWith(RuleSelector.of("item:checked"))
+            .build(),
+        new OkRule<String>("string:rule") {
+        }));
+    planner = new ExecutionPlanner(repository);
+  }
+
+  @Test
+  public void plan_compilesRuleGraph() {
+    ExecutionPlan plan = planner.plan(RuleSelector.of("map:.*", "string:.*"), Map.class).orElseThrow();
+
+    assertThat(plan.factsType()).isEqualTo(Map.class);
+    assertThat(plan.rules().stream().map(Rule::getId)).containsExactlyInAnyOrder("map:root", "map:forward");
+    assertThat(plan.nodes().keySet()).containsExactlyInAnyOrder("map:root", "map:forward", "item:checked", "item:precondition");
+    assertThat(plan.nodes().get("map:root").edges()).containsExactlyInAnyOrder(
+        new Edge(EdgeType.DISPATCH, Set.of("items/*"), targetsOf(plan, "map:root", Set.of("items/*"))),
+        new Edge(EdgeType.DISPATCH, null, targetsOf(plan, "map:root", null)));
+    assertThat(targetsOf(plan, "map:root", Set.of("items/*"))).containsExactlyInAnyOrder("item:checked", "item:precondition");
+    assertThat(targetsOf(plan, "map:root", null)).containsExactlyInAnyOrder("item:checked", "item:precondition");
+    assertThat(plan.nodes().get("map:forward").edges()).containsExactly(
+        new Edge(EdgeType.SELECTION, Set.of(), List.of("item:checked")));
+    assertThat(plan.nodes().get("item:checked").edges()).containsExactly(
+        new Edge(EdgeType.PRECONDITION, Set.of(), List.of("item:precondition")));
+    assertThat(plan.nodes().get("item:precondition").edges()).isEmpty();
+  }
+
+  @Test
+  public void plan_isCachedUntilRulesChange() {
+    ExecutionPlan plan = planner.plan(RuleSelector.of("map:.*"), Map.class).orElseThrow();
+    assertThat(planner.plan(RuleSelector.of("map:.*"), Map.class)).containsSame(plan);
+
+    repository.addRules(new OkRule<>("map:added"));
+
+    ExecutionPlan newPlan = planner.plan(RuleSelector.of("map:.*"), Map.class).orElseThrow();
+    assertThat(newPlan).isNotSameAs(plan);
+    assertThat(newPlan.rules().stream().map(Rule::getId)).contains("map:added");
+  }
+
+  @Test
+  public void plan_isEmptyIfSelectionDependsOnFacts() {
+    RuleSelector selector = (provider, context, facts) -> List.of();
+
+    assertThat(planner.plan(selector, Map.class)).isEmpty();
+  }
+
+  @Test
+  public void explain() {
+    String explanation = planner.plan(RuleSelector.of("map:forward"), Map.class).orElseThrow().explain();
+
+    assertThat(explanation).isEqualTo("""
+        Execution plan for java.util.Map using SimpleRuleSelector{ruleIdFilter=(HashSet)[map:forward]}
+        Selected rules (1):
+          map:forward
+            selection -> item:checked
+        Reachable rules (2):
+          item:checked
+            precondition -> item:precondition
+          item:precondition
+        """);
+  }
+
+  @Test
+  public void selectRules_usesPlanForFactsType() {
+    ValidationContext context = new ValidationContext(new ReportReporter(null), Map.of(), new SimpleRuleExecutor(), repository,
+        new BeanPathResolver(), new DefaultSubscribableEventPublisher());
+
+    assertThat(planner.selectRules(context, RuleSelector.of("map:.*", "string:.*"), Map.of()))
+        .isSameAs(planner.plan(RuleSelector.of("map:.*", "string:.*"), Map.of().getClass()).orElseThrow().rules());
+    assertThat(planner.selectRules(context, RuleSelector.of("map:.*", "string:.*"), "string").stream().map(Rule::getId))
+        .containsExactly("string:rule");
+  }
+
+  @Test
+  public void plan_isDiscardedWhenRulesChange() {
+    RuleSelector selector = RuleSelector.of("string:.*");
+    ExecutionPlan plan = planner.plan(selector, String.class).orElseThrow();
+
+    repository.addRules(new OkRule<>("string:other"));
+
+    assertThat(planner.plan(selector, String.class).orElseThrow().rules().stream().map(Rule::getId))
+        .containsExactlyInAnyOrder("string:rule", "string:other");
+    assertThat(plan.rules().stream().map(Rule::getId)).containsExactly("string:rule");
+  }
+
+  @Test
+  public void plan_isKeptUntilInvalidatedIfRepositoryDoesNotPublishChanges() {
+    InMemoryRuleRepository silentRepository = new InMemoryRuleRepository(new OkRule<String>("string:rule") {
+    });
+    ExecutionPlanner silentPlanner = new ExecutionPlanner(silentRepository);
+    RuleSelector selector = RuleSelector.of("string:.*");
+    ExecutionPlan plan = silentPlanner.plan(selector, String.class).orElseThrow();
+
+    silentRepository.addRules(new OkRule<>("string:other"));
+    assertThat(silentPlanner.plan(selector, String.class)).containsSame(plan);
+
+    silentPlanner.invalidate();
+    assertThat(silentPlanner.plan(selector, String.class).orElseThrow().rules()).hasSize(2);
+  }
+
+  @Test
+  public void validate_withExecutionPlannerProducesSameReport() {
+    RuleSelector selector = RuleSelector.of("map:.*");
+    Map<String, Object> facts = Map.of("items", List.of("a", "b"), "dynamicPaths", Set.of());
+    Validator plainValidator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(repository)
+        .build();
+    Validator plannedValidator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(repository)
+        .withExecutionPlanner(planner)
+        .build();
+
+    Report expected = plainValidator.validate(facts, selector);
+    Report actual = plannedValidator.validate(facts, selector);
+
+    assertThat(actual).isEqualTo(expected);
+    assertThat(planner.plan(selector, facts.getClass())).isPresent();
+  }
+
+  private static List<String> targetsOf(ExecutionPlan plan, String ruleId, Set<String> paths) {
+    return plan.nodes().get(ruleId).edges().stream()
+        .filter(edge -> Objects.equals(edge.paths(), paths))
+        .findFirst()
+        .map(Edge::targets)
+        .orElse(null);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.path.ComponentPath;
+import de.hipphampel.validation.core.path.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class FactsKeyTest {
+
+  private static final Path PATH = ComponentPath.empty();
+
+  @Test
+  public void equals_comparesFactsByIdentityUnlessValueLike() {
+    Object owner = new Object();
+    List<String> facts = new ArrayList<>(List.of("a"));
+
+    assertThat(FactsKey.byIdentity(owner, facts, PATH)).isEqualTo(FactsKey.byIdentity(owner, facts, PATH));
+    assertThat(FactsKey.byIdentity(owner, facts, PATH)).isNotEqualTo(FactsKey.byIdentity(owner, new ArrayList<>(facts), PATH));
+    assertThat(FactsKey.byIdentity(owner, new String("a"), PATH)).isEqualTo(FactsKey.byIdentity(owner, new String("a"), PATH));
+    assertThat(FactsKey.byIdentity(owner, 1, PATH)).isNotEqualTo(FactsKey.byIdentity(owner, 2, PATH));
+  }
+
+  @Test
+  public void equals_comparesOwnersByIdentityOrValue() {
+    String facts = "facts";
+
+    assertThat(FactsKey.byIdentity(new String("owner"), facts, PATH)).isNotEqualTo(FactsKey.byIdentity(new String("owner"), facts, PATH));
+    assertThat(FactsKey.byValue(new String("owner"), facts, PATH)).isEqualTo(FactsKey.byValue(new String("owner"), facts, PATH));
+    assertThat(FactsKey.byValue(new String("owner"), facts, PATH)).isNotEqualTo(FactsKey.byValue(new String("other"), facts, PATH));
+  }
+
+  @Test
+  public void equals_comparesPaths() {
+    Object owner = new Object();
+
+    assertThat(FactsKey.byIdentity(owner, "facts", PATH)).isNotEqualTo(FactsKey.byIdentity(owner, "facts", null));
+  }
+}
@@ -32,6 +32,7 @@ import static org.mockito.Mockito.verify;
 import de.hipphampel.validation.core.condition.Conditions;
 import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
 import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.path.CompiledPath;
 import de.hipphampel.validation.core.path.Path;
 import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
 import de.hipphampel.validation.core.provider.RuleRepository;
@@ -262,4 +263,24 @@ public class RuleExecutorTest {
     verify(underTest, times(1)).validate(eq(context), eq(rule1), eq(4712));
     verify(underTest, times(1)).validate(eq(context), eq(rule2), eq(4712));
   }
+
+  @Test
+  public void validateForPatternAsync_forRuleSelector_callsValidate_withParentFactCallbacksOnContext() {
+    Map<String, Integer> parentFacts = Map.of("a", 4711, "b", 4712);
+    CompiledPath pattern = context.getPathResolver().compile("*");
+    Path pathA = context.getPathResolver().parse("a");
+    Path pathB = context.getPathResolver().parse("b");
+
+    assertThat(
+        underTest.validateForPatternAsync(context, SimpleRuleSelector.all(), parentFacts, pattern)
+            .join())
+        .isEqualTo(List.of(Result.ok(), Result.ok(), Result.ok(), Result.ok()));
+    verify(context, times(1)).enterPath(eq(parentFacts), eq(pathA));
+    verify(context, times(1)).enterPath(eq(parentFacts), eq(pathB));
+    verify(context, times(2)).leavePath();
+    verify(underTest, times(1)).validate(eq(context), eq(rule1), eq(4711));
+    verify(underTest, times(1)).validate(eq(context), eq(rule2), eq(4711));
+    verify(underTest, times(1)).validate(eq(context), eq(rule1), eq(4712));
+    verify(underTest, times(1)).validate(eq(context), eq(rule2), eq(4712));
+  }
 }
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.path.CollectionPathResolver;
+import de.hipphampel.validation.core.path.Path;
+import de.hipphampel.validation.core.rule.OkRule;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class RuleResultCacheTest {
+
+  private final CollectionPathResolver pathResolver = new CollectionPathResolver();
+  private final Rule<Object> rule = new OkRule<>("rule");
+  private final AtomicInteger computations = new AtomicInteger();
+
+  @Test
+  public void getOrCompute_computesOncePerKey() {
+    RuleResultCache cache = new RuleResultCache();
+    Path path = pathResolver.parse("a");
+
+    CompletableFuture<Result> first = cache.getOrCompute(rule, "facts", path, this::compute);
+    CompletableFuture<Result> second = cache.getOrCompute(rule, "facts", pathResolver.parse("a"), this::compute);
+
+    assertThat(second).isSameAs(first);
+    assertThat(computations).hasValue(1);
+    assertThat(cache.getStatistics()).isEqualTo(new RuleResultCache.Statistics(1, 1, 0, 1));
+  }
+
+  @Test
+  public void getOrCompute_distinguishesRulesFactsAndPaths() {
+    RuleResultCache cache = new RuleResultCache();
+    Path path = pathResolver.parse("a");
+
+    cache.getOrCompute(rule, "facts", path, this::compute);
+    cache.getOrCompute(new OkRule<>("other"), "facts", path, this::compute);
+    cache.getOrCompute(rule, "other", path, this::compute);
+    cache.getOrCompute(rule, "facts", pathResolver.parse("b"), this::compute);
+
+    assertThat(computations).hasValue(4);
+    assertThat(cache.size()).isEqualTo(4);
+  }
+
+  @Test
+  public void getOrCompute_comparesNonValueFactsByIdentity() {
+    RuleResultCache cache = new RuleResultCache();
+    Path path = pathResolver.parse("a");
+    List<String> facts = new ArrayList<>(List.of("x"));
+
+    cache.getOrCompute(rule, facts, path, this::compute);
+    cache.getOrCompute(rule, facts, path, this::compute);
+    cache.getOrCompute(rule, new ArrayList<>(facts), path, this::compute);
+    cache.getOrCompute(rule, 4711L, path, this::compute);
+    cache.getOrCompute(rule, Long.valueOf(4711L), path, this::compute);
+
+    assertThat(computations).hasValue(3);
+  }
+
+  @Test
+  public void getOrCompute_evictsOldestEntriesIfBounded() {
+    RuleResultCache cache = new RuleResultCache(2);
+    Path path = pathResolver.parse("a");
+
+    cache.getOrCompute(rule, 1, path, this::compute);
+    cache.getOrCompute(rule, 2, path, this::compute);
+    cache.getOrCompute(rule, 3, path, this::compute);
+    assertThat(cache.getStatistics()).isEqualTo(new RuleResultCache.Statistics(0, 3, 1, 2));
+
+    cache.getOrCompute(rule, 3, path, this::compute);
+    cache.getOrCompute(rule, 1, path, this::compute);
+    assertThat(cache.getStatistics()).isEqualTo(new RuleResultCache.Statistics(1, 4, 2, 2));
+  }
+
+  @Test
+  public void getOrCompute_failingComputation() {
+    RuleResultCache cache = new RuleResultCache();
+
+    CompletableFuture<Result> result = cache.getOrCompute(rule, "facts", pathResolver.selfPath(), () -> {
+      throw new IllegalStateException("failed");
+    });
+
+    assertThat(result).isCompletedExceptionally();
+  }
+
+  private CompletableFuture<Result> compute() {
+    computations.incrementAndGet();
+    return CompletableFuture.completedFuture(Result.ok());
+  }
+}
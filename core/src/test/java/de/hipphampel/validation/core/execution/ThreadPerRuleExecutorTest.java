@@ -0,0 +1,231 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.path.BeanPathResolver;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.Report;
+import de.hipphampel.validation.core.report.ReportReporter;
+import de.hipphampel.validation.core.rule.AbstractRule;
+import de.hipphampel.validation.core.rule.AsyncRule;
+import de.hipphampel.validation.core.rule.OkRule;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ThreadPerRuleExecutorTest {
+
+  @Test
+  public void validateAsync_runsEachRuleOnItsOwnThread() {
+    ThreadPerRuleExecutor executor = new ThreadPerRuleExecutor();
+    ValidationContext context = createContext(executor);
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    Rule<Object> rule1 = new ThreadRecordingRule("1", threads);
+    Rule<Object> rule2 = new ThreadRecordingRule("2", threads);
+
+    CompletableFuture<Result> future1 = executor.validateAsync(context, rule1, "facts");
+    CompletableFuture<Result> future2 = executor.validateAsync(context, rule2, "facts");
+
+    assertThat(future1.join()).isEqualTo(Result.ok());
+    assertThat(future2.join()).isEqualTo(Result.ok());
+    assertThat(threads).hasSize(2);
+    assertThat(threads).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  public void validateAsync_nestedForwardingRules() throws Exception {
+    ThreadPerRuleExecutor executor = new ThreadPerRuleExecutor();
+    Rule<Object> leaf1 = RuleBuilder.conditionRule("leaf:1", Object.class)
+        .validateWith(Conditions.alwaysTrue())
+        .build();
+    Rule<Object> leaf2 = RuleBuilder.conditionRule("leaf:2", Object.class)
+        .validateWith(Conditions.alwaysFalse())
+        .build();
+    Rule<Object> inner = RuleBuilder.selectorRule("inner", Object.class)
+        .validateWith(RuleSelector.of("leaf:.*"))
+        .build();
+    Rule<Object> outer = RuleBuilder.dispatchingRule("outer", Object.class)
+        .forPaths("*").validateWith("inner")
+        .build();
+    ValidationContext context = new ValidationContext(new ReportReporter(null), Map.of(), executor,
+        new InMemoryRuleRepository(leaf1, leaf2, inner, outer), new BeanPathResolver(), null);
+
+    Result result = executor.validateAsync(context, outer, List.of("a", "b", "c")).get(10, TimeUnit.SECONDS);
+
+    assertThat(result.isFailed()).isTrue();
+  }
+
+  @Test
+  public void executeAsync_cancellationIsPropagatedToSubordinatedExecutions() throws Exception {
+    ThreadPerRuleExecutor executor = new ThreadPerRuleExecutor(ThreadPerRuleExecutor.defaultThreadFactory(), false);
+    ValidationContext context = createContext(executor);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Rule<Object> child = new OkRule<>("child") {
+      @Override
+      public Result validate(ValidationContext context, Object facts) {
+        started.countDown();
+        try {
+          Thread.sleep(10000);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+        return Result.ok();
+      }
+    };
+    Rule<Object> parent = new ParentRule(child);
+
+    CompletableFuture<Result> future = executor.executeAsync(context.copy(), parent, "facts");
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+    future.cancel(false);
+
+    assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void validatorValidateAsync_cancellationIsPropagatedToRunningExecutions() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Rule<Object> child = new BlockingRule("child", started, interrupted);
+    Rule<Object> parent = new ParentRule(child);
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleExecutor(new ThreadPerRuleExecutor())
+        .withRuleRepository(new InMemoryRuleRepository(parent, child))
+        .build();
+
+    CompletableFuture<Report> future = validator.validateAsync("facts", RuleSelector.of("parent"));
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+    future.cancel(true);
+
+    assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void executeAsync_normalCompletionDoesNotCancelSubordinatedExecutions() throws Exception {
+    ThreadPerRuleExecutor executor = new ThreadPerRuleExecutor(ThreadPerRuleExecutor.defaultThreadFactory(), false);
+    ValidationContext context = createContext(executor);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Rule<Object> child = new OkRule<>("child") {
+      @Override
+      public Result validate(ValidationContext context, Object facts) {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+        return Result.ok();
+      }
+    };
+    CompletableFuture<CompletableFuture<Result>> childFuture = new CompletableFuture<>();
+    Rule<Object> parent = new AbstractRule<>("parent") {
+      @Override
+      public Result validate(ValidationContext context, Object facts) {
+        childFuture.complete(context.getRuleExecutor().validateAsync(context, child, facts));
+        return Result.ok();
+      }
+    };
+
+    assertThat(executor.executeAsync(context.copy(), parent, "facts").get(10, TimeUnit.SECONDS)).isEqualTo(Result.ok());
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+    release.countDown();
+
+    assertThat(childFuture.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS)).isEqualTo(Result.ok());
+    assertThat(interrupted.getCount()).isEqualTo(1);
+  }
+
+  private static ValidationContext createContext(RuleExecutor executor) {
+    return new ValidationContext(new ReportReporter(null), Map.of(), executor, new InMemoryRuleRepository(),
+        new BeanPathResolver(), null);
+  }
+
+  private static class ThreadRecordingRule extends AbstractRule<Object> {
+
+    private final Set<Thread> threads;
+
+    public ThreadRecordingRule(String id, Set<Thread> threads) {
+      super(id);
+      this.threads = threads;
+    }
+
+    @Override
+    public Result validate(ValidationContext context, Object facts) {
+      threads.add(Thread.currentThread());
+      return Result.ok();
+    }
+  }
+
+  private static class BlockingRule extends AbstractRule<Object> {
+
+    private final CountDownLatch started;
+    private final CountDownLatch interrupted;
+
+    public BlockingRule(String id, CountDownLatch started, CountDownLatch interrupted) {
+      super(id);
+      this.started = started;
+      this.interrupted = interrupted;
+    }
+
+    @Override
+    public Result validate(ValidationContext context, Object facts) {
+      started.countDown();
+      try {
+        Thread.sleep(10000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return Result.ok();
+    }
+  }
+
+  private static class ParentRule extends AbstractRule<Object> implements AsyncRule<Object> {
+
+    private final Rule<Object> child;
+
+    public ParentRule(Rule<Object> child) {
+      super("parent");
+      this.child = child;
+    }
+
+    @Override
+    public CompletableFuture<Result> validateAsync(ValidationContext context, Object facts) {
+      return context.getRuleExecutor().validateAsync(context, child, facts);
+    }
+  }
+}
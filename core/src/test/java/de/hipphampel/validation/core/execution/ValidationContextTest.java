@@ -24,6 +24,7 @@ package de.hipphampel.validation.core.execution;
 
 import de.hipphampel.validation.core.rule.Rule;
 import de.hipphampel.validation.core.utils.Pair;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,6 +51,42 @@ public class ValidationContextTest {
     assertThat(context.copy().knowsLocalExtension(Pair.class)).isFalse();
   }
 
+  @Test
+  public void abort_isSharedWithCopies() {
+    ValidationContext context = new ValidationContext();
+    ValidationContext copy = context.copy();
+    assertThat(context.isFailFast()).isFalse();
+    assertThat(copy.isAborted()).isFalse();
+
+    context.abort();
+
+    assertThat(context.isAborted()).isTrue();
+    assertThat(copy.isAborted()).isTrue();
+    assertThat(context.copy().isAborted()).isTrue();
+  }
+
+  @Test
+  public void restrictDeadline_isInheritedByCopies() {
+    ValidationContext context = new ValidationContext();
+    ValidationContext copy = context.copy();
+    assertThat(context.getRemainingTime()).isEmpty();
+    assertThat(context.isDeadlineExceeded()).isFalse();
+
+    context.restrictDeadline(Duration.ofHours(1));
+    assertThat(context.getRemainingTime()).hasValueSatisfying(remaining -> assertThat(remaining).isPositive());
+    assertThat(context.copy().getRemainingTime()).isPresent();
+    assertThat(copy.getRemainingTime()).isEmpty();
+
+    ValidationContext restricted = context.copy();
+    restricted.restrictDeadline(Duration.ZERO);
+    assertThat(restricted.isDeadlineExceeded()).isTrue();
+    assertThat(restricted.getRemainingTime()).hasValue(Duration.ZERO);
+    assertThat(context.isDeadlineExceeded()).isFalse();
+
+    restricted.restrictDeadline(Duration.ofHours(2));
+    assertThat(restricted.isDeadlineExceeded()).isTrue();
+  }
+
   @Test
   public void facts() {
     ValidationContext context = new ValidationContext();
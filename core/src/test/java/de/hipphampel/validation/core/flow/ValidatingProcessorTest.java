@@ -0,0 +1,338 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.execution.ValidationContext;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.BooleanReporter;
+import de.hipphampel.validation.core.report.Report;
+import de.hipphampel.validation.core.report.Reporter;
+import de.hipphampel.validation.core.report.ReporterFactory;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ValidatingProcessorTest {
+
+  @Test
+  public void forReports_validatesAllFactsInOrder() throws InterruptedException {
+    Rule<Object> check = RuleBuilder.functionRule("check", Object.class)
+        .validateWith((context, facts) -> "bad".equals(facts) ? Result.failed() : Result.ok())
+        .build();
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withRuleRepository(new InMemoryRuleRepository(check))
+        .build();
+    List<String> facts = List.of("a", "bad", "c", "bad", "e");
+    ValidatingProcessor<Report> processor = ValidatingProcessor.forReports(validator, RuleSelector.of("check"), 2, true);
+    CollectingSubscriber<Report> subscriber = new CollectingSubscriber<>();
+
+    new IterablePublisher(facts).subscribe(processor);
+    processor.subscribe(subscriber);
+    subscriber.request(Long.MAX_VALUE);
+
+    assertThat(subscriber.done.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(subscriber.items.stream().map(ValidatedItem::facts).toList()).isEqualTo(facts);
+    assertThat(subscriber.items.stream().map(ValidatedItem::report).toList())
+        .isEqualTo(facts.stream().map(f -> validator.validate(f, RuleSelector.of("check"))).toList());
+    assertThat(subscriber.completed).isTrue();
+    assertThat(subscriber.error).isNull();
+  }
+
+  @Test
+  public void onNext_limitsNumberOfPendingValidations() {
+    ControlledValidator validator = new ControlledValidator();
+    ValidatingProcessor<Boolean> processor = new ValidatingProcessor<>(validator, BooleanReporter::new, RuleSelector.of("check"),
+        Map.of(), 2, true);
+    IterablePublisher publisher = new IterablePublisher(List.of("a", "b", "c", "d"));
+    CollectingSubscriber<Boolean> subscriber = new CollectingSubscriber<>();
+
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    subscriber.request(10);
+    assertThat(validator.futures.keySet()).containsExactly("a", "b");
+
+    validator.futures.get("b").complete(true);
+    assertThat(subscriber.items).isEmpty();
+    assertThat(validator.futures.keySet()).containsExactly("a", "b");
+
+    validator.futures.get("a").complete(false);
+    assertThat(subscriber.items).containsExactly(new ValidatedItem<>("a", false), new ValidatedItem<>("b", true));
+    assertThat(validator.futures.keySet()).containsExactly("a", "b", "c", "d");
+
+    validator.futures.get("d").complete(true);
+    validator.futures.get("c").complete(true);
+    assertThat(subscriber.items).hasSize(4);
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  public void onNext_respectsDownstreamDemand() {
+    ControlledValidator validator = new ControlledValidator();
+    ValidatingProcessor<Boolean> processor = new ValidatingProcessor<>(validator, BooleanReporter::new, RuleSelector.of("check"),
+        Map.of(), 2, true);
+    CollectingSubscriber<Boolean> subscriber = new CollectingSubscriber<>();
+
+    new IterablePublisher(List.of("a", "b", "c")).subscribe(processor);
+    processor.subscribe(subscriber);
+    subscriber.request(1);
+    validator.futures.get("a").complete(true);
+    validator.futures.get("b").complete(true);
+    assertThat(subscriber.items).containsExactly(new ValidatedItem<>("a", true));
+    assertThat(validator.futures.keySet()).containsExactly("a", "b", "c");
+
+    subscriber.request(5);
+    validator.futures.get("c").complete(true);
+    assertThat(subscriber.items).hasSize(3);
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  public void onNext_unorderedPublishesInOrderOfCompletion() {
+    ControlledValidator validator = new ControlledValidator();
+    ValidatingProcessor<Boolean> processor = new ValidatingProcessor<>(validator, BooleanReporter::new, RuleSelector.of("check"),
+        Map.of(), 3, false);
+    CollectingSubscriber<Boolean> subscriber = new CollectingSubscriber<>();
+
+    new IterablePublisher(List.of("a", "b", "c")).subscribe(processor);
+    processor.subscribe(subscriber);
+    subscriber.request(Long.MAX_VALUE);
+    validator.futures.get("c").complete(true);
+    validator.futures.get("a").complete(false);
+    validator.futures.get("b").complete(true);
+
+    assertThat(subscriber.items).containsExactly(new ValidatedItem<>("c", true), new ValidatedItem<>("a", false),
+        new ValidatedItem<>("b", true));
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  public void onNext_failedValidationTerminatesStream() {
+    ControlledValidator validator = new ControlledValidator();
+    ValidatingProcessor<Boolean> processor = new ValidatingProcessor<>(validator, BooleanReporter::new, RuleSelector.of("check"),
+        Map.of(), 2, true);
+    IterablePublisher publisher = new IterablePublisher(List.of("a", "b", "c"));
+    CollectingSubscriber<Boolean> subscriber = new CollectingSubscriber<>();
+
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    subscriber.request(Long.MAX_VALUE);
+    IllegalStateException exception = new IllegalStateException("failed");
+    validator.futures.get("a").completeExceptionally(exception);
+
+    assertThat(subscriber.error).isSameAs(exception);
+    assertThat(subscriber.completed).isFalse();
+    assertThat(publisher.cancelled).isTrue();
+  }
+
+  @Test
+  public void cancel_cancelsUpstream() {
+    ControlledValidator validator = new ControlledValidator();
+    ValidatingProcessor<Boolean> processor = new ValidatingProcessor<>(validator, BooleanReporter::new, RuleSelector.of("check"),
+        Map.of(), 1, true);
+    IterablePublisher publisher = new IterablePublisher(List.of("a", "b"));
+    CollectingSubscriber<Boolean> subscriber = new CollectingSubscriber<>();
+
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    subscriber.request(Long.MAX_VALUE);
+    subscriber.subscription.cancel();
+    validator.futures.get("a").complete(true);
+
+    assertThat(publisher.cancelled).isTrue();
+    assertThat(subscriber.items).isEmpty();
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  public void cancel_cancelsRunningValidations() {
+    ControlledValidator validator = new ControlledValidator();
+    ValidatingProcessor<Boolean> processor = new ValidatingProcessor<>(validator, BooleanReporter::new, RuleSelector.of("check"),
+        Map.of(), 2, false);
+    IterablePublisher publisher = new IterablePublisher(List.of("a", "b", "c"));
+    CollectingSubscriber<Boolean> subscriber = new CollectingSubscriber<>();
+
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    subscriber.request(Long.MAX_VALUE);
+    subscriber.subscription.cancel();
+
+    assertThat(validator.futures).containsOnlyKeys("a", "b");
+    assertThat(validator.futures.get("a")).isCancelled();
+    assertThat(validator.futures.get("b")).isCancelled();
+  }
+
+  @Test
+  public void subscribe_signalsNothingBeforeOnSubscribeReturned() {
+    ValidatingProcessor<Boolean> processor = new ValidatingProcessor<>(new ControlledValidator(), BooleanReporter::new,
+        RuleSelector.of("check"), Map.of(), 1, true);
+    new IterablePublisher(List.of()).subscribe(processor);
+    List<String> signals = Collections.synchronizedList(new ArrayList<>());
+    CollectingSubscriber<Boolean> subscriber = new CollectingSubscriber<>() {
+      @Override
+      public void onSubscribe(Subscription subscription) {
+        signals.add("onSubscribe:start");
+        super.onSubscribe(subscription);
+        subscription.request(1);
+        signals.add("onSubscribe:end");
+      }
+
+      @Override
+      public void onComplete() {
+        signals.add("onComplete");
+        super.onComplete();
+      }
+    };
+
+    processor.subscribe(subscriber);
+
+    assertThat(signals).containsExactly("onSubscribe:start", "onSubscribe:end", "onComplete");
+  }
+
+  @Test
+  public void subscribe_rejectsSecondSubscriber() {
+    ValidatingProcessor<Boolean> processor = new ValidatingProcessor<>(new ControlledValidator(), BooleanReporter::new,
+        RuleSelector.of("check"), Map.of(), 1, true);
+    CollectingSubscriber<Boolean> first = new CollectingSubscriber<>();
+    CollectingSubscriber<Boolean> second = new CollectingSubscriber<>();
+
+    processor.subscribe(first);
+    processor.subscribe(second);
+
+    assertThat(first.error).isNull();
+    assertThat(second.error).isInstanceOf(IllegalStateException.class);
+  }
+
+  private static class ControlledValidator implements Validator {
+
+    private final Map<Object, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+
+    @Override
+    public <T> ValidationContext createValidationContext(Reporter<T> reporter, Map<String, Object> parameters) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> validateAsync(ReporterFactory<T> reporterFactory, Object facts, RuleSelector ruleSelector,
+        Map<String, Object> parameters) {
+      CompletableFuture<Object> future = new CompletableFuture<>();
+      futures.put(facts, future);
+      return (CompletableFuture<T>) future;
+    }
+  }
+
+  private static class IterablePublisher implements Publisher<Object>, Subscription {
+
+    private final Iterator<?> iterator;
+    private Subscriber<? super Object> subscriber;
+    private long demand;
+    private boolean emitting;
+    private boolean cancelled;
+
+    IterablePublisher(Iterable<?> items) {
+      this.iterator = items.iterator();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Object> subscriber) {
+      this.subscriber = subscriber;
+      subscriber.onSubscribe(this);
+    }
+
+    @Override
+    public synchronized void request(long n) {
+      demand += n;
+      if (emitting) {
+        return;
+      }
+      emitting = true;
+      while (demand > 0 && !cancelled && iterator.hasNext()) {
+        demand--;
+        subscriber.onNext(iterator.next());
+      }
+      if (!cancelled && !iterator.hasNext()) {
+        cancelled = true;
+        subscriber.onComplete();
+      }
+      emitting = false;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+  }
+
+  private static class CollectingSubscriber<T> implements Subscriber<ValidatedItem<T>> {
+
+    private final List<ValidatedItem<T>> items = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile Subscription subscription;
+    private volatile boolean completed;
+    private volatile Throwable error;
+
+    void request(long n) {
+      subscription.request(n);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(ValidatedItem<T> item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+      done.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      this.completed = true;
+      done.countDown();
+    }
+  }
+}
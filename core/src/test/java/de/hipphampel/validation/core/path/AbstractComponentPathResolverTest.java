@@ -80,6 +80,19 @@ public class AbstractComponentPathResolverTest {
     assertThat(resolver.toString(path)).isEqualTo(str);
   }
 
+  @Test
+  public void compile() {
+    TestPathResolver resolver = new TestPathResolver();
+    CompiledPath concrete = resolver.compile("a/b");
+    CompiledPath pattern = resolver.compile("a/*");
+
+    assertThat(concrete.getPath()).isEqualTo(resolver.parse("a/b"));
+    assertThat(concrete.exists("ref")).isFalse();
+    assertThat(pattern.exists("ref")).isFalse();
+    assertThat(pattern.getPath()).isEqualTo(resolver.parse("a/*"));
+    assertThat(resolver.compile("a/b")).isSameAs(concrete);
+  }
+
   private static class TestPathResolver extends AbstractComponentPathResolver {
 
     public TestPathResolver(String separator, String allInLevel, String manyLevels) {
@@ -65,6 +65,7 @@ public class BeanPathResolverTest {
     Path path = resolver.parse(pathStr);
     Resolved<?> resolved = resolver.resolve(SAMPLE, path);
     assertThat(String.valueOf(resolved.orElse(null))).isEqualTo(String.valueOf(expected));
+    assertThat(resolver.compile(path).resolve(SAMPLE)).isEqualTo(resolved);
   }
 
   @ParameterizedTest
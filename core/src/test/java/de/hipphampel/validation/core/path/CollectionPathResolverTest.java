@@ -24,6 +24,8 @@ package de.hipphampel.validation.core.path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -95,6 +97,65 @@ public class CollectionPathResolverTest {
     assertThat(String.valueOf(resolved.orElse(null))).isEqualTo(String.valueOf(expected));
   }
 
+  @ParameterizedTest
+  @CsvSource({
+      "'', true",
+      "'list/1', true",
+      "'list/a', false",
+      "'set/2', true",
+      "'set/3', false",
+      "'map/c', true",
+      "'map/d', false",
+      "'nested/nested/map/c', true",
+      "'nested/*/map/c', true",
+      "'nested/*/map/d', false",
+  })
+  public void compile(String pathStr, boolean exists) {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+    Path path = resolver.parse(pathStr);
+    CompiledPath compiledPath = resolver.compile(pathStr);
+
+    assertThat(compiledPath.getPath()).isEqualTo(path);
+    assertThat(compiledPath.exists(SAMPLE)).isEqualTo(exists);
+    assertThat(compiledPath.resolve(SAMPLE)).isEqualTo(resolver.resolve(SAMPLE, path));
+    assertThat(compiledPath.resolvePattern(SAMPLE).toList()).isEqualTo(resolver.resolvePattern(SAMPLE, path).toList());
+  }
+
+  @Test
+  public void compile_returnsCachedInstance() {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+
+    assertThat(resolver.compile("nested/value")).isSameAs(resolver.compile("nested/value"));
+    assertThat(resolver.compile(resolver.parse("nested/value"))).isSameAs(resolver.compile(resolver.parse("nested/value")));
+  }
+
+  @Test
+  public void compile_delegatesToResolverIfCacheIsFull() {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+    for (int i = 0; i < 4096; i++) {
+      resolver.compile("nested/" + i);
+    }
+
+    CompiledPath compiledPath = resolver.compile("nested/value");
+
+    assertThat(compiledPath).isInstanceOf(DelegatingCompiledPath.class);
+    assertThat(compiledPath.resolve(SAMPLE)).isEqualTo(resolver.resolve(SAMPLE, resolver.parse("nested/value")));
+    assertThat(resolver.compile("nested/0")).isSameAs(resolver.compile("nested/0"));
+  }
+
+  @Test
+  public void compile_differentTypesInSameLevel() {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+    CompiledPath compiledPath = resolver.compile("1");
+
+    assertThat(compiledPath.resolve(List.of("a", "b"))).isEqualTo(Resolved.of("b"));
+    assertThat(compiledPath.resolve(Map.of("1", "c"))).isEqualTo(Resolved.of("c"));
+    assertThat(compiledPath.resolve(new TreeSet<>(Set.of("d", "e")))).isEqualTo(Resolved.of("e"));
+    assertThat(compiledPath.resolve(null)).isEqualTo(Resolved.empty());
+    assertThat(compiledPath.resolve("other")).isEqualTo(Resolved.empty());
+    assertThat(compiledPath.resolve(List.of("f", "g"))).isEqualTo(Resolved.of("g"));
+  }
+
   @ParameterizedTest
   @CsvSource({
       "'',            1,  '[]'",
@@ -123,6 +184,66 @@ public class CollectionPathResolverTest {
     assertThat(resolved.toString()).isEqualTo(expected);
   }
 
+  @ParameterizedTest
+  @CsvSource({
+      "'**/0',        '[list/0=v1, nested/list/0=v12, nested/nested/list/0=v22, nested/nested/set/0=v25, nested/set/0=v15, set/0=v5]'",
+      "'nested/*/a',  '[nested/map/a=v18]'",
+      "'*/**/c',      '[map/c=v10, nested/map/c=v20, nested/nested/map/c=v30]'",
+      "'map/b',       '[map/b=v9]'",
+      "'map/d',       '[]'",
+  })
+  public void visitPattern(String patternStr, String expected) {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+    List<String> visited = new ArrayList<>();
+
+    resolver.visitPattern(SAMPLE, resolver.parse(patternStr), (path, value) -> visited.add(resolver.toString(path) + "=" + value));
+    assertThat(visited.toString()).isEqualTo(expected);
+  }
+
+  @Test
+  public void visitPattern_stopsIfVisitorReturnsFalse() {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+    List<Path> visited = new ArrayList<>();
+
+    resolver.visitPattern(SAMPLE, resolver.parse("**"), (path, value) -> visited.add(path) && visited.size() < 3);
+    assertThat(visited.stream().map(resolver::toString).toList()).containsExactly("", "list", "list/0");
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'**'", "'**/**'", "'*/**'", "'**/*'", "'*/*/**'", "'nested/**'", "'nested/**/**'", "'map/**'", "'value/**'", "'**/value'",
+      "'**/nested/**'", "'**/map/*'", "'nested/*/**/1'", "'*/**/c'", "'**/nested/**/value'", "'nested/**/nested/**'",
+  })
+  public void resolvePattern_returnsExactlyThePathsMatchedByThePattern(String patternStr) {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+    Path pattern = resolver.parse(patternStr);
+    List<ComponentPath> allPaths = resolver.resolvePattern(SAMPLE, resolver.parse("**")).map(ComponentPath.class::cast).toList();
+
+    List<ComponentPath> resolved = resolver.resolvePattern(SAMPLE, pattern).map(ComponentPath.class::cast).toList();
+    assertThat(resolved).allMatch(path -> path.isMatchedBy(pattern));
+    assertThat(resolved).containsExactlyInAnyOrderElementsOf(allPaths.stream().filter(path -> path.isMatchedBy(pattern)).toList());
+  }
+
+  @Test
+  public void resolvePattern_reportsEachPathOnce() {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+
+    assertThat(resolver.resolvePattern(SAMPLE, resolver.parse("**/**/**")).toList())
+        .isEqualTo(resolver.resolvePattern(SAMPLE, resolver.parse("**")).toList());
+    assertThat(resolver.resolvePattern(SAMPLE, resolver.parse("**/nested/**/value")).map(resolver::toString).toList())
+        .containsExactly("nested/nested/value", "nested/value");
+  }
+
+  @Test
+  public void resolvePattern_longPattern() {
+    CollectionPathResolver resolver = new CollectionPathResolver();
+    Path pattern = resolver.parse(String.join("/", Collections.nCopies(Long.SIZE, "**")));
+
+    assertThat(resolver.resolvePattern(SAMPLE, pattern).toList())
+        .isEqualTo(resolver.resolvePattern(SAMPLE, resolver.parse("**")).toList());
+    assertThat(resolver.exists(SAMPLE, pattern)).isTrue();
+  }
+
   @ParameterizedTest
   @CsvSource({
       "false, false",
@@ -138,5 +259,56 @@ public class CollectionPathResolverTest {
     if (isPresent) {
       assertThat(result.orElse("present")).isNull();
     }
+    assertThat(resolver.compile(path).resolve(facts)).isEqualTo(result);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'*/x',    false, '[a/x=1]'",
+      "'**/x',   false, '[a/x=1]'",
+      "'a/**',   false, '[a/x=1]'",
+      "'*/x',    true,  '[a/x=1, b/x=null, c/x=null]'",
+      "'**/x',   true,  '[a/x=1]'",
+      "'**/a/x', true,  '[a/x=1]'",
+      "'a/**',   true,  '[a/x=1]'",
+  })
+  public void visitPattern_mapUnresolvableToNull(String patternStr, boolean reportNull, String expected) {
+    Map<String, Object> facts = new TreeMap<>(Map.of("a", Map.of("x", 1), "b", Map.of(), "c", "value"));
+    CollectionPathResolver resolver = new CollectionPathResolver("/", "*", "**", reportNull);
+    List<String> visited = new ArrayList<>();
+
+    resolver.visitPattern(facts, resolver.parse(patternStr), (path, value) -> visited.add(resolver.toString(path) + "=" + value));
+    assertThat(visited.toString()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'set/0', 'v5'",
+      "'set/2', 'v7'",
+      "'set/3',",
+      "'set/-1',",
+      "'set/a',",
+      "'nested/nested/set/1', 'v26'",
+  })
+  public void resolve_snapshotCollections(String pathStr, String expected) {
+    CollectionPathResolver resolver = new CollectionPathResolver("/", "*", "**", false, true);
+    Path path = resolver.parse(pathStr);
+
+    assertThat(resolver.isSnapshotCollections()).isTrue();
+    assertThat(String.valueOf(resolver.resolve(SAMPLE, path).orElse(null))).isEqualTo(String.valueOf(expected));
+    assertThat(String.valueOf(resolver.compile(path).resolve(SAMPLE).orElse(null))).isEqualTo(String.valueOf(expected));
+  }
+
+  @Test
+  public void resolve_snapshotCollectionsAreTakenOncePerCollection() {
+    CollectionPathResolver resolver = new CollectionPathResolver("/", "*", "**", false, true);
+    Set<String> set = new TreeSet<>(Set.of("b", "c"));
+    Path path = resolver.parse("0");
+
+    assertThat(resolver.resolve(set, path)).isEqualTo(Resolved.of("b"));
+    set.add("a");
+    assertThat(resolver.resolve(set, path)).isEqualTo(Resolved.of("b"));
+    assertThat(resolver.resolve(new TreeSet<>(set), path)).isEqualTo(Resolved.of("a"));
+    assertThat(new CollectionPathResolver().resolve(set, path)).isEqualTo(Resolved.of("a"));
   }
 }
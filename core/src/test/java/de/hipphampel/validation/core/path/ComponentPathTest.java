@@ -113,4 +113,24 @@ public class ComponentPathTest {
           IllegalArgumentException.class);
     }
   }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'',                     'abc',             true",
+      "'abc',                  'abc/def',         true",
+      "'abc/def',              'abc',             true",
+      "'abc/def',              'abc/def',         true",
+      "'abc/def',              'abc/ghi',         false",
+      "'abc/def',              'ghi',             false",
+      "'abc/def',              '*/def/ghi',       true",
+      "'abc/def',              '*/ghi',           false",
+      "'abc/def',              '**/ghi',          true",
+  })
+  public void overlaps(String str, String otherStr, boolean overlaps) {
+    Path path = resolver.parse(str);
+    Path other = resolver.parse(otherStr);
+
+    assertThat(path.overlaps(other)).isEqualTo(overlaps);
+    assertThat(other.overlaps(path)).isEqualTo(overlaps);
+  }
 }
@@ -73,4 +73,12 @@ public class ReflectionBeanAccessorTest {
     assertThat(accessor.getProperty(new Point(1., 2.), "x"))
         .isEqualTo(Resolved.of(1.));
   }
+
+  @Test
+  public void getPropertyReader() {
+    BeanAccessor accessor = new ReflectionBeanAccessor(List.of("de.hipphampel.*"));
+    assertThat(accessor.getPropertyReader(Point.class, "x").apply(new Point(1., 2.))).isEqualTo(1.);
+    assertThat(accessor.getPropertyReader(Point.class, "z")).isNull();
+    assertThat(accessor.getPropertyReader(String.class, "empty")).isNull(); // Filtered out
+  }
 }
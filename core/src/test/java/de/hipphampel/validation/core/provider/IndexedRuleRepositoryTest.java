@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.core.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
+import de.hipphampel.validation.core.example.Member;
+import de.hipphampel.validation.core.example.Worker;
+import de.hipphampel.validation.core.rule.OkRule;
+import de.hipphampel.validation.core.rule.Rule;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class IndexedRuleRepositoryTest {
+
+  private final Rule<Worker> worker1 = new OkRule<>("worker.1") {
+  };
+  private final Rule<Worker> worker2 = new OkRule<>("worker.2") {
+  };
+  private final Rule<Member> member1 = new OkRule<>("member.1") {
+  };
+
+  @Test
+  public void selectRules_servesSelectionFromIndex() {
+    IndexedRuleRepository repository = new IndexedRuleRepository(new InMemoryRuleRepository(worker1, worker2, member1));
+
+    List<? extends Rule<?>> rules = repository.selectRules(Set.of("worker.*"), Worker.class);
+    assertThat(ids(rules)).containsExactlyInAnyOrder("worker.1", "worker.2");
+    assertThat(repository.selectRules(Set.of("worker.*"), Worker.class)).isSameAs(rules);
+    assertThat(ids(repository.selectRules(Set.of(".*1"), Worker.class))).containsExactlyInAnyOrder("worker.1", "member.1");
+    assertThat(ids(repository.selectRules(null, Member.class))).containsExactlyInAnyOrder("member.1");
+    assertThat(ids(repository.selectRules(null, null))).containsExactlyInAnyOrder("worker.1", "worker.2", "member.1");
+  }
+
+  @Test
+  public void selectRules_indexIsInvalidatedWhenRulesChange() {
+    InMemoryRuleRepository delegate = new InMemoryRuleRepository(new DefaultSubscribableEventPublisher(), worker1);
+    IndexedRuleRepository repository = new IndexedRuleRepository(delegate);
+    assertThat(ids(repository.selectRules(Set.of("worker.*"), Worker.class))).containsExactlyInAnyOrder("worker.1");
+
+    delegate.addRules(worker2);
+    assertThat(ids(repository.selectRules(Set.of("worker.*"), Worker.class))).containsExactlyInAnyOrder("worker.1", "worker.2");
+
+    delegate.removeRules("worker.1");
+    assertThat(ids(repository.selectRules(Set.of("worker.*"), Worker.class))).containsExactlyInAnyOrder("worker.2");
+  }
+
+  @Test
+  public void invalidate() {
+    InMemoryRuleRepository delegate = new InMemoryRuleRepository(worker1);
+    IndexedRuleRepository repository = new IndexedRuleRepository(delegate);
+    assertThat(ids(repository.selectRules(Set.of("worker.*"), Worker.class))).containsExactlyInAnyOrder("worker.1");
+
+    delegate.addRules(worker2);
+    assertThat(ids(repository.selectRules(Set.of("worker.*"), Worker.class))).containsExactlyInAnyOrder("worker.1");
+
+    repository.invalidate();
+    assertThat(ids(repository.selectRules(Set.of("worker.*"), Worker.class))).containsExactlyInAnyOrder("worker.1", "worker.2");
+  }
+
+  private static List<String> ids(List<? extends Rule<?>> rules) {
+    return rules.stream().map(Rule::getId).toList();
+  }
+}
@@ -29,10 +29,13 @@ import de.hipphampel.validation.core.example.Unit;
 import de.hipphampel.validation.core.example.Worker;
 import de.hipphampel.validation.core.rule.OkRule;
 import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.value.Values;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -70,4 +73,56 @@ public class SimpleRuleSelectorTest {
         .collect(Collectors.joining(","));
     assertThat(actual).isEqualTo(expected);
   }
+
+  @ParameterizedTest
+  @CsvSource({
+      // ruleIdFilter, Expected rules
+      "  ,            'member.1,worker.1,worker.2'",
+      "  '',          ''",
+      "  '.*1',       'member.1,worker.1'",
+  })
+  public void selectRules_indexedRepository(String ruleIdFilterString, String expected) {
+    Set<String> ruleIds = ruleIdFilterString == null ? null
+        : new HashSet<>(Arrays.asList(ruleIdFilterString.split(",")));
+
+    RuleSelector selector = SimpleRuleSelector.of(ruleIds);
+    String actual = selector.selectRules(new IndexedRuleRepository(provider), null, new Worker(null, null, 0, null))
+        .stream()
+        .map(Rule::getId)
+        .sorted()
+        .collect(Collectors.joining(","));
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      // ruleIdFilter, Expected rules for Worker, Expected rules for any type
+      "  ,            'member.1,worker.1,worker.2', 'member.1,unit.1,unit.2,worker.1,worker.2'",
+      "  '',          '',                           ''",
+      "  '.*1',       'member.1,worker.1',          'member.1,unit.1,worker.1'",
+  })
+  public void selectRulesForType(String ruleIdFilterString, String expectedForWorker, String expectedForAny) {
+    Set<String> ruleIds = ruleIdFilterString == null ? null
+        : new HashSet<>(Arrays.asList(ruleIdFilterString.split(",")));
+    RuleSelector selector = SimpleRuleSelector.of(ruleIds);
+
+    for (RuleRepository repository : List.of(provider, new IndexedRuleRepository(provider))) {
+      assertThat(selector.selectRulesForType(repository, Worker.class).map(SimpleRuleSelectorTest::toIds)).contains(expectedForWorker);
+      assertThat(selector.selectRulesForType(repository, null).map(SimpleRuleSelectorTest::toIds)).contains(expectedForAny);
+    }
+  }
+
+  @Test
+  public void selectRulesForType_notPossibleForNonConstantFilter() {
+    RuleSelector selector = SimpleRuleSelector.of(Values.path("ruleIds"));
+
+    assertThat(selector.selectRulesForType(provider, Worker.class)).isEmpty();
+  }
+
+  private static String toIds(List<? extends Rule<?>> rules) {
+    return rules.stream()
+        .map(Rule::getId)
+        .sorted()
+        .collect(Collectors.joining(","));
+  }
 }
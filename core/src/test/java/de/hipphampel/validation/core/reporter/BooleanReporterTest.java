@@ -70,4 +70,14 @@ public class BooleanReporterTest {
     reporter.add(null, null, null, null, Result.ok());
     assertThat(reporter.getReport()).isFalse();
   }
+
+  @Test
+  public void isFinal() {
+    Reporter<Boolean> reporter = new BooleanReporter(null);
+
+    reporter.add(null, null, null, null, Result.ok());
+    assertThat(reporter.isFinal()).isFalse();
+    reporter.add(null, null, null, null, Result.failed());
+    assertThat(reporter.isFinal()).isTrue();
+  }
 }
@@ -152,6 +152,27 @@ public class ReflectionRuleTest {
     assertThatThrownBy(() -> rule.invokeMethod(new Object[]{})).isInstanceOf(RuleFailedException.class);
   }
 
+  @Test
+  public void invokeMethod_exceptionIsWrapped() throws NoSuchMethodException {
+    Method method = ReflectionRuleTest.class.getMethod("throwingRuleMethod");
+    ReflectionRule<?> rule = new ReflectionRule<>("id", Object.class, Map.of(), List.of(), null, method, List.of());
+
+    assertThatThrownBy(() -> rule.invokeMethod(new Object[0]))
+        .isInstanceOf(RuleFailedException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void invokeMethod_accessibleMethodOfPrivateClass() throws NoSuchMethodException {
+    Method method = PrivateRules.class.getDeclaredMethod("isPositive", int.class);
+    method.setAccessible(true);
+    ReflectionRule<Integer> rule = new ReflectionRule<>("id", Integer.class, Map.of(), List.of(), new PrivateRules(), method,
+        List.of(new FactsBinding()));
+
+    assertThat(rule.validate(context, 1)).isEqualTo(Result.ok());
+    assertThat(rule.validate(context, -1)).isEqualTo(Result.failed());
+  }
+
   @Test
   public void DefaultResultMapper_other() {
     assertThat(DefaultResultMapper.INSTANCE.apply("other")).isEqualTo(Result.failed("Unexpected result: other"));
@@ -280,4 +301,15 @@ public class ReflectionRuleTest {
   public boolean instanceRuleMethod(ValidationContext otherContext) {
     return this.context == otherContext;
   }
+
+  public static boolean throwingRuleMethod() {
+    throw new IllegalStateException("failed");
+  }
+
+  private static class PrivateRules {
+
+    private boolean isPositive(int value) {
+      return value > 0;
+    }
+  }
 }
@@ -0,0 +1,188 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.exception.ValidationException;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.ReporterFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Validates the elements of a JSON array without reading the whole document into memory.
+ * <p>
+ * The JSON document is read via the streaming API of Jackson: the elements of the top level array are deserialized one by one into
+ * objects of the requested type and passed to
+ * {@link Validator#validateAll(ReporterFactory, Iterable, RuleSelector, Map, int, BiConsumer) Validator.validateAll}. Since
+ * {@code validateAll} reads the next element only if less than {@code parallelism} elements are being validated, at most
+ * {@code parallelism} elements and their reports are in memory at the same time, regardless of the size of the document. The reports are
+ * passed to a sink as soon as they are available, so they can be written incrementally.
+ * <p>
+ * Example:
+ * <pre>
+ *   JsonArrayValidator arrayValidator = new JsonArrayValidator(validator, new ObjectMapper());
+ *   arrayValidator.validate(ReportReporter::new, Path.of("polygons.json"), Polygon.class, RuleSelector.of("polygon:.*"), 8,
+ *       (polygon, report) -&gt; formatter.format(report, System.out));
+ * </pre>
+ */
+public class JsonArrayValidator {
+
+  private final Validator validator;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructor.
+   *
+   * @param validator    The {@link Validator} to use
+   * @param objectMapper The {@link ObjectMapper} to deserialize the elements
+   */
+  public JsonArrayValidator(Validator validator, ObjectMapper objectMapper) {
+    this.validator = Objects.requireNonNull(validator);
+    this.objectMapper = Objects.requireNonNull(objectMapper);
+  }
+
+  /**
+   * Validates the elements of the JSON array stored in {@code file}.
+   *
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param file            The file containing the JSON array
+   * @param elementType     The type of the elements
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute
+   * @param parallelism     The maximum number of elements being validated at the same time
+   * @param sink            Consumer for the elements and their reports
+   * @param <E>             Type of the elements
+   * @param <T>             Type of the report to generate
+   * @throws IOException If reading the file fails
+   */
+  public <E, T> void validate(ReporterFactory<T> reporterFactory, Path file, Class<E> elementType, RuleSelector ruleSelector,
+      int parallelism, BiConsumer<? super E, ? super T> sink) throws IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      validate(reporterFactory, in, elementType, ruleSelector, parallelism, sink);
+    }
+  }
+
+  /**
+   * Validates the elements of the JSON array read from {@code in}.
+   * <p>
+   * The stream is not closed by this method.
+   *
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param in              The stream providing the JSON array
+   * @param elementType     The type of the elements
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute
+   * @param parallelism     The maximum number of elements being validated at the same time
+   * @param sink            Consumer for the elements and their reports
+   * @param <E>             Type of the elements
+   * @param <T>             Type of the report to generate
+   * @throws IOException If reading the stream fails
+   */
+  public <E, T> void validate(ReporterFactory<T> reporterFactory, InputStream in, Class<E> elementType, RuleSelector ruleSelector,
+      int parallelism, BiConsumer<? super E, ? super T> sink) throws IOException {
+    validate(reporterFactory, in, objectMapper.constructType(elementType), ruleSelector, parallelism, sink);
+  }
+
+  /**
+   * Validates the elements of the JSON array read from {@code in}.
+   * <p>
+   * The stream is not closed by this method.
+   *
+   * @param reporterFactory The {@link ReporterFactory} to use
+   * @param in              The stream providing the JSON array
+   * @param elementType     The {@link JavaType} of the elements
+   * @param ruleSelector    The {@link RuleSelector} selecting the rules to execute
+   * @param parallelism     The maximum number of elements being validated at the same time
+   * @param sink            Consumer for the elements and their reports
+   * @param <E>             Type of the elements
+   * @param <T>             Type of the report to generate
+   * @throws IOException If reading the stream fails
+   */
+  @SuppressWarnings("unchecked")
+  public <E, T> void validate(ReporterFactory<T> reporterFactory, InputStream in, JavaType elementType, RuleSelector ruleSelector,
+      int parallelism, BiConsumer<? super E, ? super T> sink) throws IOException {
+    try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+      parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new ValidationException("Expected a JSON array, but found " + parser.currentToken());
+      }
+      Iterable<E> elements = () -> new ElementIterator<>(parser, elementType);
+      validator.validateAll(reporterFactory, elements, ruleSelector, Map.of(), parallelism,
+          (element, report) -> sink.accept((E) element, report));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private class ElementIterator<E> implements Iterator<E> {
+
+    private final JsonParser parser;
+    private final JavaType elementType;
+    private JsonToken next;
+
+    ElementIterator(JsonParser parser, JavaType elementType) {
+      this.parser = parser;
+      this.elementType = elementType;
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        if (next == null) {
+          next = parser.nextToken();
+        }
+        if (next == null) {
+          throw new ValidationException("Unexpected end of JSON array");
+        }
+        return next != JsonToken.END_ARRAY;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      try {
+        E element = next == JsonToken.VALUE_NULL ? null : objectMapper.readValue(parser, elementType);
+        next = null;
+        return element;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
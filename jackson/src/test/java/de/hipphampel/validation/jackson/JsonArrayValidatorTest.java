@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.exception.ValidationException;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.report.BooleanReporter;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JsonArrayValidatorTest {
+
+  private final Validator validator = ValidatorBuilder.newBuilder()
+      .withRuleRepository(new InMemoryRuleRepository(
+          RuleBuilder.functionRule("point", Point.class)
+              .validateWith((context, point) -> point.x() >= 0 && point.y() >= 0 ? Result.ok() : Result.failed())
+              .build()))
+      .build();
+  private final JsonArrayValidator arrayValidator = new JsonArrayValidator(validator, new ObjectMapper());
+
+  @Test
+  public void validate_inputStream() throws IOException {
+    Map<Point, Boolean> results = new LinkedHashMap<>();
+
+    arrayValidator.validate(BooleanReporter::new, toStream("[{\"x\":1,\"y\":2}, {\"x\":-1,\"y\":2}, {\"x\":3,\"y\":4}]"),
+        Point.class, RuleSelector.of("point"), 2, results::put);
+
+    assertThat(results).isEqualTo(Map.of(
+        new Point(1, 2), true,
+        new Point(-1, 2), false,
+        new Point(3, 4), true));
+  }
+
+  @Test
+  public void validate_file(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("points.json");
+    Files.writeString(file, "[{\"x\":1,\"y\":-2}]");
+    Map<Point, Boolean> results = new LinkedHashMap<>();
+
+    arrayValidator.validate(BooleanReporter::new, file, Point.class, RuleSelector.of("point"), 1, results::put);
+
+    assertThat(results).isEqualTo(Map.of(new Point(1, -2), false));
+  }
+
+  @Test
+  public void validate_emptyArray() throws IOException {
+    Map<Point, Boolean> results = new LinkedHashMap<>();
+
+    arrayValidator.validate(BooleanReporter::new, toStream("[]"), Point.class, RuleSelector.of("point"), 1, results::put);
+
+    assertThat(results).isEmpty();
+  }
+
+  @Test
+  public void validate_failsIfNotAnArray() {
+    assertThatThrownBy(() -> arrayValidator.validate(BooleanReporter::new, toStream("{\"x\":1}"), Point.class, RuleSelector.of("point"), 1,
+        (point, result) -> {
+        }))
+        .isInstanceOf(ValidationException.class);
+  }
+
+  @Test
+  public void validate_failsOnMalformedJson() {
+    assertThatThrownBy(() -> arrayValidator.validate(BooleanReporter::new, toStream("[{\"x\":1,\"y\":2}, {\"x\":"), Point.class,
+        RuleSelector.of("point"), 1, (point, result) -> {
+        }))
+        .isInstanceOf(IOException.class);
+  }
+
+  private static InputStream toStream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public record Point(int x, int y) {
+
+  }
+}
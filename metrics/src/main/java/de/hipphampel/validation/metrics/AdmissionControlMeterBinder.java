@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.metrics;
+
+import de.hipphampel.validation.core.AdmissionControlledValidator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+
+/**
+ * {@link MeterBinder} exposing the state of an {@link AdmissionControlledValidator} as Micrometer meters.
+ * <p>
+ * When {@linkplain #bindTo(MeterRegistry) bound}, it registers the following meters; the names are prefixed with the {@code prefix}
+ * passed to the constructor, which is {@value MicrometerEventListener#DEFAULT_PREFIX} by default:
+ * <ul>
+ *   <li>{@code <prefix>.admission.limit}: a {@link Gauge} providing the current limit of validations running at the same time</li>
+ *   <li>{@code <prefix>.admission.in.flight}: a {@code Gauge} providing the number of validations currently running</li>
+ *   <li>{@code <prefix>.admission.queue.depth}: a {@code Gauge} providing the number of validations waiting for execution</li>
+ *   <li>{@code <prefix>.admission.rejections}: a {@link FunctionCounter} providing the number of rejected validations</li>
+ * </ul>
+ * <p>
+ * Example:
+ * <pre>
+ *   AdmissionControlledValidator validator = new AdmissionControlledValidator(ValidatorBuilder.newBuilder()...build(), 64, 256);
+ *   new AdmissionControlMeterBinder(validator).bindTo(meterRegistry);
+ * </pre>
+ */
+public class AdmissionControlMeterBinder implements MeterBinder {
+
+  private final AdmissionControlledValidator validator;
+  private final String prefix;
+
+  /**
+   * Creates an instance using the {@link MicrometerEventListener#DEFAULT_PREFIX}.
+   *
+   * @param validator The {@link AdmissionControlledValidator}
+   */
+  public AdmissionControlMeterBinder(AdmissionControlledValidator validator) {
+    this(validator, MicrometerEventListener.DEFAULT_PREFIX);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param validator The {@link AdmissionControlledValidator}
+   * @param prefix    The prefix of the meter names
+   */
+  public AdmissionControlMeterBinder(AdmissionControlledValidator validator, String prefix) {
+    this.validator = Objects.requireNonNull(validator);
+    this.prefix = Objects.requireNonNull(prefix);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(prefix + ".admission.limit", validator, AdmissionControlledValidator::getLimit)
+        .description("Current limit of validations running at the same time")
+        .strongReference(true)
+        .register(registry);
+    Gauge.builder(prefix + ".admission.in.flight", validator, AdmissionControlledValidator::getInFlight)
+        .description("Number of validations currently running")
+        .strongReference(true)
+        .register(registry);
+    Gauge.builder(prefix + ".admission.queue.depth", validator, AdmissionControlledValidator::getQueueSize)
+        .description("Number of validations waiting for execution")
+        .strongReference(true)
+        .register(registry);
+    FunctionCounter.builder(prefix + ".admission.rejections", validator, AdmissionControlledValidator::getRejectedCount)
+        .description("Number of validations rejected due to overload")
+        .register(registry);
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.metrics;
+
+import de.hipphampel.validation.core.event.Event;
+import de.hipphampel.validation.core.event.EventListener;
+import de.hipphampel.validation.core.event.EventSubscriber;
+import de.hipphampel.validation.core.event.payloads.RuleFinishedPayload;
+import de.hipphampel.validation.core.event.payloads.RuleResultCacheStatisticsPayload;
+import de.hipphampel.validation.core.event.payloads.ValidationFinishedPayload;
+import de.hipphampel.validation.core.execution.RuleResultCache.Statistics;
+import de.hipphampel.validation.core.rule.ResultCode;
+import de.hipphampel.validation.core.rule.Rule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventListener} recording the events of a validation as Micrometer meters.
+ * <p>
+ * Once {@link EventSubscriber#subscribe(EventListener) subscribed}, it records the following meters in the given {@link MeterRegistry};
+ * the names are prefixed with the {@code prefix} passed to the constructor, which is {@value #DEFAULT_PREFIX} by default:
+ * <ul>
+ *   <li>{@code <prefix>.rule.duration}: a {@link Timer} per {@link Rule}, tagged with the rule id, recording the execution times
+ *   reported via {@link RuleFinishedPayload RuleFinishedPayloads}. If enabled, the timer publishes a percentile histogram</li>
+ *   <li>{@code <prefix>.rule.results}: a {@link Counter} per {@code Rule} and {@link ResultCode}, tagged with the rule id and the
+ *   lower case result code</li>
+ *   <li>{@code <prefix>.duration}: a {@code Timer} recording the durations reported via
+ *   {@link ValidationFinishedPayload ValidationFinishedPayloads}, tagged with the outcome {@code success} or {@code error}</li>
+ *   <li>{@code <prefix>.cache.hits}, {@code <prefix>.cache.misses} and {@code <prefix>.cache.evictions}: {@code Counters} summing up
+ *   the statistics reported via {@link RuleResultCacheStatisticsPayload RuleResultCacheStatisticsPayloads}</li>
+ *   <li>{@code <prefix>.cache.hit.ratio}: a {@link Gauge} providing the ratio of the cache hits to all cache requests so far</li>
+ * </ul>
+ * <p>
+ * Recording a rule execution is cheap: the meters of a {@code Rule} are created when the rule is reported the first time, later on
+ * they are looked up in a {@link ConcurrentHashMap} without locking, and the Micrometer meters themselves are lock-free.
+ * <p>
+ * Example:
+ * <pre>
+ *   SubscribableEventPublisher publisher = new DefaultSubscribableEventPublisher();
+ *   publisher.subscribe(new MicrometerEventListener(meterRegistry));
+ *   Validator validator = ValidatorBuilder.newBuilder().withEventPublisher(publisher)...build();
+ * </pre>
+ */
+public class MicrometerEventListener implements EventListener {
+
+  /**
+   * Default prefix of the meter names.
+   */
+  public static final String DEFAULT_PREFIX = "validation";
+
+  private static final ResultCode[] RESULT_CODES = ResultCode.values();
+
+  private final MeterRegistry registry;
+  private final String prefix;
+  private final boolean percentileHistograms;
+  private final Map<String, RuleMeters> ruleMeters;
+  private final Timer validationSuccess;
+  private final Timer validationError;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+  private final Counter cacheEvictions;
+
+  /**
+   * Creates an instance using the {@link #DEFAULT_PREFIX} and without percentile histograms for the rule execution times, since they
+   * create a considerable number of time series per rule.
+   *
+   * @param registry The {@link MeterRegistry}
+   */
+  public MicrometerEventListener(MeterRegistry registry) {
+    this(registry, DEFAULT_PREFIX, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param registry             The {@link MeterRegistry}
+   * @param prefix               The prefix of the meter names
+   * @param percentileHistograms If {@code true}, the timers of the rules publish percentile histograms
+   */
+  public MicrometerEventListener(MeterRegistry registry, String prefix, boolean percentileHistograms) {
+    this.registry = Objects.requireNonNull(registry);
+    this.prefix = Objects.requireNonNull(prefix);
+    this.percentileHistograms = percentileHistograms;
+    this.ruleMeters = new ConcurrentHashMap<>();
+    this.validationSuccess = validationTimer("success");
+    this.validationError = validationTimer("error");
+    this.cacheHits = cacheCounter("hits", "Number of rule results served by the cache");
+    this.cacheMisses = cacheCounter("misses", "Number of rule results not found in the cache");
+    this.cacheEvictions = cacheCounter("evictions", "Number of rule results evicted from the cache");
+    Gauge.builder(prefix + ".cache.hit.ratio", this, MicrometerEventListener::getCacheHitRatio)
+        .description("Ratio of the rule results served by the cache")
+        .strongReference(true)
+        .register(registry);
+  }
+
+  @Override
+  public void accept(Event<?> event) {
+    Object payload = event.payload();
+    if (payload instanceof RuleFinishedPayload rfp) {
+      recordRule(rfp);
+    } else if (payload instanceof ValidationFinishedPayload<?> vfp) {
+      (vfp.error() == null ? validationSuccess : validationError).record(vfp.nanos(), TimeUnit.NANOSECONDS);
+    } else if (payload instanceof RuleResultCacheStatisticsPayload rcsp) {
+      recordCacheStatistics(rcsp.statistics());
+    }
+  }
+
+  /**
+   * Gets the ratio of the cache hits to all cache requests recorded so far.
+   *
+   * @return The ratio, {@code NaN} if nothing has been recorded yet
+   */
+  public double getCacheHitRatio() {
+    double hits = cacheHits.count();
+    double total = hits + cacheMisses.count();
+    return total == 0 ? Double.NaN : hits / total;
+  }
+
+  /**
+   * Gets the {@link MeterRegistry}
+   *
+   * @return The {@code MeterRegistry}
+   */
+  public MeterRegistry getRegistry() {
+    return registry;
+  }
+
+  private void recordRule(RuleFinishedPayload payload) {
+    String ruleId = payload.rule().getId();
+    RuleMeters meters = ruleMeters.get(ruleId);
+    if (meters == null) {
+      meters = ruleMeters.computeIfAbsent(ruleId, this::createRuleMeters);
+    }
+    meters.duration().record(payload.nanos(), TimeUnit.NANOSECONDS);
+    // The result is missing, if the rule threw an Error
+    if (payload.result() != null) {
+      meters.results()[payload.result().code().ordinal()].increment();
+    }
+  }
+
+  private void recordCacheStatistics(Statistics statistics) {
+    cacheHits.increment(statistics.hits());
+    cacheMisses.increment(statistics.misses());
+    cacheEvictions.increment(statistics.evictions());
+  }
+
+  private RuleMeters createRuleMeters(String ruleId) {
+    Timer duration = Timer.builder(prefix + ".rule.duration")
+        .description("Execution time of a rule")
+        .tag("rule", ruleId)
+        .publishPercentileHistogram(percentileHistograms)
+        .register(registry);
+    Counter[] results = new Counter[RESULT_CODES.length];
+    for (ResultCode code : RESULT_CODES) {
+      results[code.ordinal()] = Counter.builder(prefix + ".rule.results")
+          .description("Number of rule executions by result code")
+          .tag("rule", ruleId)
+          .tag("result", code.name().toLowerCase())
+          .register(registry);
+    }
+    return new RuleMeters(duration, results);
+  }
+
+  private Timer validationTimer(String outcome) {
+    return Timer.builder(prefix + ".duration")
+        .description("Duration of a validation")
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+
+  private Counter cacheCounter(String name, String description) {
+    return Counter.builder(prefix + ".cache." + name)
+        .description(description)
+        .register(registry);
+  }
+
+  private record RuleMeters(Timer duration, Counter[] results) {
+
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.AdmissionControlledValidator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.execution.DefaultRuleExecutor;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControlMeterBinderTest {
+
+  @Test
+  public void bindTo_registersAdmissionMeters() {
+    List<Runnable> pending = new CopyOnWriteArrayList<>();
+    AdmissionControlledValidator validator = new AdmissionControlledValidator(
+        ValidatorBuilder.newBuilder()
+            .withRuleExecutor(new DefaultRuleExecutor(pending::add))
+            .withRuleRepository(new InMemoryRuleRepository(
+                RuleBuilder.conditionRule("ok", Object.class).validateWith(Conditions.alwaysTrue()).build()))
+            .build(),
+        1, 1);
+    MeterRegistry registry = new SimpleMeterRegistry();
+    new AdmissionControlMeterBinder(validator).bindTo(registry);
+
+    validator.validateAsync("first", RuleSelector.of(".*"));
+    validator.validateAsync("second", RuleSelector.of(".*"));
+    validator.validateAsync("third", RuleSelector.of(".*"));
+
+    assertThat(registry.get("validation.admission.limit").gauge().value()).isEqualTo(1.0);
+    assertThat(registry.get("validation.admission.in.flight").gauge().value()).isEqualTo(1.0);
+    assertThat(registry.get("validation.admission.queue.depth").gauge().value()).isEqualTo(1.0);
+    assertThat(registry.get("validation.admission.rejections").functionCounter().count()).isEqualTo(1.0);
+  }
+}
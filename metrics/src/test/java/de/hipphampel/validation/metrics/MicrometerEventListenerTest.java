@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.ValidatorBuilder;
+import de.hipphampel.validation.core.condition.Conditions;
+import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
+import de.hipphampel.validation.core.event.Event;
+import de.hipphampel.validation.core.event.SubscribableEventPublisher;
+import de.hipphampel.validation.core.event.payloads.RuleFinishedPayload;
+import de.hipphampel.validation.core.event.payloads.RuleResultCacheStatisticsPayload;
+import de.hipphampel.validation.core.event.payloads.ValidationFinishedPayload;
+import de.hipphampel.validation.core.execution.RuleResultCache.Statistics;
+import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.rule.Result;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.core.rule.RuleBuilder;
+import de.hipphampel.validation.core.utils.Stacked;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerEventListenerTest {
+
+  private MeterRegistry registry;
+  private MicrometerEventListener listener;
+
+  @BeforeEach
+  public void beforeEach() {
+    registry = new SimpleMeterRegistry();
+    listener = new MicrometerEventListener(registry);
+  }
+
+  @Test
+  public void accept_recordsRuleExecutionsAndValidations() {
+    SubscribableEventPublisher publisher = new DefaultSubscribableEventPublisher();
+    publisher.subscribe(listener);
+    Validator validator = ValidatorBuilder.newBuilder()
+        .withEventPublisher(publisher)
+        .withRuleRepository(new InMemoryRuleRepository(
+            RuleBuilder.conditionRule("ok", Object.class).validateWith(Conditions.alwaysTrue()).build(),
+            RuleBuilder.conditionRule("failed", Object.class).validateWith(Conditions.alwaysFalse()).build()))
+        .build();
+
+    validator.validate("facts", RuleSelector.of(".*"));
+    validator.validate("facts", RuleSelector.of("ok"));
+
+    assertThat(registry.get("validation.rule.duration").tag("rule", "ok").timer().count()).isEqualTo(2);
+    assertThat(registry.get("validation.rule.duration").tag("rule", "failed").timer().count()).isEqualTo(1);
+    assertThat(registry.get("validation.rule.results").tags("rule", "ok", "result", "ok").counter().count()).isEqualTo(2.0);
+    assertThat(registry.get("validation.rule.results").tags("rule", "ok", "result", "failed").counter().count()).isEqualTo(0.0);
+    assertThat(registry.get("validation.rule.results").tags("rule", "failed", "result", "failed").counter().count()).isEqualTo(1.0);
+    assertThat(registry.get("validation.duration").tag("outcome", "success").timer().count()).isEqualTo(2);
+    assertThat(registry.get("validation.duration").tag("outcome", "error").timer().count()).isEqualTo(0);
+  }
+
+  @Test
+  public void accept_recordsRuleExecutionWithoutResult() {
+    Rule<Object> rule = RuleBuilder.conditionRule("error", Object.class).validateWith(Conditions.alwaysTrue()).build();
+
+    listener.accept(new Event<>(new RuleFinishedPayload(rule, Stacked.empty(), "facts", null, 1_000_000), this));
+
+    assertThat(registry.get("validation.rule.duration").tag("rule", "error").timer().count()).isEqualTo(1);
+    assertThat(registry.get("validation.rule.results").tag("rule", "error").counters())
+        .allSatisfy(counter -> assertThat(counter.count()).isEqualTo(0.0));
+  }
+
+  @Test
+  public void constructor_publishesNoPercentileHistogramsByDefault() {
+    Rule<Object> rule = RuleBuilder.conditionRule("ok", Object.class).validateWith(Conditions.alwaysTrue()).build();
+
+    listener.accept(new Event<>(new RuleFinishedPayload(rule, Stacked.empty(), "facts", Result.ok(), 1_000_000), this));
+
+    assertThat(registry.get("validation.rule.duration").tag("rule", "ok").timer().takeSnapshot().histogramCounts()).isEmpty();
+  }
+
+  @Test
+  public void accept_recordsValidationDurations() {
+    listener.accept(new Event<>(new ValidationFinishedPayload<>("facts", true, null, 2_000_000), this));
+    listener.accept(new Event<>(new ValidationFinishedPayload<>("facts", null, new RuntimeException(), 4_000_000), this));
+
+    Timer success = registry.get("validation.duration").tag("outcome", "success").timer();
+    Timer error = registry.get("validation.duration").tag("outcome", "error").timer();
+    assertThat(success.count()).isEqualTo(1);
+    assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+    assertThat(error.count()).isEqualTo(1);
+    assertThat(error.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4.0);
+  }
+
+  @Test
+  public void accept_recordsCacheStatistics() {
+    assertThat(registry.get("validation.cache.hit.ratio").gauge().value()).isNaN();
+
+    listener.accept(new Event<>(new RuleResultCacheStatisticsPayload("facts", new Statistics(3, 1, 0, 4)), this));
+    listener.accept(new Event<>(new RuleResultCacheStatisticsPayload("facts", new Statistics(1, 3, 2, 2)), this));
+
+    assertThat(registry.get("validation.cache.hits").counter().count()).isEqualTo(4.0);
+    assertThat(registry.get("validation.cache.misses").counter().count()).isEqualTo(4.0);
+    assertThat(registry.get("validation.cache.evictions").counter().count()).isEqualTo(2.0);
+    assertThat(registry.get("validation.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+  }
+
+  @Test
+  public void constructor_usesPrefix() {
+    new MicrometerEventListener(registry, "custom", false)
+        .accept(new Event<>(new ValidationFinishedPayload<>("facts", true, null, 1), this));
+
+    assertThat(registry.get("custom.duration").timer().count()).isEqualTo(1);
+  }
+}
@@ -47,10 +47,11 @@ public class TriangleApp1 {
     try {
       List<Polygon> polygons = objectMapper.readValue(new File(args[0]), new TypeReference<>() {
       });
-      for (Polygon polygon : polygons) {
-        Report report = validator.validate(polygon, RuleSelector.of("polygon:.*"));
+      List<Report> reports = validator.validateAll(polygons, RuleSelector.of("polygon:.*"));
+      for (int i = 0; i < polygons.size(); i++) {
+        Polygon polygon = polygons.get(i);
         System.out.print(polygon == null ? null : polygon.name() + ": ");
-        reportFormatter.format(report.filter(ResultCode.FAILED), System.out);
+        reportFormatter.format(reports.get(i).filter(ResultCode.FAILED), System.out);
       }
     } catch (Exception e) {
       e.printStackTrace(System.err);
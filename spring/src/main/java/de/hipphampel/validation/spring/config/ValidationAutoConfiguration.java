@@ -27,8 +27,10 @@ import de.hipphampel.validation.core.ValidatorBuilder;
 import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
 import de.hipphampel.validation.core.event.EventPublisher;
 import de.hipphampel.validation.core.event.SubscribableEventPublisher;
+import de.hipphampel.validation.core.execution.AdaptiveRuleExecutor;
 import de.hipphampel.validation.core.execution.DefaultRuleExecutor;
 import de.hipphampel.validation.core.execution.RuleExecutor;
+import de.hipphampel.validation.core.execution.ThreadPerRuleExecutor;
 import de.hipphampel.validation.core.path.BeanAccessor;
 import de.hipphampel.validation.core.path.BeanPathResolver;
 import de.hipphampel.validation.core.path.PathResolver;
@@ -66,7 +68,7 @@ import org.springframework.core.convert.support.DefaultConversionService;
  * <ul>
  *   <li>A {@link PathResolver}, which is a {@link BeanPathResolver}</li>
  *   <li>A {@link EventPublisher}, which is a {@link DefaultSubscribableEventPublisher}</li>
- *   <li>A {@link RuleExecutor}, which is a {@link DefaultRuleExecutor}</li>
+ *   <li>A {@link RuleExecutor}, which is a {@link DefaultRuleExecutor} or {@link ThreadPerRuleExecutor}</li>
  *   <li>A {@link RuleRepository}, which is provided via the {@link DefaultRuleRepositoryProvider}</li>
  * </ul>
  * <p>
@@ -93,6 +95,9 @@ public class ValidationAutoConfiguration {
 
   /**
    * Optional {@link Validator} bean.
+   * <p>
+   * The pools configured in the {@link ValidationProperties} are made available as
+   * {@link de.hipphampel.validation.core.execution.Bulkhead Bulkheads}.
    *
    * @param ruleRepositoryProvider {@link RuleRepositoryProvider} providing the {@link RuleRepository}
    * @param ruleExecutor           The {@link RuleExecutor}
@@ -108,12 +113,14 @@ public class ValidationAutoConfiguration {
       RuleExecutor ruleExecutor,
       EventPublisher eventPublisher,
       PathResolver pathResolver) {
-    return ValidatorBuilder.newBuilder()
+    ValidatorBuilder builder = ValidatorBuilder.newBuilder()
         .withRuleExecutor(ruleExecutor)
         .withEventPublisher(eventPublisher)
         .withPathResolver(pathResolver)
-        .withRuleRepository(ruleRepositoryProvider.getRuleRepository())
-        .build();
+        .withRuleRepository(ruleRepositoryProvider.getRuleRepository());
+    properties.getRuleExecutor().getPools()
+        .forEach((name, pool) -> builder.withBulkhead(name, pool.getMaxConcurrency(), pool.getMaxQueueSize()));
+    return builder.build();
   }
 
   /**
@@ -199,7 +206,8 @@ public class ValidationAutoConfiguration {
   /**
    * Optional {@link RuleExecutor} bean.
    * <p>
-   * Returns a {@link DefaultRuleExecutor} unless another {@code RuleExecutor} is defined in the context.
+   * Returns a {@link DefaultRuleExecutor} unless another {@code RuleExecutor} is defined in the context. Using the
+   * {@link ValidationProperties} a {@link ThreadPerRuleExecutor} or {@link AdaptiveRuleExecutor} might be chosen instead.
    *
    * @param executor The {@link Executor} to use
    * @return The {@code RuleExecutor}
@@ -208,7 +216,14 @@ public class ValidationAutoConfiguration {
   @Lazy
   @ConditionalOnMissingBean(RuleExecutor.class)
   public RuleExecutor ruleExecutor(Executor executor) {
-    return new DefaultRuleExecutor(executor);
+    boolean caching = properties.getRuleExecutor().isCaching();
+    long maxCacheSize = properties.getRuleExecutor().getMaxCacheSize();
+    return switch (properties.getRuleExecutor().getType()) {
+      case THREAD_PER_RULE -> new ThreadPerRuleExecutor(ThreadPerRuleExecutor.defaultThreadFactory(), caching, maxCacheSize);
+      case DEFAULT -> new DefaultRuleExecutor(executor, caching, maxCacheSize);
+      case ADAPTIVE -> new AdaptiveRuleExecutor(executor, caching, maxCacheSize, AdaptiveRuleExecutor.DEFAULT_FORK_THRESHOLD_NANOS,
+          AdaptiveRuleExecutor.DEFAULT_FORK_FAN_OUT);
+    };
   }
 
   /**
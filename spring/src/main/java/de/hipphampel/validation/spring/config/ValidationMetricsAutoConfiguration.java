@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.spring.config;
+
+import de.hipphampel.validation.core.event.EventSubscriber;
+import de.hipphampel.validation.metrics.MicrometerEventListener;
+import de.hipphampel.validation.spring.config.ValidationProperties.MetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Autoconfiguration for the metrics of the validation library.
+ * <p>
+ * If the {@code validation-metrics} module and Micrometer are on the classpath and the application context contains a
+ * {@link MeterRegistry}, this provides a {@link MicrometerEventListener} and subscribes it to the {@link EventSubscriber} of the context,
+ * so that the rule executions and validations are recorded in the {@code MeterRegistry} without further configuration.
+ * <p>
+ * The metrics can be disabled and configured via the {@link MetricsProperties} of the {@link ValidationProperties}.
+ *
+ * @see MicrometerEventListener
+ */
+@AutoConfiguration(
+    after = ValidationAutoConfiguration.class,
+    afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+    })
+@ConditionalOnClass({MeterRegistry.class, MicrometerEventListener.class})
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "validation.metrics", name = "enabled", matchIfMissing = true)
+public class ValidationMetricsAutoConfiguration {
+
+  private final ValidationProperties properties;
+
+  /**
+   * Constructor
+   *
+   * @param properties The {@link ValidationProperties}
+   */
+  public ValidationMetricsAutoConfiguration(ValidationProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Optional {@link MicrometerEventListener} bean.
+   * <p>
+   * The listener is subscribed to the {@link EventSubscriber}, if the context contains exactly one.
+   *
+   * @param meterRegistry    The {@link MeterRegistry} to record the meters in
+   * @param eventSubscribers Provider for the {@code EventSubscriber}
+   * @return The {@code MicrometerEventListener}
+   */
+  @Bean
+  @ConditionalOnMissingBean(MicrometerEventListener.class)
+  public MicrometerEventListener micrometerEventListener(MeterRegistry meterRegistry, ObjectProvider<EventSubscriber> eventSubscribers) {
+    MetricsProperties metrics = properties.getMetrics();
+    MicrometerEventListener listener = new MicrometerEventListener(meterRegistry, metrics.getPrefix(), metrics.isPercentileHistograms());
+    eventSubscribers.ifUnique(subscriber -> subscriber.subscribe(listener));
+    return listener;
+  }
+}
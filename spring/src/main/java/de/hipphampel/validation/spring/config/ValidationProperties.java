@@ -22,11 +22,19 @@
  */
 package de.hipphampel.validation.spring.config;
 
+import de.hipphampel.validation.core.execution.AdaptiveRuleExecutor;
+import de.hipphampel.validation.core.execution.Bulkhead;
+import de.hipphampel.validation.core.execution.BulkheadRegistry;
+import de.hipphampel.validation.core.execution.DefaultRuleExecutor;
+import de.hipphampel.validation.core.execution.RuleExecutor;
+import de.hipphampel.validation.core.execution.ThreadPerRuleExecutor;
 import de.hipphampel.validation.core.path.AbstractComponentPathResolver;
 import de.hipphampel.validation.core.path.BeanPathResolver;
 import de.hipphampel.validation.core.path.Path;
 import de.hipphampel.validation.core.path.Resolved;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -38,6 +46,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class ValidationProperties {
 
   private PathResolverProperties pathResolver = new PathResolverProperties();
+  private RuleExecutorProperties ruleExecutor = new RuleExecutorProperties();
+  private MetricsProperties metrics = new MetricsProperties();
 
   /**
    * Gets the properties to configure the {@link BeanPathResolver}.
@@ -57,6 +67,42 @@ public class ValidationProperties {
     this.pathResolver = pathResolver;
   }
 
+  /**
+   * Gets the properties to configure the {@link RuleExecutor}.
+   *
+   * @return The configuration properties,
+   */
+  public RuleExecutorProperties getRuleExecutor() {
+    return ruleExecutor;
+  }
+
+  /**
+   * Sets the properties to configure the {@link RuleExecutor}
+   *
+   * @param ruleExecutor The configuration properties
+   */
+  public void setRuleExecutor(RuleExecutorProperties ruleExecutor) {
+    this.ruleExecutor = ruleExecutor;
+  }
+
+  /**
+   * Gets the properties to configure the metrics.
+   *
+   * @return The configuration properties,
+   */
+  public MetricsProperties getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Sets the properties to configure the metrics.
+   *
+   * @param metrics The configuration properties
+   */
+  public void setMetrics(MetricsProperties metrics) {
+    this.metrics = metrics;
+  }
+
   /**
    * Properties to configure a {@link BeanPathResolver}.
    * <p>
@@ -166,4 +212,220 @@ public class ValidationProperties {
     }
   }
 
+  /**
+   * Properties to configure the {@link RuleExecutor}.
+   *
+   * @see RuleExecutorType
+   */
+  public static class RuleExecutorProperties {
+
+    private RuleExecutorType type = RuleExecutorType.DEFAULT;
+    private boolean caching = true;
+    private long maxCacheSize;
+    private Map<String, PoolProperties> pools = new LinkedHashMap<>();
+
+    /**
+     * Gets the type of the {@link RuleExecutor}.
+     *
+     * @return The {@link RuleExecutorType}
+     */
+    public RuleExecutorType getType() {
+      return type;
+    }
+
+    /**
+     * Sets the type of the {@link RuleExecutor}.
+     *
+     * @param type The {@link RuleExecutorType}
+     */
+    public void setType(RuleExecutorType type) {
+      this.type = type;
+    }
+
+    /**
+     * Checks, whether the {@link RuleExecutor} caches the rule results.
+     *
+     * @return {@code true}, if caching
+     */
+    public boolean isCaching() {
+      return caching;
+    }
+
+    /**
+     * Sets, whether the {@link RuleExecutor} caches the rule results.
+     *
+     * @param caching {@code true}, if caching
+     */
+    public void setCaching(boolean caching) {
+      this.caching = caching;
+    }
+
+    /**
+     * Gets the maximum number of cached rule results per validation.
+     *
+     * @return The maximum number, {@code 0} if unbounded
+     */
+    public long getMaxCacheSize() {
+      return maxCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of cached rule results per validation.
+     *
+     * @param maxCacheSize The maximum number, {@code 0} if unbounded
+     */
+    public void setMaxCacheSize(long maxCacheSize) {
+      this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Gets the pools executing the rules assigned to them via the {@value BulkheadRegistry#METADATA_POOL} metadata.
+     *
+     * @return The {@link PoolProperties} by pool name
+     * @see Bulkhead
+     */
+    public Map<String, PoolProperties> getPools() {
+      return pools;
+    }
+
+    /**
+     * Sets the pools executing the rules assigned to them via the {@value BulkheadRegistry#METADATA_POOL} metadata.
+     *
+     * @param pools The {@link PoolProperties} by pool name
+     * @see Bulkhead
+     */
+    public void setPools(Map<String, PoolProperties> pools) {
+      this.pools = pools;
+    }
+  }
+
+  /**
+   * Properties to configure a pool executing rules, see {@link Bulkhead}.
+   */
+  public static class PoolProperties {
+
+    private int maxConcurrency = 1;
+    private int maxQueueSize = Integer.MAX_VALUE;
+
+    /**
+     * Gets the maximum number of rules executed by the pool at the same time.
+     *
+     * @return The maximum concurrency
+     */
+    public int getMaxConcurrency() {
+      return maxConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of rules executed by the pool at the same time.
+     *
+     * @param maxConcurrency The maximum concurrency
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the maximum number of rules waiting for execution by the pool.
+     *
+     * @return The maximum queue size
+     */
+    public int getMaxQueueSize() {
+      return maxQueueSize;
+    }
+
+    /**
+     * Sets the maximum number of rules waiting for execution by the pool.
+     *
+     * @param maxQueueSize The maximum queue size
+     */
+    public void setMaxQueueSize(int maxQueueSize) {
+      this.maxQueueSize = maxQueueSize;
+    }
+  }
+
+  /**
+   * Properties to configure the metrics recorded by the {@link ValidationMetricsAutoConfiguration}.
+   */
+  public static class MetricsProperties {
+
+    private boolean enabled = true;
+    private String prefix = "validation";
+    private boolean percentileHistograms = false;
+
+    /**
+     * Checks, whether metrics are recorded in case a {@code MeterRegistry} is present.
+     *
+     * @return {@code true}, if enabled
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    /**
+     * Sets, whether metrics are recorded in case a {@code MeterRegistry} is present.
+     *
+     * @param enabled {@code true}, if enabled
+     */
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Gets the prefix of the meter names.
+     *
+     * @return The prefix
+     */
+    public String getPrefix() {
+      return prefix;
+    }
+
+    /**
+     * Sets the prefix of the meter names.
+     *
+     * @param prefix The prefix
+     */
+    public void setPrefix(String prefix) {
+      this.prefix = prefix;
+    }
+
+    /**
+     * Checks, whether the timers of the rules publish percentile histograms.
+     *
+     * @return {@code true}, if publishing histograms
+     */
+    public boolean isPercentileHistograms() {
+      return percentileHistograms;
+    }
+
+    /**
+     * Sets, whether the timers of the rules publish percentile histograms.
+     *
+     * @param percentileHistograms {@code true}, if publishing histograms
+     */
+    public void setPercentileHistograms(boolean percentileHistograms) {
+      this.percentileHistograms = percentileHistograms;
+    }
+  }
+
+  /**
+   * The available types of {@link RuleExecutor RuleExecutors}.
+   */
+  public enum RuleExecutorType {
+    /**
+     * A {@link DefaultRuleExecutor} using the {@link java.util.concurrent.Executor} of the application context.
+     */
+    DEFAULT,
+
+    /**
+     * A {@link ThreadPerRuleExecutor}, running each rule execution on its own (virtual, if supported) thread.
+     */
+    THREAD_PER_RULE,
+
+    /**
+     * An {@link AdaptiveRuleExecutor}, running cheap rules on the calling thread and only expensive ones using the
+     * {@link java.util.concurrent.Executor} of the application context.
+     */
+    ADAPTIVE
+  }
 }
@@ -31,6 +31,7 @@ import de.hipphampel.validation.core.rule.Rule;
 import de.hipphampel.validation.core.utils.ReflectionUtils;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.core.MethodParameter;
@@ -43,7 +44,8 @@ import org.springframework.core.convert.TypeDescriptor;
  * Conversion enabled extension of the {@link ReflectionRule}.
  * <p>
  * This is basically a plain {@link ReflectionRule} which allows in addition an implicit conversion of the arguments. For this, it uses the
- * injected {@link ConversionService} to convert any parameter to the type required by the method
+ * injected {@link ConversionService} to convert any parameter to the type required by the method. The {@link TypeDescriptor TypeDescriptors}
+ * of the method parameters are determined once at construction time.
  *
  * @param <T> Type of the object being validate.
  * @see ConversionService
@@ -51,6 +53,7 @@ import org.springframework.core.convert.TypeDescriptor;
 public class SpringReflectionRule<T> extends ReflectionRule<T> {
 
   private final ConversionService validationConversionService;
+  private final Map<Parameter, TypeDescriptor> targetTypes;
 
   /**
    * Creates an instance using the given parameters.
@@ -69,6 +72,7 @@ public class SpringReflectionRule<T> extends ReflectionRule<T> {
       Object boundInstance, Method ruleMethod, List<ParameterBinding> bindings, ConversionService validationConversionService) {
     super(id, factsType, metadata, preconditions, boundInstance, ruleMethod, bindings);
     this.validationConversionService = validationConversionService;
+    this.targetTypes = createTargetTypes(ruleMethod);
   }
 
   /**
@@ -90,15 +94,28 @@ public class SpringReflectionRule<T> extends ReflectionRule<T> {
       ConversionService validationConversionService) {
     super(id, factsType, metadata, preconditions, boundInstance, ruleMethod, bindings, resultMapper);
     this.validationConversionService = validationConversionService;
+    this.targetTypes = createTargetTypes(ruleMethod);
+  }
+
+  private static Map<Parameter, TypeDescriptor> createTargetTypes(Method ruleMethod) {
+    Parameter[] parameters = ruleMethod.getParameters();
+    Map<Parameter, TypeDescriptor> targetTypes = new IdentityHashMap<>();
+    for (int i = 0; i < parameters.length; i++) {
+      targetTypes.put(parameters[i], new TypeDescriptor(new MethodParameter(ruleMethod, i)));
+    }
+    return targetTypes;
   }
 
   @Override
   protected Object convertArgumentIfRequired(ValidationContext context, T facts, Parameter parameter, Object value) {
     TypeDescriptor sourceType = new TypeDescriptor(ResolvableType.forInstance(value), null, null);
-    TypeDescriptor targetType = new TypeDescriptor(new MethodParameter(
-        (Method) parameter.getDeclaringExecutable(),
-        ReflectionUtils.getParameterIndex(parameter))
-    );
+    TypeDescriptor targetType = targetTypes.get(parameter);
+    if (targetType == null) {
+      targetType = new TypeDescriptor(new MethodParameter(
+          (Method) parameter.getDeclaringExecutable(),
+          ReflectionUtils.getParameterIndex(parameter))
+      );
+    }
     try {
       return validationConversionService.convert(value, sourceType, targetType);
     } catch (ConversionException ce) {
@@ -27,8 +27,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import de.hipphampel.validation.core.Validator;
 import de.hipphampel.validation.core.event.DefaultSubscribableEventPublisher;
 import de.hipphampel.validation.core.event.SubscribableEventPublisher;
+import de.hipphampel.validation.core.execution.AdaptiveRuleExecutor;
+import de.hipphampel.validation.core.execution.BulkheadRegistry;
 import de.hipphampel.validation.core.execution.DefaultRuleExecutor;
 import de.hipphampel.validation.core.execution.RuleExecutor;
+import de.hipphampel.validation.core.execution.ThreadPerRuleExecutor;
 import de.hipphampel.validation.core.path.BeanAccessor;
 import de.hipphampel.validation.core.path.BeanPathResolver;
 import de.hipphampel.validation.core.path.PathResolver;
@@ -36,11 +39,14 @@ import de.hipphampel.validation.core.path.ReflectionBeanAccessor;
 import de.hipphampel.validation.core.provider.InMemoryRuleRepository;
 import de.hipphampel.validation.core.provider.RuleRepository;
 import de.hipphampel.validation.core.report.BooleanReporter;
+import de.hipphampel.validation.core.report.ReportReporter;
 import de.hipphampel.validation.core.report.ReporterFactory;
 import de.hipphampel.validation.core.rule.OkRule;
 import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.spring.config.ValidationProperties.RuleExecutorType;
 import de.hipphampel.validation.spring.provider.DefaultRuleRepositoryProvider;
 import de.hipphampel.validation.spring.provider.RuleRepositoryProvider;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -84,6 +90,46 @@ public class ValidationAutoConfigurationTest {
     assertThat(ruleExecutor).isInstanceOf(DefaultRuleExecutor.class);
   }
 
+  @Test
+  public void ruleExecutor_threadPerRule() {
+    ValidationProperties properties = new ValidationProperties();
+    properties.getRuleExecutor().setType(RuleExecutorType.THREAD_PER_RULE);
+    ValidationAutoConfiguration configuration = new ValidationAutoConfiguration(properties);
+
+    RuleExecutor ruleExecutor = configuration.ruleExecutor(Runnable::run);
+    assertThat(ruleExecutor).isInstanceOf(ThreadPerRuleExecutor.class);
+  }
+
+  @Test
+  public void ruleExecutor_adaptive() {
+    ValidationProperties properties = new ValidationProperties();
+    properties.getRuleExecutor().setType(RuleExecutorType.ADAPTIVE);
+    ValidationAutoConfiguration configuration = new ValidationAutoConfiguration(properties);
+
+    RuleExecutor ruleExecutor = configuration.ruleExecutor(Runnable::run);
+    assertThat(ruleExecutor).isInstanceOf(AdaptiveRuleExecutor.class);
+  }
+
+  @Test
+  public void validator_withPools() {
+    ValidationProperties properties = new ValidationProperties();
+    ValidationProperties.PoolProperties pool = new ValidationProperties.PoolProperties();
+    pool.setMaxConcurrency(4);
+    pool.setMaxQueueSize(10);
+    properties.getRuleExecutor().getPools().put("io", pool);
+    ValidationAutoConfiguration configuration = new ValidationAutoConfiguration(properties);
+
+    Validator validator = configuration.validator(InMemoryRuleRepository::new, new DefaultRuleExecutor(),
+        new DefaultSubscribableEventPublisher(), new BeanPathResolver());
+
+    BulkheadRegistry registry = validator.createValidationContext(new ReportReporter(null), Map.of())
+        .getSharedExtension(BulkheadRegistry.class);
+    assertThat(registry.getBulkhead("io")).hasValueSatisfying(bulkhead -> {
+      assertThat(bulkhead.getMaxConcurrency()).isEqualTo(4);
+      assertThat(bulkhead.getMaxQueueSize()).isEqualTo(10);
+    });
+  }
+
   @Test
   public void subscribableEventPublisher() {
     SubscribableEventPublisher subscribableEventPublisher = context.getBean(
@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ * Copyright © 2022 Johannes Hampel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package de.hipphampel.validation.spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.hipphampel.validation.core.Validator;
+import de.hipphampel.validation.core.provider.RuleSelector;
+import de.hipphampel.validation.core.rule.OkRule;
+import de.hipphampel.validation.core.rule.Rule;
+import de.hipphampel.validation.metrics.MicrometerEventListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ContextConfiguration;
+
+@SpringBootTest(classes = ValidationMetricsAutoConfigurationTest.Context.class)
+public class ValidationMetricsAutoConfigurationTest {
+
+  @Autowired
+  private ApplicationContext context;
+
+  @Test
+  public void micrometerEventListener() {
+    MicrometerEventListener listener = context.getBean(MicrometerEventListener.class);
+    assertThat(listener.getRegistry()).isSameAs(context.getBean(MeterRegistry.class));
+  }
+
+  @Test
+  public void micrometerEventListener_isSubscribed() {
+    Validator validator = context.getBean(Validator.class);
+    MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+    validator.validate("facts", RuleSelector.of("aRule"));
+
+    assertThat(registry.get("validation.rule.duration").tag("rule", "aRule").timer().count()).isEqualTo(1);
+  }
+
+  @ContextConfiguration
+  @EnableAutoConfiguration
+  static class Context {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public Rule<?> aRule() {
+      return new OkRule<>("aRule");
+    }
+  }
+}